@@ -0,0 +1,342 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.jmh;
+
+import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>JmhBenchmarkGenerator is a JMH benchmark source
+ * generator driven by an <tt>AT</tt> class and a case file.</p>
+ *
+ * <p>The generated benchmark class binds each case in its
+ * {@code @Setup} method by {@link JmhCaseBinder}, which uses
+ * the enhancer's own parser and binder. The cases are selected
+ * by a {@code @Param} case index. When all cases match the same
+ * accessible leetcode invoker, the {@code @Benchmark} method calls
+ * the invoker directly. Otherwise, it falls back to the enhancer's
+ * executor.</p>
+ *
+ * <p>Note: JMH does not support benchmarks in the default package.
+ * So the benchmark of an <tt>AT</tt> in the default package is
+ * generated into the {@value #DEFAULT_BENCHMARK_PACKAGE} package
+ * and always falls back to the enhancer's executor.</p>
+ *
+ * <p>Usage: {@code JmhBenchmarkGenerator <AT class> <case file>
+ * [output directory] [--fresh-inputs]}</p>
+ *
+ * @author Jidcoo
+ * @see JmhCaseBinder
+ * @since 1.1
+ */
+public final class JmhBenchmarkGenerator {
+
+    /**
+     * The generated benchmark class name suffix.
+     */
+    private static final String BENCHMARK_CLASS_SUFFIX = "Benchmark";
+
+    /**
+     * The benchmark package used for the <tt>AT</tt> in the default package.
+     */
+    private static final String DEFAULT_BENCHMARK_PACKAGE = "lcdb.jmh";
+
+    /**
+     * The fresh inputs option.
+     */
+    private static final String FRESH_INPUTS_OPTION = "--fresh-inputs";
+
+    /**
+     * The <tt>AT</tt> class.
+     */
+    private final Class<? extends LeetcodeJavaDebugEnhancer> AT;
+
+    /**
+     * The case file.
+     */
+    private final File caseFile;
+
+    /**
+     * Whether to rebind the case before each benchmark invocation.
+     */
+    private boolean freshInputs;
+
+    /**
+     * Create a JmhBenchmarkGenerator instance.
+     *
+     * @param AT       the <tt>AT</tt> class.
+     * @param caseFile the case file.
+     */
+    public JmhBenchmarkGenerator(Class<? extends LeetcodeJavaDebugEnhancer> AT, File caseFile) {
+        AssertUtil.nonNull(AT, "The AT class cannot be null.");
+        AssertUtil.nonNull(caseFile, "The case file cannot be null.");
+        AssertUtil.isTrue(caseFile.isFile(), "The case file does not exist: " + caseFile + ".");
+        this.AT = AT;
+        this.caseFile = caseFile.getAbsoluteFile();
+    }
+
+    /**
+     * <p>Set whether to rebind the case before each benchmark
+     * invocation. This is required when the leetcode invoker
+     * mutates its inputs, e.g. sorting the input array in
+     * place. But please note that JMH does not recommend
+     * {@code Level.Invocation} for very short invocations.</p>
+     *
+     * @param freshInputs true if rebind the case before each invocation.
+     * @return this generator.
+     */
+    public JmhBenchmarkGenerator setFreshInputs(boolean freshInputs) {
+        this.freshInputs = freshInputs;
+        return this;
+    }
+
+    /**
+     * Generate the benchmark source and write it into the output
+     * directory following the package layout of the <tt>AT</tt>.
+     *
+     * @param outputDirectory the output source directory.
+     * @return the generated source file.
+     * @throws IOException if the source file cannot be written.
+     */
+    public File generate(File outputDirectory) throws IOException {
+        AssertUtil.nonNull(outputDirectory, "The output directory cannot be null.");
+        File packageDirectory = new File(outputDirectory, getBenchmarkPackageName().replace('.', File.separatorChar));
+        AssertUtil.isTrue(packageDirectory.isDirectory() || packageDirectory.mkdirs(),
+                "Cannot create the output directory: " + packageDirectory + ".");
+        File sourceFile = new File(packageDirectory, getBenchmarkClassName() + ".java");
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(sourceFile), StandardCharsets.UTF_8)) {
+            writer.write(generate());
+        }
+        return sourceFile;
+    }
+
+    /**
+     * Generate the benchmark source.
+     *
+     * @return the benchmark source.
+     */
+    public String generate() {
+        List<String> cases = JmhCaseBinder.readCases(AT, caseFile);
+        AssertUtil.isTrue(!cases.isEmpty(), "The case file has no case: " + caseFile + ".");
+        // Bind all cases once here, so that a bad case fails fast at generation time.
+        Method invoker = null;
+        boolean sameInvoker = true;
+        for (String input : cases) {
+            JmhCaseBinder binder = JmhCaseBinder.bind(AT, input);
+            Method caseInvoker = binder.getInvoker();
+            binder.shutdown();
+            if (Objects.nonNull(invoker) && !invoker.equals(caseInvoker)) {
+                sameInvoker = false;
+            }
+            invoker = caseInvoker;
+        }
+        // The AT in the default package cannot be referenced from the benchmark package.
+        boolean inDefaultPackage = getPackageName().isEmpty();
+        boolean directCall = sameInvoker && !inDefaultPackage && isDirectlyCallable(invoker);
+
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(getBenchmarkPackageName()).append(";\n\n");
+        source.append("import io.github.jidcoo.opto.lcdb.enhancer.jmh.JmhCaseBinder;\n");
+        source.append("import org.openjdk.jmh.annotations.*;\n\n");
+        source.append("import java.util.concurrent.TimeUnit;\n\n");
+        source.append("/**\n");
+        source.append(" * Generated by JmhBenchmarkGenerator from ").append(AT.getSimpleName())
+                .append(" and ").append(caseFile.getName()).append(". Do not edit.\n");
+        source.append(" */\n");
+        source.append("@State(Scope.Thread)\n");
+        source.append("@BenchmarkMode(Mode.AverageTime)\n");
+        source.append("@OutputTimeUnit(TimeUnit.MICROSECONDS)\n");
+        source.append("public class ").append(getBenchmarkClassName()).append(" {\n\n");
+        source.append("    private static final String CASE_FILE = \"").append(escape(caseFile.getPath())).append("\";\n\n");
+        source.append("    @Param({");
+        for (int i = 0; i < cases.size(); i++) {
+            source.append(i > 0 ? ", " : "").append('"').append(i).append('"');
+        }
+        source.append("})\n");
+        source.append("    public int caseIndex;\n\n");
+        source.append("    private JmhCaseBinder binder;\n\n");
+        if (directCall) {
+            source.append("    private ").append(invoker.getDeclaringClass().getCanonicalName()).append(" target;\n\n");
+            source.append("    private Object[] args;\n\n");
+        }
+        source.append("    @Setup(").append(freshInputs ? "Level.Invocation" : "Level.Trial").append(")\n");
+        source.append("    public void setup() {\n");
+        source.append("        binder = JmhCaseBinder.bind(");
+        if (inDefaultPackage) {
+            source.append('"').append(escape(AT.getName())).append('"');
+        } else {
+            source.append(AT.getCanonicalName()).append(".class");
+        }
+        source.append(", CASE_FILE, caseIndex);\n");
+        if (directCall) {
+            source.append("        target = (").append(invoker.getDeclaringClass().getCanonicalName()).append(") "
+                    + "binder.getTarget();\n");
+            source.append("        args = binder.getArguments();\n");
+        }
+        source.append("    }\n\n");
+        source.append("    @TearDown(").append(freshInputs ? "Level.Invocation" : "Level.Trial").append(")\n");
+        source.append("    public void tearDown() {\n");
+        source.append("        binder.shutdown();\n");
+        source.append("    }\n\n");
+        source.append("    @Benchmark\n");
+        if (directCall) {
+            boolean isVoid = invoker.getReturnType() == void.class;
+            // Return the real type, so that a primitive result is not boxed inside the measured method.
+            source.append("    public ").append(getReturnTypeName(invoker.getReturnType())).append(' ')
+                    .append(invoker.getName()).append("()")
+                    .append(invoker.getExceptionTypes().length > 0 ? " throws Throwable" : "").append(" {\n");
+            source.append("        ").append(isVoid ? "" : "return ").append("target.").append(invoker.getName()).append("(");
+            Class<?>[] parameterTypes = invoker.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                source.append(i > 0 ? ", " : "").append('(').append(parameterTypes[i].getCanonicalName())
+                        .append(") args[").append(i).append(']');
+            }
+            source.append(");\n");
+        } else {
+            source.append("    public Object execute() {\n");
+            source.append("        return binder.execute();\n");
+        }
+        source.append("    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Check if the invoker can be called directly from the
+     * generated benchmark class in the package of the <tt>AT</tt>.
+     *
+     * @param invoker the leetcode invoker.
+     * @return true if the invoker can be called directly.
+     */
+    private boolean isDirectlyCallable(Method invoker) {
+        if (Objects.isNull(invoker) || Modifier.isPrivate(invoker.getModifiers())) {
+            return false;
+        }
+        for (Class<?> type = invoker.getDeclaringClass(); type != null; type = type.getEnclosingClass()) {
+            if (Modifier.isPrivate(type.getModifiers()) || Objects.isNull(type.getCanonicalName())) {
+                return false;
+            }
+        }
+        for (Class<?> parameterType : invoker.getParameterTypes()) {
+            if (!Modifier.isPublic(parameterType.getModifiers()) && !parameterType.isPrimitive()
+                    && !parameterType.isArray()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the return type name of the direct call benchmark method.
+     *
+     * @param returnType the return type of the invoker.
+     * @return the return type name, or Object if the return type
+     * cannot be referenced from the generated benchmark class.
+     */
+    private static String getReturnTypeName(Class<?> returnType) {
+        Class<?> componentType = returnType;
+        while (componentType.isArray()) {
+            componentType = componentType.getComponentType();
+        }
+        if (componentType.isPrimitive()) {
+            return returnType.getCanonicalName();
+        }
+        for (Class<?> type = componentType; type != null; type = type.getEnclosingClass()) {
+            if (Modifier.isPrivate(type.getModifiers()) || Objects.isNull(type.getCanonicalName())) {
+                return "Object";
+            }
+        }
+        return returnType.getCanonicalName();
+    }
+
+    /**
+     * Get the package name of the <tt>AT</tt>.
+     *
+     * @return the package name.
+     */
+    private String getPackageName() {
+        String name = AT.getName();
+        int idx = name.lastIndexOf('.');
+        return idx == -1 ? "" : name.substring(0, idx);
+    }
+
+    /**
+     * Get the generated benchmark package name.
+     *
+     * @return the benchmark package name.
+     */
+    private String getBenchmarkPackageName() {
+        String packageName = getPackageName();
+        return packageName.isEmpty() ? DEFAULT_BENCHMARK_PACKAGE : packageName;
+    }
+
+    /**
+     * Get the generated benchmark class name.
+     *
+     * @return the benchmark class name.
+     */
+    private String getBenchmarkClassName() {
+        return AT.getSimpleName() + BENCHMARK_CLASS_SUFFIX;
+    }
+
+    /**
+     * Escape the string as a java string literal content.
+     *
+     * @param str the string.
+     * @return the escaped string.
+     */
+    private static String escape(String str) {
+        return str.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * JmhBenchmarkGenerator starting main point.
+     *
+     * @param args start args.
+     */
+    public static void main(String[] args) throws Exception {
+        AssertUtil.isTrue(args.length >= 2, "Usage: JmhBenchmarkGenerator <AT class> <case file> [output directory] "
+                + "[" + FRESH_INPUTS_OPTION + "]");
+        Class<? extends LeetcodeJavaDebugEnhancer> AT = (Class<? extends LeetcodeJavaDebugEnhancer>) Class.forName(args[0]);
+        AssertUtil.isTrue(ReflectUtil.isExtendsClass(AT, LeetcodeJavaDebugEnhancer.class),
+                "The AT class must extends from LeetcodeJavaDebugEnhancer: " + AT.getName() + ".");
+        File outputDirectory = new File(".");
+        boolean freshInputs = false;
+        for (int i = 2; i < args.length; i++) {
+            if (FRESH_INPUTS_OPTION.equals(args[i])) {
+                freshInputs = true;
+            } else {
+                outputDirectory = new File(args[i]);
+            }
+        }
+        File sourceFile = new JmhBenchmarkGenerator(AT, new File(args[1])).setFreshInputs(freshInputs)
+                .generate(outputDirectory);
+        System.out.println("Generated JMH benchmark: " + sourceFile.getPath());
+    }
+}
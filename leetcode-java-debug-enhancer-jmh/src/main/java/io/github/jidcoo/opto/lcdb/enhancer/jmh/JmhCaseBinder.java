@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.jmh;
+
+import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.base.InputProvider;
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeCaseContext;
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeExecutorFactory;
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeExecutorProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.core.io.builtin.DesignProblemInputProvider;
+import io.github.jidcoo.opto.lcdb.enhancer.core.io.builtin.FileInputProvider;
+import io.github.jidcoo.opto.lcdb.enhancer.core.parser.InputParserFactory;
+import io.github.jidcoo.opto.lcdb.enhancer.core.parser.InputParserProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>JmhCaseBinder is a case binder used by the generated
+ * JMH benchmarks in their {@code @Setup} methods.</p>
+ *
+ * <p>JmhCaseBinder reads a case from a case file and binds
+ * it by the enhancer's own parser and binder, so that
+ * the benchmarks always use the same inputs as debugging.
+ * </p>
+ *
+ * <p>Each bound JmhCaseBinder holds a LeetcodeExecutor, so
+ * please {@link #shutdown()} it once it's no longer used,
+ * e.g. in the {@code @TearDown} method.</p>
+ *
+ * @author Jidcoo
+ * @see JmhBenchmarkGenerator
+ * @since 1.1
+ */
+public final class JmhCaseBinder {
+
+    /**
+     * The read cases cache. The key is the case file path.
+     */
+    private static final Map<String, List<String>> CASES_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * The LeetcodeExecutor instance.
+     */
+    private final Object executor;
+
+    /**
+     * The leetcode target instance.
+     */
+    private final Object target;
+
+    /**
+     * The matched leetcode invoker.
+     */
+    private final Method invoker;
+
+    /**
+     * The bound arguments.
+     */
+    private final Object[] arguments;
+
+    /**
+     * Create a JmhCaseBinder instance.
+     *
+     * @param executor  the LeetcodeExecutor instance.
+     * @param target    the leetcode target instance.
+     * @param invoker   the matched leetcode invoker.
+     * @param arguments the bound arguments.
+     */
+    private JmhCaseBinder(Object executor, Object target, Method invoker, Object[] arguments) {
+        this.executor = executor;
+        this.target = target;
+        this.invoker = invoker;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Bind the case at the case index of the case file with the <tt>AT</tt> class.
+     *
+     * @param AT        the <tt>AT</tt> class.
+     * @param caseFile  the case file path.
+     * @param caseIndex the case index.
+     * @return the JmhCaseBinder instance.
+     */
+    public static JmhCaseBinder bind(Class<? extends LeetcodeJavaDebugEnhancer> AT, String caseFile, int caseIndex) {
+        // Cache the read cases, because the @Setup may be called before each invocation.
+        List<String> cases = CASES_CACHE.computeIfAbsent(caseFile, path -> readCases(AT, new File(path)));
+        AssertUtil.isTrue(caseIndex >= 0 && caseIndex < cases.size(),
+                "The case index " + caseIndex + " is out of the case file range: " + cases.size() + ".");
+        return bind(AT, cases.get(caseIndex));
+    }
+
+    /**
+     * Bind the case at the case index of the case file with the <tt>AT</tt> class name.
+     * It's used by the benchmark of an <tt>AT</tt> in the default package.
+     *
+     * @param AT        the <tt>AT</tt> class name.
+     * @param caseFile  the case file path.
+     * @param caseIndex the case index.
+     * @return the JmhCaseBinder instance.
+     */
+    public static JmhCaseBinder bind(String AT, String caseFile, int caseIndex) {
+        try {
+            return bind((Class<? extends LeetcodeJavaDebugEnhancer>) Class.forName(AT), caseFile, caseIndex);
+        } catch (ClassNotFoundException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Bind the input with the <tt>AT</tt> class.
+     *
+     * @param AT    the <tt>AT</tt> class.
+     * @param input the string input.
+     * @return the JmhCaseBinder instance.
+     */
+    public static JmhCaseBinder bind(Class<? extends LeetcodeJavaDebugEnhancer> AT, String input) {
+        AssertUtil.nonNull(AT, "The AT class cannot be null.");
+        LeetcodeJavaDebugEnhancer enhancer = ReflectUtil.createInstance(AT);
+        Object executor = LeetcodeExecutorFactory.getLeetcodeExecutor(enhancer);
+        Object parser = InputParserFactory.getInputParser(enhancer);
+        // Parse and bind the input exactly like the enhancer does.
+        Object inputObject = InputParserProcessor.process(parser, executor, input);
+        LeetcodeCaseContext caseContext = LeetcodeExecutorProcessor.getCaseContext(executor);
+        if (caseContext.isDesign()) {
+            // The bound design problem execution is the target of its own invoker.
+            return new JmhCaseBinder(executor, inputObject, caseContext.getInvoker(), new Object[0]);
+        }
+        return new JmhCaseBinder(executor, caseContext.getInstance(), caseContext.getInvoker(),
+                (Object[]) inputObject);
+    }
+
+    /**
+     * Read all cases from the case file by the {@link FileInputProvider}.
+     *
+     * @param caseFile the case file.
+     * @return the case list.
+     */
+    public static List<String> readCases(File caseFile) {
+        return readCases(caseFile, false);
+    }
+
+    /**
+     * Read all cases of the <tt>AT</tt> class from the case file.
+     * The two-line cases of the data structure design problem
+     * are merged by the {@link DesignProblemInputProvider}.
+     *
+     * @param AT       the <tt>AT</tt> class.
+     * @param caseFile the case file.
+     * @return the case list.
+     */
+    public static List<String> readCases(Class<? extends LeetcodeJavaDebugEnhancer> AT, File caseFile) {
+        AssertUtil.nonNull(AT, "The AT class cannot be null.");
+        return readCases(caseFile, LeetcodeExecutorFactory.isDesignProblem(ReflectUtil.createInstance(AT)));
+    }
+
+    /**
+     * Read all cases from the case file.
+     *
+     * @param caseFile the case file.
+     * @param design   whether the cases are the data structure design problem cases.
+     * @return the case list.
+     */
+    private static List<String> readCases(File caseFile, boolean design) {
+        AssertUtil.nonNull(caseFile, "The case file cannot be null.");
+        List<String> cases = new ArrayList<>();
+        try (InputProvider inputProvider = design ? new DesignProblemInputProvider(new FileInputProvider(caseFile)) :
+                new FileInputProvider(caseFile)) {
+            while (true) {
+                String input = inputProvider.provideNextInput();
+                if (inputProvider.isEnd(input)) {
+                    break;
+                }
+                cases.add(input);
+            }
+        } catch (Exception exception) {
+            throw new RuntimeException(exception);
+        }
+        return cases;
+    }
+
+    /**
+     * Execute the matched leetcode invoker with the bound
+     * arguments through the LeetcodeExecutor.
+     *
+     * @return the leetcode output.
+     */
+    public Object execute() {
+        // The design problem execution is executed as the input itself.
+        return LeetcodeExecutorProcessor.process(executor, LeetcodeExecutorProcessor.isDesignExecutor(executor) ?
+                target : arguments);
+    }
+
+    /**
+     * Shutdown the LeetcodeExecutor, e.g. stop its case worker
+     * thread and its Solution instance prefetcher.
+     */
+    public void shutdown() {
+        LeetcodeExecutorProcessor.shutdown(executor);
+    }
+
+    /**
+     * Get the leetcode target instance.
+     *
+     * @return the leetcode target instance.
+     */
+    public Object getTarget() {
+        return target;
+    }
+
+    /**
+     * Get the matched leetcode invoker.
+     *
+     * @return the matched leetcode invoker.
+     */
+    public Method getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Get the bound arguments.
+     *
+     * @return the bound arguments.
+     */
+    public Object[] getArguments() {
+        return arguments;
+    }
+}
@@ -16,12 +16,18 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer;
 
+import io.github.jidcoo.opto.lcdb.enhancer.base.BaseParameterAcceptStrategy;
 import io.github.jidcoo.opto.lcdb.enhancer.base.BasePrintingStrategy;
 import io.github.jidcoo.opto.lcdb.enhancer.base.EnhancerException;
 import io.github.jidcoo.opto.lcdb.enhancer.core.LeetcodeJavaDebugEnhanceProcessor;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.base.InputProvider;
 import io.github.jidcoo.opto.lcdb.enhancer.base.OutputConsumer;
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputPrintingMode;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineEvent;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineListener;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+import io.github.jidcoo.opto.lcdb.enhancer.base.SolutionLifecycle;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -53,10 +59,13 @@ public abstract class LeetcodeJavaDebugEnhancer {
      * the internal class Solution in <tt>AT</tt> and find a suitable startup point
      * from Solution as a debugging enhancement startup point.</p>
      *
-     * <p>When the <tt>AT</tt> is a data structure design class, it is
-     * necessary to return a non-null debugging enhancement startup point. Otherwise,
-     * the {@link LeetcodeJavaDebugEnhancer} will not be able to start normally
-     * with enhanced performance</p>
+     * <p>If the method returns null and there is no internal class Solution
+     * in <tt>AT</tt>, the {@link LeetcodeJavaDebugEnhancer} debugs a data
+     * structure design problem natively. Each case is a list of operations
+     * and a list of their arguments, e.g. ["MinStack","push","getMin"] and
+     * [[],[-2],[]]. The first operation constructs an instance of the inner
+     * design class of the same name, and the following operations are
+     * invoked on that instance.</p>
      *
      * @return the enhancements point.
      */
@@ -104,6 +113,367 @@ public abstract class LeetcodeJavaDebugEnhancer {
         return null;
     }
 
+    /**
+     * <p>If you need to customize the binding of the input parameters, please return
+     * a list of parameter acceptance strategies, and the {@link LeetcodeJavaDebugEnhancer}
+     * will try them together with the builtin strategies of the same acceptable type
+     * to bind the input to the parameters of the leetcode invoker.
+     * </p>
+     *
+     * <p>The strategies with a higher order are tried first. The builtin strategies
+     * are tried before the user strategies with the same order.</p>
+     *
+     * @return a list of parameter acceptance strategies
+     */
+    public List<BaseParameterAcceptStrategy<?>> getParameterAcceptStrategies() {
+        return null;
+    }
+
+    /**
+     * <p>Return the mode of printing the output of each case.
+     * By default, the output is printed as it is.</p>
+     *
+     * <p>Return {@link OutputPrintingMode#SUMMARY} to elide the
+     * middle of an output longer than {@link #getOutputCharBudget()},
+     * or {@link OutputPrintingMode#DIGEST} to print only the length
+     * and the hash of each output, when iterating on the stress cases
+     * with giant outputs. Return {@link OutputPrintingMode#HASH} to
+     * print a {@code caseIndex,hash} line of each case for the
+     * regression checks.</p>
+     *
+     * @return the mode of printing the output.
+     */
+    public OutputPrintingMode getOutputPrintingMode() {
+        return OutputPrintingMode.FULL;
+    }
+
+    /**
+     * <p>Return the char budget of each printed output in
+     * the {@link OutputPrintingMode#SUMMARY} mode. By default,
+     * the budget is 1024 chars.</p>
+     *
+     * <p>An output longer than the budget is printed as its head
+     * and its tail cut at the element boundaries, with the marker
+     * of the omitted chars counted within the budget.</p>
+     *
+     * @return the char budget of each printed output.
+     */
+    public int getOutputCharBudget() {
+        return 1024;
+    }
+
+    /**
+     * <p>Return whether the order of the elements of a
+     * {@link java.util.Collection} or an array output is
+     * ignored in the {@link OutputPrintingMode#HASH} mode.
+     * By default, the order is not ignored.</p>
+     *
+     * <p>Return true if the problem accepts the answer in any
+     * order. Then the output hash is combined from the hashes
+     * of its top-level elements regardless of their order. The
+     * order inside each element is not ignored.</p>
+     *
+     * @return true if ignore the order of the output elements.
+     */
+    public boolean isOutputOrderInsensitive() {
+        return false;
+    }
+
+    /**
+     * <p>Return the time limit of each case in milliseconds.
+     * By default, there is no time limit.</p>
+     *
+     * <p>If the time limit is greater than 0, each case will
+     * run on an isolated worker thread. When a case exceeds the
+     * time limit, the {@link LeetcodeJavaDebugEnhancer} will
+     * interrupt it, record it as <tt>Time Limit Exceeded</tt>
+     * and move on to the next case.</p>
+     *
+     * <p>Note: Please do not set a time limit when debugging
+     * with breakpoints, because the suspended case will also
+     * be timed.</p>
+     *
+     * @return the time limit of each case in milliseconds.
+     */
+    public long getCaseTimeLimit() {
+        return 0;
+    }
+
+    /**
+     * <p>Return the stack size of the case worker thread in bytes.
+     * By default, the case runs on the caller thread.</p>
+     *
+     * <p>If the stack size is greater than 0, each case will
+     * run on an isolated worker thread with the stack size.
+     * For example, return {@code 512L << 20} to make the recursive
+     * DFS on 10^5-deep inputs work.</p>
+     *
+     * <p>A case overflowing its stack is recorded as
+     * <tt>Runtime Error</tt>, and the run moves on to the next case.</p>
+     *
+     * @return the stack size of the case worker thread in bytes.
+     */
+    public long getCaseStackSize() {
+        return 0;
+    }
+
+    /**
+     * <p>Return the lifecycle policy of the inner class
+     * Solution instance in <tt>AT</tt>. By default, one
+     * Solution instance is shared by all cases.</p>
+     *
+     * <p>Return {@link SolutionLifecycle#FRESH_PER_CASE} if the
+     * Solution keeps state in its fields, e.g. a memo map, so
+     * that the state cannot leak between cases. Or return
+     * {@link SolutionLifecycle#POOLED} to reuse the Solution
+     * instance after it's reset by
+     * {@link #resetSolutionInstance(Object)}.</p>
+     *
+     * <p>Note: The lifecycle policy is ignored if the enhancement
+     * point is not null, because the <tt>AT</tt> itself is the
+     * leetcode instance.</p>
+     *
+     * @return the lifecycle policy of the Solution instance.
+     */
+    public SolutionLifecycle getSolutionLifecycle() {
+        return SolutionLifecycle.SHARED;
+    }
+
+    /**
+     * <p>Reset the pooled Solution instance before it's reused
+     * by the next case. It works only for the
+     * {@link SolutionLifecycle#POOLED} lifecycle policy.
+     * By default, do nothing.</p>
+     *
+     * @param solution the pooled Solution instance.
+     */
+    public void resetSolutionInstance(Object solution) {
+    }
+
+    /**
+     * <p>Return whether to estimate the complexity of the
+     * leetcode invoker with each case as the seed.
+     * By default, the estimation is disabled.</p>
+     *
+     * <p>If it's true, the array, String and List arguments of
+     * each case are scaled from 10^2 to 10^6, and the report of
+     * the fitted Big-O, its confidence and the estimated time at
+     * 10^6 is output before the case output.</p>
+     *
+     * <p>Note: The estimation runs the leetcode invoker many times.
+     * Please return a case time limit by {@link #getCaseTimeLimit()}
+     * if the invoker may be exponential.</p>
+     *
+     * @return true if estimate the complexity.
+     */
+    public boolean isComplexityEstimationEnabled() {
+        return false;
+    }
+
+    /**
+     * <p>Return whether to run the <tt>AT</tt> in the hot reload mode.
+     * By default, the hot reload mode is disabled.</p>
+     *
+     * <p>If it's true, the {@link LeetcodeJavaDebugEnhancer} keeps
+     * running after the cases are done, and watches the class
+     * directory of the <tt>AT</tt> and the paths returned by
+     * {@link #getHotReloadWatchPaths()}. Once they are changed, e.g.
+     * the solution is recompiled, the <tt>AT</tt> is loaded again in
+     * a fresh class loader and the cases are run again in the same
+     * warm JVM. Stop it by terminating the JVM.</p>
+     *
+     * <p>Note: The cases are provided again by {@link #getInputProvider()}
+     * in each run, so please provide them from a file, e.g. by the
+     * {@link io.github.jidcoo.opto.lcdb.enhancer.core.io.builtin.FileInputProvider}.
+     * And the <tt>AT</tt> must be loaded from a class directory
+     * rather than a jar.</p>
+     *
+     * @return true if run in the hot reload mode.
+     */
+    public boolean isHotReloadEnabled() {
+        return false;
+    }
+
+    /**
+     * <p>Return the paths of the files or the directories watched in
+     * the hot reload mode besides the class directory of the <tt>AT</tt>,
+     * e.g. the case file. By default, there is no more path.</p>
+     *
+     * @return the watched paths.
+     */
+    public List<String> getHotReloadWatchPaths() {
+        return null;
+    }
+
+    /**
+     * <p>Return the addresses of the case server. By default,
+     * there is no address and the case server is disabled.</p>
+     *
+     * <p>If there is any address, the {@link LeetcodeJavaDebugEnhancer}
+     * runs as a case server in a warm JVM instead of reading the cases
+     * from {@link #getInputProvider()}. The other processes, e.g. a case
+     * generator, connect to the server and send the case batches, then
+     * the outputs are streamed back over the same connection. The
+     * supported addresses are:</p>
+     * <ul>
+     *     <li>{@code tcp://127.0.0.1:7878}: a TCP loopback address.</li>
+     *     <li>{@code unix:/tmp/lcdb.sock}: a Unix domain socket path,
+     *     which needs Java 16 or later.</li>
+     * </ul>
+     *
+     * <p>Each request frame is a 4-byte big-endian length followed by the
+     * UTF-8 case lines. Each response frame is a 4-byte big-endian length
+     * followed by a type byte and the UTF-8 payload. The type is {@code 'O'}
+     * for a case output, {@code 'E'} for a case error and {@code 'D'} for
+     * the end of a batch. The server runs until the JVM is terminated.</p>
+     *
+     * @return the addresses of the case server.
+     */
+    public List<String> getServerAddresses() {
+        return null;
+    }
+
+    /**
+     * <p>Return the file path of the pipeline event log. By default, it
+     * returns null and the pipeline events are not recorded.</p>
+     *
+     * <p>If the path is not null, the {@link LeetcodeJavaDebugEnhancer}
+     * records each {@link PipelineStage} of each case as a JSON line with
+     * its case index, duration in nanoseconds and error message, and
+     * appends them to the file asynchronously. The events are dropped
+     * instead of slowing down the cases when the file cannot keep up.</p>
+     *
+     * @return the file path of the pipeline event log.
+     */
+    public String getPipelineEventLogFile() {
+        return null;
+    }
+
+    /**
+     * <p>Return whether the pipeline metrics are enabled. By default,
+     * it returns false and the pipeline stages are not measured.</p>
+     *
+     * <p>If the method returns true, the {@link LeetcodeJavaDebugEnhancer}
+     * counts the time of the stage {@code read}, {@code tokenize},
+     * {@code match}, {@code execute}, {@code print} and {@code consume}
+     * of each case in a latency histogram, and registers them as the
+     * platform MBeans named
+     * <tt>io.github.jidcoo.opto.lcdb.enhancer:type=PipelineStage,name=stage</tt>,
+     * so that a long run can be watched in JConsole or VisualVM. At the end
+     * of the run, a summary table of the stages is printed to {@link System#err}.</p>
+     *
+     * @return true if the pipeline metrics are enabled.
+     */
+    public boolean isPipelineMetricsEnabled() {
+        return false;
+    }
+
+    /**
+     * <p>Return the file path of the Chrome trace. By default, it
+     * returns null and no trace is written.</p>
+     *
+     * <p>If the path is not null, the {@link LeetcodeJavaDebugEnhancer}
+     * writes the run to the file in the Chrome trace event format,
+     * with a span for each case and the nested spans for its stages.
+     * Each thread has its own track. The file can be opened in
+     * Perfetto or <tt>chrome://tracing</tt> to see where the cases
+     * stall. The spans are written asynchronously, and the file is
+     * complete after the run ends.</p>
+     *
+     * @return the file path of the Chrome trace.
+     */
+    public String getChromeTraceFile() {
+        return null;
+    }
+
+    /**
+     * <p>Return the pipeline listeners. By default, it returns null
+     * and there is no pipeline listener.</p>
+     *
+     * <p>The {@link PipelineListener}s are called back when each
+     * {@link PipelineStage} of a case ends or fails, e.g. to attach
+     * a profiler or a dashboard to the cases. The callbacks receive
+     * a reused {@link PipelineEvent}, so no event is allocated in
+     * the hot loop. If there is no listener, the stages are not even
+     * timed.</p>
+     *
+     * @return the pipeline listeners.
+     */
+    public List<PipelineListener> getPipelineListeners() {
+        return null;
+    }
+
+    /**
+     * <p>Return whether the cases are processed in the pipelined
+     * mode. By default, the cases are processed one by one.</p>
+     *
+     * <p>If it returns true, a parser thread reads and parses the
+     * next cases ahead, an executor thread executes the cases
+     * strictly in order on the same leetcode instance, and the
+     * caller thread prints and consumes the outputs in order.
+     * The throughput then approaches the slowest of the three
+     * stages, e.g. when the cases have giant inputs or outputs.</p>
+     *
+     * <p>Note: The pipeline listeners are called back on the caller
+     * thread once each case is consumed, and the pipelined mode is
+     * disabled when the complexity estimation is enabled. Please do
+     * not enable it when debugging with breakpoints, because the
+     * cases are parsed ahead.</p>
+     *
+     * @return true if the cases are processed in the pipelined mode.
+     */
+    public boolean isPipelinedModeEnabled() {
+        return false;
+    }
+
+    /**
+     * <p>Return the directory of the result cache. By default,
+     * it returns null and the outputs are not cached.</p>
+     *
+     * <p>If the directory is not null, the printed output of each
+     * case is stored in the directory, keyed by the hash of the
+     * bytecode of <tt>AT</tt> with its nested classes, e.g. the
+     * inner class Solution, and the hash of the case input. When
+     * the same cases are run again and the code is not changed,
+     * their outputs are served from the cache without parsing
+     * and executing them.</p>
+     *
+     * <p>Note: Only enable it when the cases are independent of
+     * each other, and the outputs do not depend on the code out of
+     * <tt>AT</tt>. The outputs are not cached when the complexity
+     * estimation is enabled or in the
+     * {@link OutputPrintingMode#HASH} mode.</p>
+     *
+     * @return the directory of the result cache.
+     */
+    public String getResultCacheDirectory() {
+        return null;
+    }
+
+    /**
+     * <p>Return the capacity of the parsed input cache in bytes.
+     * By default, it returns 0 and the parsed inputs are not
+     * cached.</p>
+     *
+     * <p>If the capacity is positive, the bound arguments and the
+     * matched leetcode invoker of each input are kept in an LRU
+     * cache keyed by the input. A repeated input, e.g. in a
+     * generated corpus or a design problem replay, is not
+     * tokenized and matched again, but bound to a fresh copy of
+     * the cached arguments, so the mutations of the solution
+     * cannot leak into the next case.</p>
+     *
+     * <p>Note: Only the arguments of the builtin types, i.e. the
+     * primitives, {@link String}, arrays, {@link List},
+     * <tt>ListNode</tt> and <tt>TreeNode</tt>, are cached. An input
+     * larger than a quarter of the capacity is not cached.</p>
+     *
+     * @return the capacity of the parsed input cache in bytes.
+     */
+    public long getParsedInputCacheSize() {
+        return 0;
+    }
+
     /**
      * Return the LeetcodeJavaDebugEnhancer log level.
      * By default, logging is turned off.
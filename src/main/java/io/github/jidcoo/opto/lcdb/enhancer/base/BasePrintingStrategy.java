@@ -16,6 +16,7 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.base;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
@@ -48,6 +49,25 @@ public abstract class BasePrintingStrategy<Output> implements Strategizable<Outp
      */
     protected abstract String printOutput(Output output, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap);
 
+    /**
+     * <p>Print the output into the appendable in streaming mode.</p>
+     *
+     * <p>By default, append the printed string content of
+     * {@link #printOutput(Object, Map)}. Override this method
+     * to print a large output without building the whole
+     * string content in memory.</p>
+     *
+     * @param output        the output.
+     * @param appendable    the appendable.
+     * @param strategiesMap the strategies map that can be used during this printing process.
+     * @throws IOException if the appendable cannot be appended.
+     * @since 1.1
+     */
+    protected void printOutput(Output output, Appendable appendable,
+                               Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap) throws IOException {
+        appendable.append(printOutput(output, strategiesMap));
+    }
+
     /**
      * Accept the object by the class type.
      *
@@ -62,4 +82,20 @@ public abstract class BasePrintingStrategy<Output> implements Strategizable<Outp
         // Do real call the printOutput() method.
         return printOutput((Output) object, strategiesMap);
     }
+
+    /**
+     * Accept the object by the class type and print it
+     * into the appendable in streaming mode.
+     *
+     * @param classType     the class type.
+     * @param object        the object.
+     * @param appendable    the appendable.
+     * @param strategiesMap the strategies map that can be used during the acceptance process.
+     * @since 1.1
+     */
+    public final void accept(Class classType, Object object, Appendable appendable,
+                             Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap) throws Throwable {
+        // Do real call the streaming printOutput() method.
+        printOutput((Output) object, appendable, strategiesMap);
+    }
 }
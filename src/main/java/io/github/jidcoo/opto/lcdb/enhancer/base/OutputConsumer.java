@@ -36,4 +36,34 @@ public interface OutputConsumer extends AutoCloseable {
      * @param output a string output.
      */
     void consumeNextOutput(String output);
+
+    /**
+     * <p>Begin to consume the next output in streaming mode.</p>
+     *
+     * <p>The printed output will be appended into the returned
+     * {@link Appendable} directly instead of being built as a
+     * string at first, so that a large output does not need to be
+     * held in memory. And {@link #endNextOutput()} will be called
+     * after the output is appended completely.</p>
+     *
+     * <p>By default, return null to indicate that the streaming
+     * mode is not supported, and the output will be consumed by
+     * {@link #consumeNextOutput(String)}.</p>
+     *
+     * @return the Appendable of the next output, or null if the
+     * streaming mode is not supported.
+     * @since 1.1
+     */
+    default Appendable beginNextOutput() {
+        return null;
+    }
+
+    /**
+     * End to consume the next output in streaming mode.
+     *
+     * @see #beginNextOutput()
+     * @since 1.1
+     */
+    default void endNextOutput() {
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.base;
+
+/**
+ * <p>OutputPrintingMode is the mode of printing
+ * the output of each case.</p>
+ *
+ * <p>The non-full modes are used to keep a giant
+ * output, e.g. an array of 10^6 elements, from
+ * flooding the output consumer.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public enum OutputPrintingMode {
+
+    /**
+     * FULL indicates that the output is printed as it is.
+     */
+    FULL,
+
+    /**
+     * SUMMARY indicates that an output longer than the char
+     * budget is printed as its head and its tail, and the middle
+     * is elided as an {@code ...} element. The elision keeps the
+     * brackets of the Leetcode format balanced, e.g.
+     * {@code [1,2,3,...(999990 chars omitted)...,999999]}.
+     */
+    SUMMARY,
+
+    /**
+     * DIGEST indicates that only the length and the 64-bit
+     * FNV-1a hash of the UTF-8 bytes of the printed output are
+     * printed. The hash is computed in streaming mode without
+     * building the printed output.
+     */
+    DIGEST,
+
+    /**
+     * HASH indicates that each case is printed as a
+     * {@code caseIndex,hash} line, where the case index
+     * starts from 1 and the hash is the 128-bit MurmurHash3
+     * of the UTF-8 bytes of the printed output. The hash files
+     * of two runs can be compared by the
+     * {@code OutputHashFileComparator} for regression checks.
+     */
+    HASH
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.base;
+
+import java.lang.reflect.Method;
+
+/**
+ * <p>PipelineEvent is the event of a {@link PipelineStage}
+ * passed to the {@link PipelineListener}.</p>
+ *
+ * <p>The same PipelineEvent instance is reused and updated for
+ * all stages and cases of a run, so that no event is allocated
+ * in the hot loop. Please read it only in the callback and do
+ * not keep it.</p>
+ *
+ * <p>The case index, the input and the case start time are set
+ * once per case, when its {@link PipelineStage#READ} stage
+ * begins, and kept until the case ends, so all stages of a case
+ * share one timeline.</p>
+ *
+ * <p>The times are in nanoseconds from {@link System#nanoTime()}.</p>
+ *
+ * @author Jidcoo
+ * @see PipelineListener
+ * @since 1.1
+ */
+public interface PipelineEvent {
+
+    /**
+     * Get the case index.
+     *
+     * @return the case index starting from 1.
+     */
+    int getCaseIndex();
+
+    /**
+     * Get the string input of the case.
+     *
+     * @return the string input, or null if the {@link PipelineStage#READ} stage has failed.
+     */
+    String getInput();
+
+    /**
+     * Get the ended or failed stage.
+     *
+     * @return the PipelineStage.
+     */
+    PipelineStage getStage();
+
+    /**
+     * Get the start time of the case, i.e. before its {@link PipelineStage#READ} stage begins.
+     *
+     * @return the start time of the case in nanoseconds.
+     */
+    long getCaseStartNanos();
+
+    /**
+     * Get the start time of the stage.
+     *
+     * @return the start time of the stage in nanoseconds.
+     */
+    long getStageStartNanos();
+
+    /**
+     * Get the end time of the stage.
+     *
+     * @return the end time of the stage in nanoseconds.
+     */
+    long getStageEndNanos();
+
+    /**
+     * Get the matched leetcode invoker of the case.
+     *
+     * @return the matched leetcode invoker, or null if it's not matched yet.
+     */
+    Method getInvoker();
+
+    /**
+     * Get the error of the failed stage.
+     *
+     * @return the error, or null if the stage has not failed.
+     */
+    Throwable getError();
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.base;
+
+/**
+ * <p>PipelineListener is a listener of the case pipeline.</p>
+ *
+ * <p>The callbacks are called on the pipeline thread when the
+ * stages of a case end, in the order of the {@link PipelineStage}.
+ * In the pipelined mode, they are called on the printer thread
+ * once the case is consumed or has failed, still one case after
+ * another in the stage order.
+ * A case starts with {@link #onCaseRead(PipelineEvent)}, or
+ * {@link #onError(PipelineEvent)} if its input cannot be read,
+ * and ends with either {@link #onConsumed(PipelineEvent)} or
+ * {@link #onError(PipelineEvent)}. All callbacks do nothing by
+ * default, so please override only the callbacks you need.</p>
+ *
+ * <p>The {@link PipelineEvent} is reused across the callbacks.
+ * Please keep the callbacks cheap, because they run in the
+ * hot loop of the cases. If a PipelineListener implements
+ * {@link AutoCloseable}, it will be closed after the run.</p>
+ *
+ * @author Jidcoo
+ * @see PipelineEvent
+ * @since 1.1
+ */
+public interface PipelineListener {
+
+    /**
+     * Called after a case is read from the {@link InputProvider}.
+     *
+     * @param event the PipelineEvent of the {@link PipelineStage#READ} stage.
+     */
+    default void onCaseRead(PipelineEvent event) {
+    }
+
+    /**
+     * Called after the string input is parsed to the IR input.
+     *
+     * @param event the PipelineEvent of the {@link PipelineStage#TOKENIZE} stage.
+     */
+    default void onParsed(PipelineEvent event) {
+    }
+
+    /**
+     * Called after the IR input is matched to a leetcode invoker.
+     *
+     * @param event the PipelineEvent of the {@link PipelineStage#MATCH} stage.
+     */
+    default void onInvokerMatched(PipelineEvent event) {
+    }
+
+    /**
+     * Called after the leetcode invoker is executed.
+     *
+     * @param event the PipelineEvent of the {@link PipelineStage#EXECUTE} stage.
+     */
+    default void onExecuted(PipelineEvent event) {
+    }
+
+    /**
+     * Called after the output is printed.
+     *
+     * @param event the PipelineEvent of the {@link PipelineStage#PRINT} stage.
+     */
+    default void onPrinted(PipelineEvent event) {
+    }
+
+    /**
+     * Called after the output is consumed by the {@link OutputConsumer}.
+     *
+     * @param event the PipelineEvent of the {@link PipelineStage#CONSUME} stage.
+     */
+    default void onConsumed(PipelineEvent event) {
+    }
+
+    /**
+     * Called after a stage fails, e.g. the case exceeds the time limit.
+     *
+     * @param event the PipelineEvent of the failed stage.
+     */
+    default void onError(PipelineEvent event) {
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.base;
+
+/**
+ * <p>PipelineStage is a stage of the case pipeline.</p>
+ *
+ * <p>The stages of a case run one after another and are
+ * reported to the {@link PipelineListener} when they end.</p>
+ *
+ * @author Jidcoo
+ * @see PipelineListener
+ * @since 1.1
+ */
+public enum PipelineStage {
+
+    /**
+     * Reading the string input from the InputProvider.
+     */
+    READ("read"),
+
+    /**
+     * Tokenizing the string input to the IR input by the IRInputParserNode.
+     */
+    TOKENIZE("tokenize"),
+
+    /**
+     * Matching the IR input to a leetcode invoker and binding the arguments by the IRMatchInputParserNode.
+     */
+    MATCH("match"),
+
+    /**
+     * Executing the leetcode invoker by the LeetcodeExecutor.
+     */
+    EXECUTE("execute"),
+
+    /**
+     * Printing the output object by the OutputPrinter.
+     */
+    PRINT("print"),
+
+    /**
+     * Consuming the printed output by the OutputConsumer.
+     */
+    CONSUME("consume");
+
+    /**
+     * The stage name.
+     */
+    private final String stageName;
+
+    /**
+     * Create a PipelineStage.
+     *
+     * @param stageName the stage name.
+     */
+    PipelineStage(String stageName) {
+        this.stageName = stageName;
+    }
+
+    /**
+     * Get the stage name.
+     *
+     * @return the stage name.
+     */
+    public String getStageName() {
+        return stageName;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.base;
+
+/**
+ * <p>SolutionLifecycle is the lifecycle policy of
+ * the inner class Solution instance in <tt>AT</tt>.</p>
+ *
+ * <p>The lifecycle policy decides which Solution
+ * instance is used to execute each case.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public enum SolutionLifecycle {
+
+    /**
+     * SHARED indicates that one Solution instance
+     * is shared by all cases.
+     */
+    SHARED,
+
+    /**
+     * FRESH_PER_CASE indicates that each case is
+     * executed by a new Solution instance. So the
+     * Solution state cannot leak between cases.
+     */
+    FRESH_PER_CASE,
+
+    /**
+     * POOLED indicates that each case worker thread
+     * keeps its own Solution instance, and the instance
+     * is reset by the reset hook before it's reused.
+     */
+    POOLED
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.ProtectionDomain;
+
+/**
+ * <p>HotReloadClassLoader is a child-first class loader
+ * used by the {@link HotReloadDaemon} to load the
+ * <tt>AT</tt> class again.</p>
+ *
+ * <p>The classes in the class directory are defined by
+ * this class loader from their latest class files, except
+ * the classes of the enhancer itself, e.g. the
+ * {@link io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer}
+ * and the struct classes. They are always delegated to the
+ * parent class loader, so that they stay shared and warm
+ * across the reloads.</p>
+ *
+ * @author Jidcoo
+ * @see HotReloadDaemon
+ * @since 1.1
+ */
+final class HotReloadClassLoader extends ClassLoader {
+
+    /**
+     * The package name prefix of the enhancer classes.
+     */
+    private static final String ENHANCER_PACKAGE_PREFIX = "io.github.jidcoo.opto.lcdb.enhancer.";
+
+    /**
+     * The class file suffix.
+     */
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    /**
+     * The class directory.
+     */
+    private final Path classRoot;
+
+    /**
+     * The protection domain of the defined classes.
+     */
+    private final ProtectionDomain protectionDomain;
+
+    /**
+     * Create a HotReloadClassLoader instance.
+     *
+     * @param classRoot        the class directory.
+     * @param parent           the parent class loader.
+     * @param protectionDomain the protection domain of the defined classes.
+     */
+    HotReloadClassLoader(Path classRoot, ClassLoader parent, ProtectionDomain protectionDomain) {
+        super(parent);
+        AssertUtil.nonNull(classRoot, "The classRoot cannot be null.");
+        this.classRoot = classRoot;
+        this.protectionDomain = protectionDomain;
+    }
+
+    /**
+     * Load the class by the class name in the child-first order.
+     *
+     * @param name    the binary name of the class.
+     * @param resolve whether to resolve the class.
+     * @return the class.
+     * @throws ClassNotFoundException if the class cannot be found.
+     */
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> clazz = findLoadedClass(name);
+            if (clazz == null && !name.startsWith(ENHANCER_PACKAGE_PREFIX)) {
+                clazz = defineClassFromRoot(name);
+            }
+            if (clazz == null) {
+                return super.loadClass(name, resolve);
+            }
+            if (resolve) {
+                resolveClass(clazz);
+            }
+            return clazz;
+        }
+    }
+
+    /**
+     * Define the class from its class file in the class directory.
+     *
+     * @param name the binary name of the class.
+     * @return the class, or null if there is no class file of it.
+     * @throws ClassNotFoundException if the class file cannot be read.
+     */
+    private Class<?> defineClassFromRoot(String name) throws ClassNotFoundException {
+        Path classFile = classRoot.resolve(name.replace('.', '/') + CLASS_FILE_SUFFIX);
+        if (!Files.isRegularFile(classFile)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(classFile);
+            return defineClass(name, bytes, 0, bytes.length, protectionDomain);
+        } catch (IOException exception) {
+            throw new ClassNotFoundException(name, exception);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core;
+
+import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ContainerCheckUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * <p>HotReloadDaemon runs the <tt>AT</tt> in the hot
+ * reload mode.</p>
+ *
+ * <p>HotReloadDaemon runs the cases of the <tt>AT</tt>, then
+ * watches the class directory of the <tt>AT</tt> and the paths
+ * returned by {@link LeetcodeJavaDebugEnhancer#getHotReloadWatchPaths()}
+ * with a {@link WatchService}. Once a class file or a watched
+ * path is changed, it loads the <tt>AT</tt> again in a fresh
+ * {@link HotReloadClassLoader} and runs the cases again.</p>
+ *
+ * <p>The enhancer classes, the strategy registry and the code
+ * compiled by the JIT compiler stay warm in the JVM, so each
+ * run after a change is much faster than a new JVM. The daemon
+ * runs until the JVM is terminated.</p>
+ *
+ * @author Jidcoo
+ * @see HotReloadClassLoader
+ * @see LeetcodeJavaDebugEnhancer#isHotReloadEnabled()
+ * @since 1.1
+ */
+final class HotReloadDaemon {
+
+    /**
+     * The quiet milliseconds after the last change before reloading,
+     * so that a compiler can finish writing all class files.
+     */
+    private static final long QUIET_MILLIS = 100;
+
+    /**
+     * The class file suffix.
+     */
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * The <tt>AT</tt> class loaded at first.
+     */
+    private final Class<? extends LeetcodeJavaDebugEnhancer> AT;
+
+    /**
+     * The class directory of the <tt>AT</tt>.
+     */
+    private final Path classRoot;
+
+    /**
+     * The watched paths besides the class directory.
+     */
+    private final List<Path> watchPaths;
+
+    /**
+     * Create a HotReloadDaemon instance.
+     *
+     * @param AT       the <tt>AT</tt> class loaded at first.
+     * @param enhancer the <tt>AT</tt> instance enhancer.
+     */
+    HotReloadDaemon(Class<? extends LeetcodeJavaDebugEnhancer> AT, LeetcodeJavaDebugEnhancer enhancer) {
+        AssertUtil.nonNull(AT, "The AT cannot be null.");
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        this.AT = AT;
+        this.classRoot = resolveClassRoot(AT);
+        this.watchPaths = new ArrayList<>();
+        if (!ContainerCheckUtil.isListEmpty(enhancer.getHotReloadWatchPaths())) {
+            for (String watchPath : enhancer.getHotReloadWatchPaths()) {
+                AssertUtil.nonNull(watchPath, "The hot reload watch path cannot be null.");
+                watchPaths.add(Paths.get(watchPath).toAbsolutePath().normalize());
+            }
+        }
+    }
+
+    /**
+     * Run the cases again and again after each change.
+     *
+     * @throws Exception if the paths cannot be watched.
+     */
+    void run() throws Exception {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            registerTree(watchService, classRoot);
+            for (Path watchPath : watchPaths) {
+                if (Files.isDirectory(watchPath)) {
+                    registerTree(watchService, watchPath);
+                } else {
+                    // A file cannot be watched directly, so watch its directory instead.
+                    Path directory = watchPath.getParent();
+                    AssertUtil.isTrue(Objects.nonNull(directory) && Files.isDirectory(directory),
+                            "The directory of the hot reload watch path does not exist: " + watchPath);
+                    register(watchService, directory);
+                }
+            }
+            Class<? extends LeetcodeJavaDebugEnhancer> currentAT = AT;
+            while (true) {
+                runOnce(currentAT);
+                System.out.println("LeetcodeJavaDebugEnhancer is watching for changes in: " + classRoot
+                        + (watchPaths.isEmpty() ? "" : ", " + watchPaths));
+                awaitChanges(watchService);
+                currentAT = reload();
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Run the cases of the <tt>AT</tt> once.
+     *
+     * @param currentAT the current <tt>AT</tt> class, or null if it cannot be reloaded.
+     */
+    private void runOnce(Class<? extends LeetcodeJavaDebugEnhancer> currentAT) {
+        if (Objects.isNull(currentAT)) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        long startNanos = System.nanoTime();
+        try {
+            thread.setContextClassLoader(currentAT.getClassLoader());
+            LeetcodeJavaDebugEnhancer enhancer = ReflectUtil.createInstance(currentAT);
+            EnhancerLogUtil.setLogLevel(enhancer.getEnhancerLogLevel());
+            LeetcodeJavaDebugEnhanceProcessor.process(currentAT, enhancer);
+            System.out.println("LeetcodeJavaDebugEnhancer finished the run in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms.");
+        } catch (Exception | Error err) {
+            // Keep the daemon alive, the next change may fix the error.
+            System.err.println("LeetcodeJavaDebugEnhancer runtime error: " + err);
+            EnhancerLogUtil.logE("Hot reload run error: %s", err.getMessage());
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    /**
+     * Load the <tt>AT</tt> class again in a fresh class loader.
+     *
+     * @return the reloaded <tt>AT</tt> class, or null if it cannot be loaded.
+     */
+    private Class<? extends LeetcodeJavaDebugEnhancer> reload() {
+        HotReloadClassLoader classLoader = new HotReloadClassLoader(classRoot, AT.getClassLoader(),
+                AT.getProtectionDomain());
+        try {
+            Class<?> reloadedAT = Class.forName(AT.getName(), true, classLoader);
+            AssertUtil.isTrue(LeetcodeJavaDebugEnhancer.class.isAssignableFrom(reloadedAT),
+                    "The reloaded AT does not extend the LeetcodeJavaDebugEnhancer: " + reloadedAT.getName());
+            EnhancerLogUtil.logI("Reloaded (AT) class: %s", reloadedAT.getSimpleName());
+            return (Class<? extends LeetcodeJavaDebugEnhancer>) reloadedAT;
+        } catch (Exception | LinkageError err) {
+            // The class files may be deleted or half written by the compiler.
+            System.err.println("LeetcodeJavaDebugEnhancer cannot reload the AT: " + err);
+            return null;
+        }
+    }
+
+    /**
+     * Wait for the changes of the watched paths, and then
+     * wait until no more change in {@value #QUIET_MILLIS} ms.
+     *
+     * @param watchService the WatchService instance.
+     * @throws InterruptedException if the waiting is interrupted.
+     */
+    private void awaitChanges(WatchService watchService) throws InterruptedException {
+        boolean changed = false;
+        while (!changed) {
+            changed = pollChanges(watchService, watchService.take());
+        }
+        WatchKey watchKey;
+        while (Objects.nonNull(watchKey = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS))) {
+            pollChanges(watchService, watchKey);
+        }
+    }
+
+    /**
+     * Poll the events of the signalled watch key.
+     *
+     * @param watchService the WatchService instance.
+     * @param watchKey     the signalled watch key.
+     * @return true if any class file or watched path is changed.
+     */
+    private boolean pollChanges(WatchService watchService, WatchKey watchKey) {
+        Path directory = (Path) watchKey.watchable();
+        boolean changed = false;
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                changed = true;
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)
+                    && (path.startsWith(classRoot) || isWatched(path))) {
+                // Watch the new directory, e.g. a new package.
+                try {
+                    registerTree(watchService, path);
+                } catch (IOException exception) {
+                    EnhancerLogUtil.logW("Cannot watch the directory: %s", path);
+                }
+                changed = true;
+            } else if ((path.startsWith(classRoot) && path.toString().endsWith(CLASS_FILE_SUFFIX)) || isWatched(path)) {
+                changed = true;
+            }
+        }
+        watchKey.reset();
+        return changed;
+    }
+
+    /**
+     * Check if the path is or is under one of the watched paths.
+     *
+     * @param path the path.
+     * @return true if the path is watched.
+     */
+    private boolean isWatched(Path path) {
+        for (Path watchPath : watchPaths) {
+            if (path.startsWith(watchPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Register the directory and all its subdirectories to the WatchService.
+     *
+     * @param watchService the WatchService instance.
+     * @param root         the root directory.
+     * @throws IOException if the directories cannot be registered.
+     */
+    private static void registerTree(WatchService watchService, Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes)
+                    throws IOException {
+                register(watchService, directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Register the directory to the WatchService.
+     *
+     * @param watchService the WatchService instance.
+     * @param directory    the directory.
+     * @throws IOException if the directory cannot be registered.
+     */
+    private static void register(WatchService watchService, Path directory) throws IOException {
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    }
+
+    /**
+     * Resolve the class directory of the <tt>AT</tt>.
+     *
+     * @param AT the <tt>AT</tt> class.
+     * @return the absolute class directory.
+     * @throws RuntimeException if the <tt>AT</tt> is not loaded from a class directory.
+     */
+    private static Path resolveClassRoot(Class<?> AT) {
+        CodeSource codeSource = AT.getProtectionDomain().getCodeSource();
+        AssertUtil.isTrue(Objects.nonNull(codeSource) && Objects.nonNull(codeSource.getLocation()),
+                "Cannot resolve the class directory of the AT: " + AT.getName());
+        Path classRoot;
+        try {
+            classRoot = Paths.get(codeSource.getLocation().toURI()).toAbsolutePath().normalize();
+        } catch (URISyntaxException exception) {
+            throw new RuntimeException(exception);
+        }
+        AssertUtil.isTrue(Files.isDirectory(classRoot), "The hot reload mode needs the AT in a class directory, "
+                + "but it's loaded from: " + classRoot);
+        return classRoot;
+    }
+}
@@ -0,0 +1,480 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core;
+
+import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.base.InputProvider;
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputConsumer;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+import io.github.jidcoo.opto.lcdb.enhancer.core.cache.ResultCacheFactory;
+import io.github.jidcoo.opto.lcdb.enhancer.core.cache.ResultCacheProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.core.complexity.ComplexityEstimatorFactory;
+import io.github.jidcoo.opto.lcdb.enhancer.core.complexity.ComplexityEstimatorProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeExecutorFactory;
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeExecutorProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeRuntimeErrorException;
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeTimeLimitExceededException;
+import io.github.jidcoo.opto.lcdb.enhancer.core.io.builtin.DesignProblemInputProvider;
+import io.github.jidcoo.opto.lcdb.enhancer.core.metrics.PipelineStageRecorderFactory;
+import io.github.jidcoo.opto.lcdb.enhancer.core.metrics.PipelineStageRecorderProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.core.parser.InputParserFactory;
+import io.github.jidcoo.opto.lcdb.enhancer.core.parser.InputParserProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.core.printer.OutputPrinterFactory;
+import io.github.jidcoo.opto.lcdb.enhancer.core.printer.OutputPrinterProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+
+import java.util.Objects;
+
+/**
+ * <p>LeetcodeCasePipeline is the pipeline of a case,
+ * i.e. parsing the input, executing the leetcode invoker
+ * and printing the output to an {@link OutputConsumer}.</p>
+ *
+ * <p>LeetcodeCasePipeline is created once by an <tt>AT</tt>
+ * instance enhancer and then processes the cases one by one,
+ * so that the executor, the parser and the printer stay warm
+ * across the cases. It's not thread-safe.</p>
+ *
+ * @author Jidcoo
+ * @see LeetcodeJavaDebugEnhanceProcessor
+ * @since 1.1
+ */
+final class LeetcodeCasePipeline {
+
+    /**
+     * The LeetcodeExecutor instance.
+     */
+    private final Object leetcodeExecutor;
+
+    /**
+     * The OutputPrinter instance.
+     */
+    private final Object outputPrinter;
+
+    /**
+     * The InputParser instance.
+     */
+    private final Object inputParser;
+
+    /**
+     * The ComplexityEstimator instance, or null if the estimation is disabled.
+     */
+    private final Object complexityEstimator;
+
+    /**
+     * The PipelineStageRecorder instance, or null if the stages are not recorded.
+     */
+    private final Object stageRecorder;
+
+    /**
+     * The ResultCache instance, or null if the outputs are not cached.
+     */
+    private final Object resultCache;
+
+    /**
+     * Whether the cases are processed in the pipelined mode.
+     */
+    private final boolean pipelined;
+
+    /**
+     * The count of the read cases.
+     */
+    private int caseCount;
+
+    /**
+     * Create a LeetcodeCasePipeline instance.
+     *
+     * @param enhancer the <tt>AT</tt> instance enhancer.
+     */
+    LeetcodeCasePipeline(LeetcodeJavaDebugEnhancer enhancer) {
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        // Create a LeetcodeExecutor from the enhancer.
+        this.leetcodeExecutor = LeetcodeExecutorFactory.getLeetcodeExecutor(enhancer);
+        // Create an OutputPrinter from the enhancer.
+        this.outputPrinter = OutputPrinterFactory.getOutputPrinter(enhancer);
+        // Create a InputParser from the enhancer.
+        this.inputParser = InputParserFactory.getInputParser(enhancer);
+        // Create a ComplexityEstimator from the enhancer if the estimation is enabled.
+        this.complexityEstimator = ComplexityEstimatorFactory.getComplexityEstimator(enhancer);
+        // Open a ResultCache from the enhancer if the outputs are cached.
+        this.resultCache = ResultCacheFactory.getResultCache(enhancer);
+        // The complexity estimation executes the shared invoker while the next case may be parsed ahead.
+        this.pipelined = enhancer.isPipelinedModeEnabled() && Objects.isNull(complexityEstimator);
+        if (enhancer.isPipelinedModeEnabled() && !pipelined) {
+            EnhancerLogUtil.logW("The pipelined mode is disabled by the complexity estimation.");
+        }
+        // Create a PipelineStageRecorder from the enhancer for the listeners and the flight recorder.
+        this.stageRecorder = PipelineStageRecorderFactory.getPipelineStageRecorder(enhancer);
+    }
+
+    /**
+     * Adapt the InputProvider to the cases of this pipeline.
+     *
+     * @param inputProvider the InputProvider instance.
+     * @return the adapted InputProvider instance.
+     */
+    InputProvider adaptInputProvider(InputProvider inputProvider) {
+        // The design problem case is given in two lines, so merge them into one input.
+        return LeetcodeExecutorProcessor.isDesignExecutor(leetcodeExecutor) ?
+                new DesignProblemInputProvider(inputProvider) : inputProvider;
+    }
+
+    /**
+     * Read the next string input of a case from the InputProvider.
+     *
+     * @param inputProvider the adapted InputProvider instance.
+     * @return the string input.
+     */
+    String readNextInput(InputProvider inputProvider) {
+        if (Objects.nonNull(stageRecorder)) {
+            // The case begins with reading its input, and continues until it's consumed.
+            PipelineStageRecorderProcessor.beginCase(stageRecorder, caseCount + 1);
+        }
+        return readInput(inputProvider, stageRecorder);
+    }
+
+    /**
+     * Process a case read by {@link #readNextInput(InputProvider)}
+     * and consume its output.
+     *
+     * @param input          the string input of the case.
+     * @param outputConsumer the OutputConsumer instance.
+     */
+    void process(String input, OutputConsumer outputConsumer) {
+        try {
+            if (consumeCachedOutput(input, outputConsumer)) {
+                return;
+            }
+            // Parse the string input to input object. The parser records its own stages.
+            Object inputObject = InputParserProcessor.process(inputParser, leetcodeExecutor, input,
+                    stageRecorder);
+            if (Objects.nonNull(complexityEstimator)) {
+                // Estimate before executing the case, while the seed input is not mutated yet.
+                String complexityReport = ComplexityEstimatorProcessor.process(complexityEstimator,
+                        leetcodeExecutor, inputObject);
+                if (Objects.nonNull(complexityReport)) {
+                    outputConsumer.consumeNextOutput(complexityReport);
+                }
+            }
+            // Execute leetcode target and get the output object.
+            beginStage(stageRecorder, PipelineStage.EXECUTE);
+            Object outputObject;
+            try {
+                outputObject = LeetcodeExecutorProcessor.process(leetcodeExecutor, inputObject);
+            } catch (LeetcodeTimeLimitExceededException exception) {
+                failStage(stageRecorder, exception);
+                // Record the runaway case as TLE and move on to the next case.
+                EnhancerLogUtil.logW("Case exceeded the time limit of %d ms: %s", exception.getTimeLimit(), input);
+                outputConsumer.consumeNextOutput(OutputPrinterProcessor.processMessage(outputPrinter,
+                        exception.getMessage()));
+                return;
+            } catch (LeetcodeRuntimeErrorException exception) {
+                failStage(stageRecorder, exception);
+                // Record the overflowed case as a runtime error and move on to the next case.
+                EnhancerLogUtil.logW("Case failed with %s: %s", exception.getCause(), input);
+                outputConsumer.consumeNextOutput(OutputPrinterProcessor.processMessage(outputPrinter,
+                        exception.getMessage()));
+                return;
+            }
+            endStage(stageRecorder);
+            printOutput(stageRecorder, input, outputObject, LeetcodeExecutorProcessor.getCaseContext(leetcodeExecutor)
+                    .getInvokerResponseType(), outputConsumer);
+        } catch (RuntimeException | Error throwable) {
+            failStage(stageRecorder, throwable);
+            throw throwable;
+        }
+    }
+
+    /**
+     * Check if the cases are processed in the pipelined mode.
+     *
+     * @return true if the cases are processed by the {@link PipelinedCaseRunner}.
+     */
+    boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Read the next case on the parser stage of the pipelined mode.
+     *
+     * @param inputProvider the adapted InputProvider instance.
+     * @return the read case, the failed case or {@link PipelinedCase#END}.
+     */
+    PipelinedCase readNextCase(InputProvider inputProvider) {
+        // The case carries its own case recorder through the stage threads.
+        Object caseRecorder = Objects.nonNull(stageRecorder) ?
+                PipelineStageRecorderProcessor.forkCase(stageRecorder, caseCount + 1) : null;
+        String input;
+        try {
+            input = readInput(inputProvider, caseRecorder);
+        } catch (RuntimeException | Error throwable) {
+            PipelinedCase failedCase = new PipelinedCase(null, caseRecorder);
+            failedCase.setError(throwable);
+            return failedCase;
+        }
+        return inputProvider.isEnd(input) ? PipelinedCase.END : new PipelinedCase(input, caseRecorder);
+    }
+
+    /**
+     * Parse a case on the parser stage of the pipelined mode.
+     *
+     * @param pipelinedCase the PipelinedCase instance.
+     */
+    void parse(PipelinedCase pipelinedCase) {
+        Object caseRecorder = pipelinedCase.getStageRecorder();
+        try {
+            if (Objects.nonNull(resultCache)) {
+                String cachedOutput = ResultCacheProcessor.get(resultCache, pipelinedCase.getInput());
+                if (Objects.nonNull(cachedOutput)) {
+                    // Skip the parser and the executor stage.
+                    pipelinedCase.setCachedOutput(cachedOutput);
+                    return;
+                }
+            }
+            // Parse the string input to input object. The parser records its own stages.
+            Object inputObject = InputParserProcessor.process(inputParser, leetcodeExecutor,
+                    pipelinedCase.getInput(), caseRecorder);
+            // Keep the matched invoker with the case, because the next case may match another one before execution.
+            pipelinedCase.setParsed(inputObject,
+                    LeetcodeExecutorProcessor.getCaseContext(leetcodeExecutor).getInvoker());
+        } catch (RuntimeException | Error throwable) {
+            failStage(caseRecorder, throwable);
+            throw throwable;
+        }
+    }
+
+    /**
+     * Execute a parsed case on the executor stage of the pipelined mode.
+     *
+     * @param pipelinedCase the PipelinedCase instance.
+     */
+    void execute(PipelinedCase pipelinedCase) {
+        if (Objects.nonNull(pipelinedCase.getCachedOutput())) {
+            return;
+        }
+        Object caseRecorder = pipelinedCase.getStageRecorder();
+        beginStage(caseRecorder, PipelineStage.EXECUTE);
+        try {
+            pipelinedCase.setOutputObject(LeetcodeExecutorProcessor.process(leetcodeExecutor,
+                    pipelinedCase.getInvoker(), pipelinedCase.getInputObject()));
+        } catch (LeetcodeTimeLimitExceededException exception) {
+            failStage(caseRecorder, exception);
+            // Record the runaway case as TLE and move on to the next case.
+            EnhancerLogUtil.logW("Case exceeded the time limit of %d ms: %s", exception.getTimeLimit(),
+                    pipelinedCase.getInput());
+            pipelinedCase.setMessage(exception.getMessage());
+            return;
+        } catch (LeetcodeRuntimeErrorException exception) {
+            failStage(caseRecorder, exception);
+            // Record the overflowed case as a runtime error and move on to the next case.
+            EnhancerLogUtil.logW("Case failed with %s: %s", exception.getCause(), pipelinedCase.getInput());
+            pipelinedCase.setMessage(exception.getMessage());
+            return;
+        } catch (RuntimeException | Error throwable) {
+            failStage(caseRecorder, throwable);
+            throw throwable;
+        }
+        endStage(caseRecorder);
+    }
+
+    /**
+     * Print an executed case on the printer stage of the pipelined mode.
+     *
+     * @param pipelinedCase  the PipelinedCase instance.
+     * @param outputConsumer the OutputConsumer instance.
+     */
+    void print(PipelinedCase pipelinedCase, OutputConsumer outputConsumer) {
+        Object caseRecorder = pipelinedCase.getStageRecorder();
+        try {
+            if (Objects.nonNull(pipelinedCase.getCachedOutput())) {
+                beginStage(caseRecorder, PipelineStage.CONSUME);
+                outputConsumer.consumeNextOutput(pipelinedCase.getCachedOutput());
+                endStage(caseRecorder);
+                return;
+            }
+            if (Objects.nonNull(pipelinedCase.getMessage())) {
+                outputConsumer.consumeNextOutput(OutputPrinterProcessor.processMessage(outputPrinter,
+                        pipelinedCase.getMessage()));
+                return;
+            }
+            printOutput(caseRecorder, pipelinedCase.getInput(), pipelinedCase.getOutputObject(),
+                    pipelinedCase.getInvoker().getReturnType(), outputConsumer);
+        } catch (RuntimeException | Error throwable) {
+            failStage(caseRecorder, throwable);
+            throw throwable;
+        }
+    }
+
+    /**
+     * Call back the pipeline listeners with the stages recorded
+     * for a case of the pipelined mode. It's called on the printer
+     * stage once the case is printed or has failed, so that the
+     * listeners are called back on one thread in the stage order.
+     *
+     * @param pipelinedCase the PipelinedCase instance.
+     */
+    void replay(PipelinedCase pipelinedCase) {
+        if (Objects.nonNull(pipelinedCase.getStageRecorder())) {
+            PipelineStageRecorderProcessor.replay(stageRecorder, pipelinedCase.getStageRecorder());
+        }
+    }
+
+    /**
+     * Read the next string input of a case and record its
+     * {@link PipelineStage#READ} stage.
+     *
+     * @param inputProvider the adapted InputProvider instance.
+     * @param recorder      the PipelineStageRecorder instance recording the case, or null.
+     * @return the string input.
+     */
+    private String readInput(InputProvider inputProvider, Object recorder) {
+        beginStage(recorder, PipelineStage.READ);
+        String input;
+        try {
+            input = inputProvider.provideNextInput();
+        } catch (RuntimeException | Error throwable) {
+            failStage(recorder, throwable);
+            throw throwable;
+        }
+        if (inputProvider.isEnd(input)) {
+            return input;
+        }
+        caseCount++;
+        if (Objects.nonNull(recorder)) {
+            PipelineStageRecorderProcessor.setInput(recorder, input);
+            PipelineStageRecorderProcessor.end(recorder);
+        }
+        return input;
+    }
+
+    /**
+     * Consume the cached output of the input if it's cached.
+     *
+     * @param input          the string input.
+     * @param outputConsumer the OutputConsumer instance.
+     * @return true if the cached output is consumed.
+     */
+    private boolean consumeCachedOutput(String input, OutputConsumer outputConsumer) {
+        if (Objects.isNull(resultCache)) {
+            return false;
+        }
+        String cachedOutput = ResultCacheProcessor.get(resultCache, input);
+        if (Objects.isNull(cachedOutput)) {
+            return false;
+        }
+        beginStage(stageRecorder, PipelineStage.CONSUME);
+        outputConsumer.consumeNextOutput(cachedOutput);
+        endStage(stageRecorder);
+        return true;
+    }
+
+    /**
+     * Print the output object and consume it.
+     *
+     * @param recorder       the PipelineStageRecorder instance recording the case, or null.
+     * @param input          the string input of the output.
+     * @param outputObject   the output object.
+     * @param outputType     the output type, i.e. the return type of the invoker.
+     * @param outputConsumer the OutputConsumer instance.
+     */
+    private void printOutput(Object recorder, String input, Object outputObject, Class<?> outputType,
+                             OutputConsumer outputConsumer) {
+        beginStage(recorder, PipelineStage.PRINT);
+        // The output to cache is printed as a string instead of streamed.
+        Appendable outputAppendable = Objects.isNull(resultCache) ? outputConsumer.beginNextOutput() : null;
+        if (Objects.nonNull(outputAppendable)) {
+            // Stream the output object into the OutputConsumer directly.
+            OutputPrinterProcessor.processOutput(outputPrinter, outputType, outputObject, outputAppendable);
+            endStage(recorder);
+            beginStage(recorder, PipelineStage.CONSUME);
+            outputConsumer.endNextOutput();
+        } else {
+            // Print the output object.
+            String output = OutputPrinterProcessor.processOutput(outputPrinter, outputType, outputObject);
+            endStage(recorder);
+            beginStage(recorder, PipelineStage.CONSUME);
+            // Consume the next output string to the OutputConsumer.
+            outputConsumer.consumeNextOutput(output);
+            if (Objects.nonNull(resultCache)) {
+                ResultCacheProcessor.put(resultCache, input, output);
+            }
+        }
+        endStage(recorder);
+    }
+
+    /**
+     * Get the summary table of the pipeline metrics.
+     *
+     * @return the summary table, or null if the metrics are disabled.
+     */
+    String getMetricsSummary() {
+        return Objects.nonNull(stageRecorder) ? PipelineStageRecorderProcessor.summary(stageRecorder) : null;
+    }
+
+    /**
+     * Begin a pipeline stage if the stages are recorded.
+     *
+     * @param recorder the PipelineStageRecorder instance recording the case, or null.
+     * @param stage    the PipelineStage.
+     */
+    private static void beginStage(Object recorder, PipelineStage stage) {
+        if (Objects.nonNull(recorder)) {
+            PipelineStageRecorderProcessor.begin(recorder, stage);
+        }
+    }
+
+    /**
+     * End the current pipeline stage if the stages are recorded.
+     *
+     * @param recorder the PipelineStageRecorder instance recording the case, or null.
+     */
+    private static void endStage(Object recorder) {
+        if (Objects.nonNull(recorder)) {
+            PipelineStageRecorderProcessor.end(recorder);
+        }
+    }
+
+    /**
+     * Fail the current pipeline stage if the stages are recorded.
+     *
+     * @param recorder the PipelineStageRecorder instance recording the case, or null.
+     * @param error    the error of the current stage.
+     */
+    private static void failStage(Object recorder, Throwable error) {
+        if (Objects.nonNull(recorder)) {
+            PipelineStageRecorderProcessor.error(recorder, error);
+        }
+    }
+
+    /**
+     * Stop the background threads of this pipeline, e.g. the case
+     * worker thread and the Solution instance prefetcher, and close the
+     * pipeline listeners and the result cache.
+     */
+    void shutdown() {
+        LeetcodeExecutorProcessor.shutdown(leetcodeExecutor);
+        if (Objects.nonNull(stageRecorder)) {
+            // Close the listeners, e.g. unregister the stage MBeans and write the remaining events.
+            PipelineStageRecorderProcessor.close(stageRecorder);
+        }
+        if (Objects.nonNull(resultCache)) {
+            // Write the remaining outputs and release the cache directory.
+            ResultCacheProcessor.close(resultCache);
+        }
+    }
+}
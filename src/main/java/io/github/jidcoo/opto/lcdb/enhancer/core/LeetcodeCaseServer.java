@@ -0,0 +1,521 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core;
+
+import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.base.InputProvider;
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputConsumer;
+import io.github.jidcoo.opto.lcdb.enhancer.core.io.builtin.BaseBufferReaderInputProvider;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>LeetcodeCaseServer serves the cases of the <tt>AT</tt>
+ * from other processes over the local sockets.</p>
+ *
+ * <p>LeetcodeCaseServer listens on the TCP loopback addresses
+ * and the Unix domain socket paths returned by
+ * {@link LeetcodeJavaDebugEnhancer#getServerAddresses()}. All
+ * connections are multiplexed over one {@link Selector} thread,
+ * and the case batches are run one by one through a warm
+ * {@link LeetcodeCasePipeline} on a runner thread. The outputs
+ * are streamed back to the connection of the batch case by case.</p>
+ *
+ * <p>A request frame is a 4-byte big-endian length followed by the
+ * UTF-8 case lines. A response frame is a 4-byte big-endian length
+ * followed by a type byte and the UTF-8 payload, where the length
+ * counts the type byte and the payload. The type is {@value #OUTPUT}
+ * for a case output, {@value #ERROR} for a case error and
+ * {@value #DONE} for the end of a batch with the number of the
+ * cases as the payload.</p>
+ *
+ * @author Jidcoo
+ * @see LeetcodeJavaDebugEnhancer#getServerAddresses()
+ * @since 1.1
+ */
+final class LeetcodeCaseServer {
+
+    /**
+     * The response frame type of a case output.
+     */
+    static final char OUTPUT = 'O';
+
+    /**
+     * The response frame type of a case error.
+     */
+    static final char ERROR = 'E';
+
+    /**
+     * The response frame type of the end of a batch.
+     */
+    static final char DONE = 'D';
+
+    /**
+     * The TCP address scheme.
+     */
+    private static final String TCP_SCHEME = "tcp://";
+
+    /**
+     * The Unix domain socket address scheme.
+     */
+    private static final String UNIX_SCHEME = "unix:";
+
+    /**
+     * The max length of a request frame.
+     */
+    private static final int MAX_FRAME_LENGTH = 64 << 20;
+
+    /**
+     * The initial capacity of the read buffer of a connection.
+     */
+    private static final int INITIAL_READ_BUFFER_CAPACITY = 64 << 10;
+
+    /**
+     * The runner thread name.
+     */
+    private static final String RUNNER_THREAD_NAME = "LeetcodeCaseServerRunner";
+
+    /**
+     * The <tt>AT</tt> class.
+     */
+    private final Class<? extends LeetcodeJavaDebugEnhancer> AT;
+
+    /**
+     * The <tt>AT</tt> instance enhancer.
+     */
+    private final LeetcodeJavaDebugEnhancer enhancer;
+
+    /**
+     * The connections waiting for the selector to write their responses.
+     */
+    private final Queue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The selector of all channels.
+     */
+    private Selector selector;
+
+    /**
+     * The case pipeline used only by the runner thread.
+     */
+    private LeetcodeCasePipeline pipeline;
+
+    /**
+     * Create a LeetcodeCaseServer instance.
+     *
+     * @param AT       the <tt>AT</tt> class.
+     * @param enhancer the <tt>AT</tt> instance enhancer.
+     */
+    LeetcodeCaseServer(Class<? extends LeetcodeJavaDebugEnhancer> AT, LeetcodeJavaDebugEnhancer enhancer) {
+        AssertUtil.nonNull(AT, "The AT cannot be null.");
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        this.AT = AT;
+        this.enhancer = enhancer;
+    }
+
+    /**
+     * Serve the cases until the JVM is terminated.
+     *
+     * @throws Exception if the server cannot listen on the addresses.
+     */
+    void run() throws Exception {
+        List<ServerSocketChannel> serverChannels = new ArrayList<>();
+        List<Path> socketPaths = new ArrayList<>();
+        ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, RUNNER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        pipeline = new LeetcodeCasePipeline(enhancer);
+        try {
+            selector = Selector.open();
+            List<SocketAddress> localAddresses = new ArrayList<>();
+            for (String address : enhancer.getServerAddresses()) {
+                ServerSocketChannel serverChannel = bind(address, socketPaths);
+                serverChannels.add(serverChannel);
+                serverChannel.configureBlocking(false);
+                serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+                localAddresses.add(serverChannel.getLocalAddress());
+            }
+            System.out.println("LeetcodeJavaDebugEnhancer is serving the cases of " + AT.getSimpleName() + " at: "
+                    + localAddresses);
+            while (true) {
+                selector.select();
+                // Watch the writes of the responses enqueued by the runner thread.
+                Connection connection;
+                while (Objects.nonNull(connection = pendingWrites.poll())) {
+                    if (connection.key.isValid()) {
+                        connection.key.interestOps(connection.key.interestOps() | SelectionKey.OP_WRITE);
+                    }
+                }
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    handle(key, runner);
+                }
+            }
+        } finally {
+            runner.shutdownNow();
+            pipeline.shutdown();
+            for (ServerSocketChannel serverChannel : serverChannels) {
+                serverChannel.close();
+            }
+            if (Objects.nonNull(selector)) {
+                selector.close();
+            }
+            for (Path socketPath : socketPaths) {
+                Files.deleteIfExists(socketPath);
+            }
+        }
+    }
+
+    /**
+     * Handle a selected key.
+     *
+     * @param key    the selected key.
+     * @param runner the runner of the case batches.
+     */
+    private void handle(SelectionKey key, ExecutorService runner) {
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isAcceptable()) {
+                SocketChannel channel = ((ServerSocketChannel) key.channel()).accept();
+                if (Objects.nonNull(channel)) {
+                    channel.configureBlocking(false);
+                    SelectionKey connectionKey = channel.register(selector, SelectionKey.OP_READ);
+                    connectionKey.attach(new Connection(channel, connectionKey));
+                    EnhancerLogUtil.logI("Accepted case server connection: %s", channel.getRemoteAddress());
+                }
+                return;
+            }
+            if (key.isReadable()) {
+                for (String batch : connection.read()) {
+                    runner.execute(() -> runBatch(connection, batch));
+                }
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.write();
+            }
+        } catch (IOException | RuntimeException exception) {
+            EnhancerLogUtil.logW("Closed case server connection: %s", exception.getMessage());
+            if (Objects.nonNull(connection)) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * Run a case batch through the pipeline on the runner thread
+     * and stream the outputs back to the connection.
+     *
+     * @param connection the connection of the batch.
+     * @param batch      the case lines.
+     */
+    private void runBatch(Connection connection, String batch) {
+        int cases = 0;
+        OutputConsumer outputConsumer = new FrameOutputConsumer(connection);
+        try (InputProvider inputProvider = pipeline.adaptInputProvider(
+                new BaseBufferReaderInputProvider(new BufferedReader(new StringReader(batch))) {
+                })) {
+            while (!connection.closed) {
+                String input = pipeline.readNextInput(inputProvider);
+                if (inputProvider.isEnd(input)) {
+                    break;
+                }
+                cases++;
+                try {
+                    pipeline.process(input, outputConsumer);
+                } catch (Exception | Error err) {
+                    // Report the case error and move on to the next case.
+                    connection.send(ERROR, Objects.toString(err.getMessage(), err.toString()));
+                }
+            }
+        } catch (Exception | Error err) {
+            connection.send(ERROR, Objects.toString(err.getMessage(), err.toString()));
+        }
+        connection.send(DONE, Integer.toString(cases));
+    }
+
+    /**
+     * Bind a server channel to the address.
+     *
+     * @param address     the server address.
+     * @param socketPaths the bound Unix domain socket paths.
+     * @return the bound server channel.
+     * @throws Exception if the server channel cannot be bound.
+     */
+    private static ServerSocketChannel bind(String address, List<Path> socketPaths) throws Exception {
+        AssertUtil.nonNull(address, "The server address cannot be null.");
+        if (address.startsWith(TCP_SCHEME)) {
+            String hostPort = address.substring(TCP_SCHEME.length());
+            int colon = hostPort.lastIndexOf(':');
+            AssertUtil.isTrue(colon > 0, "The TCP server address must be tcp://host:port: " + address);
+            InetAddress host = InetAddress.getByName(hostPort.substring(0, colon));
+            // The cases run arbitrary code of the AT, so never expose the server to the network.
+            AssertUtil.isTrue(host.isLoopbackAddress(), "The TCP server address must be a loopback address: "
+                    + address);
+            ServerSocketChannel serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(host, Integer.parseInt(hostPort.substring(colon + 1))));
+            return serverChannel;
+        }
+        if (address.startsWith(UNIX_SCHEME)) {
+            Path socketPath = Paths.get(address.substring(UNIX_SCHEME.length()));
+            ProtocolFamily unixFamily;
+            SocketAddress socketAddress;
+            ServerSocketChannel serverChannel;
+            try {
+                // The Unix domain socket channels are available since Java 16.
+                unixFamily = StandardProtocolFamily.valueOf("UNIX");
+                socketAddress = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                        .getMethod("of", Path.class).invoke(null, socketPath);
+                serverChannel = (ServerSocketChannel) ServerSocketChannel.class.getMethod("open",
+                        ProtocolFamily.class).invoke(null, unixFamily);
+            } catch (IllegalArgumentException | ReflectiveOperationException exception) {
+                throw new RuntimeException("The Unix domain socket server needs Java 16 or later: " + address,
+                        exception);
+            }
+            // Remove the stale socket file left by the last server.
+            if (Files.exists(socketPath, LinkOption.NOFOLLOW_LINKS) && Files.readAttributes(socketPath,
+                    BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther()) {
+                Files.delete(socketPath);
+            }
+            serverChannel.bind(socketAddress);
+            socketPaths.add(socketPath);
+            return serverChannel;
+        }
+        throw new RuntimeException("Unsupported server address: " + address);
+    }
+
+    /**
+     * <p>Connection is a client connection of the server.</p>
+     * <p>It's read and written only by the selector thread, while the
+     * responses are enqueued by the runner thread.</p>
+     */
+    private final class Connection {
+
+        /**
+         * The client channel.
+         */
+        private final SocketChannel channel;
+
+        /**
+         * The selection key of the channel.
+         */
+        private final SelectionKey key;
+
+        /**
+         * The enqueued response frames.
+         */
+        private final Queue<ByteBuffer> responses = new ConcurrentLinkedQueue<>();
+
+        /**
+         * The buffer of the incomplete request frames.
+         */
+        private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_READ_BUFFER_CAPACITY);
+
+        /**
+         * Whether the connection is closed.
+         */
+        private volatile boolean closed;
+
+        /**
+         * Create a Connection instance.
+         *
+         * @param channel the client channel.
+         * @param key     the selection key of the channel.
+         */
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        /**
+         * Read the available bytes and decode the complete request frames.
+         *
+         * @return the case batches of the complete request frames.
+         * @throws IOException if the channel cannot be read or a frame is malformed.
+         */
+        List<String> read() throws IOException {
+            List<String> batches = new ArrayList<>();
+            if (channel.read(readBuffer) < 0) {
+                close();
+                return batches;
+            }
+            readBuffer.flip();
+            while (readBuffer.remaining() >= Integer.BYTES) {
+                int length = readBuffer.getInt(readBuffer.position());
+                if (length < 0 || length > MAX_FRAME_LENGTH) {
+                    throw new IOException("Illegal request frame length: " + length);
+                }
+                if (readBuffer.remaining() < Integer.BYTES + length) {
+                    if (readBuffer.capacity() < Integer.BYTES + length) {
+                        // Grow the buffer to hold the whole frame.
+                        ByteBuffer grownBuffer = ByteBuffer.allocate(Math.max(readBuffer.capacity() * 2,
+                                Integer.BYTES + length));
+                        grownBuffer.put(readBuffer);
+                        grownBuffer.flip();
+                        readBuffer = grownBuffer;
+                    }
+                    break;
+                }
+                readBuffer.position(readBuffer.position() + Integer.BYTES);
+                batches.add(new String(readBuffer.array(), readBuffer.arrayOffset() + readBuffer.position(), length,
+                        StandardCharsets.UTF_8));
+                readBuffer.position(readBuffer.position() + length);
+            }
+            readBuffer.compact();
+            return batches;
+        }
+
+        /**
+         * Write the enqueued response frames as many as possible.
+         *
+         * @throws IOException if the channel cannot be written.
+         */
+        void write() throws IOException {
+            ByteBuffer response;
+            while (Objects.nonNull(response = responses.peek())) {
+                channel.write(response);
+                if (response.hasRemaining()) {
+                    // The socket buffer is full, wait for the next writable event.
+                    return;
+                }
+                responses.poll();
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        }
+
+        /**
+         * Enqueue a response frame and wake up the selector to write it.
+         *
+         * @param type    the response frame type.
+         * @param payload the response payload.
+         */
+        void send(char type, String payload) {
+            if (closed) {
+                return;
+            }
+            byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES + 1 + bytes.length);
+            frame.putInt(1 + bytes.length).put((byte) type).put(bytes).flip();
+            responses.add(frame);
+            pendingWrites.add(this);
+            selector.wakeup();
+        }
+
+        /**
+         * Close the connection.
+         */
+        void close() {
+            closed = true;
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The connection is closed anyway.
+            }
+        }
+    }
+
+    /**
+     * <p>FrameOutputConsumer is an {@link OutputConsumer}
+     * sending each output as a response frame.</p>
+     */
+    private static final class FrameOutputConsumer implements OutputConsumer {
+
+        /**
+         * The connection of the batch.
+         */
+        private final Connection connection;
+
+        /**
+         * The builder of the streaming output.
+         */
+        private final StringBuilder outputBuilder = new StringBuilder();
+
+        /**
+         * Create a FrameOutputConsumer instance.
+         *
+         * @param connection the connection of the batch.
+         */
+        FrameOutputConsumer(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Consume a string output from method calls.
+         *
+         * @param output a string output.
+         */
+        @Override
+        public void consumeNextOutput(String output) {
+            connection.send(OUTPUT, output);
+        }
+
+        /**
+         * Begin to consume the next output in streaming mode.
+         *
+         * @return the Appendable of the next output.
+         */
+        @Override
+        public Appendable beginNextOutput() {
+            outputBuilder.setLength(0);
+            return outputBuilder;
+        }
+
+        /**
+         * End to consume the next output in streaming mode.
+         */
+        @Override
+        public void endNextOutput() {
+            connection.send(OUTPUT, outputBuilder.toString());
+        }
+
+        /**
+         * Nothing to close, the connection outlives the batch.
+         */
+        @Override
+        public void close() {
+        }
+    }
+}
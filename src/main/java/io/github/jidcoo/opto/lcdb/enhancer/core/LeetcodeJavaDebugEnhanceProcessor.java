@@ -16,18 +16,15 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.core;
 
-import io.github.jidcoo.opto.lcdb.enhancer.core.parser.InputParserProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ContainerCheckUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
 import io.github.jidcoo.opto.lcdb.enhancer.base.InputProvider;
 import io.github.jidcoo.opto.lcdb.enhancer.base.OutputConsumer;
-import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeExecutorFactory;
-import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeExecutorProcessor;
 import io.github.jidcoo.opto.lcdb.enhancer.core.io.IOFactory;
-import io.github.jidcoo.opto.lcdb.enhancer.core.parser.InputParserFactory;
-import io.github.jidcoo.opto.lcdb.enhancer.core.printer.OutputPrinterFactory;
-import io.github.jidcoo.opto.lcdb.enhancer.core.printer.OutputPrinterProcessor;
+
+import java.util.Objects;
 
 /**
  * <p>LeetcodeJavaDebugEnhanceProcessor is a primary enhancer.</p>
@@ -56,39 +53,66 @@ public class LeetcodeJavaDebugEnhanceProcessor {
         // Setup EnhancerLog log level.
         EnhancerLogUtil.setLogLevel(enhancer.getEnhancerLogLevel());
 
+        if (!ContainerCheckUtil.isListEmpty(enhancer.getServerAddresses())) {
+            // Keep the JVM warm and serve the cases from other processes.
+            EnhancerLogUtil.logI("Starting case server at (AT) class: %s", AT.getSimpleName());
+            new LeetcodeCaseServer(AT, enhancer).run();
+            return;
+        }
+        if (enhancer.isHotReloadEnabled()) {
+            // Keep the JVM warm and run the cases again after each change.
+            EnhancerLogUtil.logI("Starting hot reload daemon at (AT) class: %s", AT.getSimpleName());
+            new HotReloadDaemon(AT, enhancer).run();
+            return;
+        }
+        process(AT, enhancer);
+    }
+
+    /**
+     * Do leetcode debugging enhance process once with an <tt>AT</tt>
+     * class and its instance enhancer.
+     *
+     * @param AT       the <tt>AT</tt> class.
+     * @param enhancer the <tt>AT</tt> instance enhancer.
+     */
+    static void process(Class<? extends LeetcodeJavaDebugEnhancer> AT, LeetcodeJavaDebugEnhancer enhancer)
+            throws Exception, Error {
         EnhancerLogUtil.logI("Starting do debugging enhance at (AT) class: %s", AT.getSimpleName());
-        // Create a LeetcodeExecutor from the enhancer.
-        Object leetcodeExecutor = LeetcodeExecutorFactory.getLeetcodeExecutor(enhancer);
-        // Create an OutputPrinter from the enhancer.
-        Object outputPrinter = OutputPrinterFactory.getOutputPrinter(enhancer);
-        // Create a InputParser from the enhancer.
-        Object inputParser = InputParserFactory.getInputParser(enhancer);
+        // Create a LeetcodeCasePipeline from the enhancer.
+        LeetcodeCasePipeline pipeline = new LeetcodeCasePipeline(enhancer);
 
         try (
                 // Get or create a InputProvider from the enhancer.
-                InputProvider inputProvider = IOFactory.getInputProvider(enhancer);
+                InputProvider inputProvider = pipeline.adaptInputProvider(IOFactory.getInputProvider(enhancer));
                 // Get or create OutputConsumer from the enhancer.
                 OutputConsumer outputConsumer = IOFactory.getOutputConsumer(enhancer)
 
         ) {
             // Now we can happily run the io loop to perform leetcode debugging enhancements.
             EnhancerLogUtil.logI("Running leetcode debugging enhancer at (AT) class: %s", AT.getSimpleName());
-            while (true) {
-                // Provide the next string input from the InputProvider.
-                String input = inputProvider.provideNextInput();
-                // We need to break this loop when the input indicates end.
-                if (inputProvider.isEnd(input)) {
-                    break;
+            if (pipeline.isPipelined()) {
+                // Parse, execute and print the cases on three overlapping stages.
+                new PipelinedCaseRunner(pipeline, enhancer.getCaseStackSize()).run(inputProvider, outputConsumer);
+            } else {
+                while (true) {
+                    // Provide the next string input from the InputProvider.
+                    String input = pipeline.readNextInput(inputProvider);
+                    // We need to break this loop when the input indicates end.
+                    if (inputProvider.isEnd(input)) {
+                        break;
+                    }
+                    // Parse, execute and print the case.
+                    pipeline.process(input, outputConsumer);
                 }
-                // Parse the string input to input object.
-                Object inputObject = InputParserProcessor.process(inputParser, leetcodeExecutor, input);
-                // Execute leetcode target and get the output object.
-                Object outputObject = LeetcodeExecutorProcessor.process(leetcodeExecutor, inputObject);
-                // Print the output object.
-                String output = OutputPrinterProcessor.process(outputPrinter, leetcodeExecutor, outputObject);
-                // Consume the next output string to the OutputConsumer.
-                outputConsumer.consumeNextOutput(output);
             }
+            String metricsSummary = pipeline.getMetricsSummary();
+            if (Objects.nonNull(metricsSummary)) {
+                // Print the stage summary aside from the outputs.
+                System.err.print(metricsSummary);
+            }
+        } finally {
+            // Stop the case worker thread and the Solution instance prefetcher.
+            pipeline.shutdown();
         }
 
         // Now, the enhancement work has ended here. It's time to say goodbye.
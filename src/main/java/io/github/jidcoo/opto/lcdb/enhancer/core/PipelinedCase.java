@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core;
+
+import java.lang.reflect.Method;
+
+/**
+ * <p>PipelinedCase is a case handed between the stages
+ * of the {@link PipelinedCaseRunner}.</p>
+ *
+ * <p>The parser stage sets the input object and the matched
+ * leetcode invoker, because the shared leetcode case context
+ * may already hold the invoker of a case parsed ahead when the
+ * case is executed. The executor stage sets either the output
+ * object or the message printed in place of it, unless the parser
+ * stage has served the output from the result cache. A failed stage
+ * sets the error, which is rethrown by the printer stage after
+ * the outputs of the previous cases. If the stages are recorded,
+ * the case carries its own case recorder through the stages.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+final class PipelinedCase {
+
+    /**
+     * The end marker of the cases.
+     */
+    static final PipelinedCase END = new PipelinedCase(null, null);
+
+    /**
+     * The string input.
+     */
+    private final String input;
+
+    /**
+     * The case recorder of the stages, or null if the stages are not recorded.
+     */
+    private final Object stageRecorder;
+
+    /**
+     * The input object.
+     */
+    private Object inputObject;
+
+    /**
+     * The leetcode invoker matched for the input.
+     */
+    private Method invoker;
+
+    /**
+     * The output object.
+     */
+    private Object outputObject;
+
+    /**
+     * The message printed in place of the output, e.g. the time limit exceeded message.
+     */
+    private String message;
+
+    /**
+     * The output served from the result cache.
+     */
+    private String cachedOutput;
+
+    /**
+     * The error of the failed stage.
+     */
+    private Throwable error;
+
+    /**
+     * Create a PipelinedCase instance.
+     *
+     * @param input         the string input.
+     * @param stageRecorder the case recorder of the stages, or null if the stages are not recorded.
+     */
+    PipelinedCase(String input, Object stageRecorder) {
+        this.input = input;
+        this.stageRecorder = stageRecorder;
+    }
+
+    /**
+     * Get the string input.
+     *
+     * @return the string input.
+     */
+    String getInput() {
+        return input;
+    }
+
+    /**
+     * Get the case recorder of the stages.
+     *
+     * @return the case recorder, or null if the stages are not recorded.
+     */
+    Object getStageRecorder() {
+        return stageRecorder;
+    }
+
+    /**
+     * Get the input object.
+     *
+     * @return the input object.
+     */
+    Object getInputObject() {
+        return inputObject;
+    }
+
+    /**
+     * Get the leetcode invoker matched for the input.
+     *
+     * @return the leetcode invoker.
+     */
+    Method getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Set the input object and the leetcode invoker matched for it.
+     *
+     * @param inputObject the input object.
+     * @param invoker     the leetcode invoker.
+     */
+    void setParsed(Object inputObject, Method invoker) {
+        this.inputObject = inputObject;
+        this.invoker = invoker;
+    }
+
+    /**
+     * Get the output object.
+     *
+     * @return the output object.
+     */
+    Object getOutputObject() {
+        return outputObject;
+    }
+
+    /**
+     * Set the output object.
+     *
+     * @param outputObject the output object.
+     */
+    void setOutputObject(Object outputObject) {
+        // Release the input object as soon as it's executed.
+        this.inputObject = null;
+        this.outputObject = outputObject;
+    }
+
+    /**
+     * Get the message printed in place of the output.
+     *
+     * @return the message, or null if the output is printed.
+     */
+    String getMessage() {
+        return message;
+    }
+
+    /**
+     * Set the message printed in place of the output.
+     *
+     * @param message the message.
+     */
+    void setMessage(String message) {
+        this.inputObject = null;
+        this.message = message;
+    }
+
+    /**
+     * Get the output served from the result cache.
+     *
+     * @return the cached output, or null if the case is not cached.
+     */
+    String getCachedOutput() {
+        return cachedOutput;
+    }
+
+    /**
+     * Set the output served from the result cache.
+     *
+     * @param cachedOutput the cached output.
+     */
+    void setCachedOutput(String cachedOutput) {
+        this.cachedOutput = cachedOutput;
+    }
+
+    /**
+     * Get the error of the failed stage.
+     *
+     * @return the error, or null if no stage failed.
+     */
+    Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Set the error of the failed stage.
+     *
+     * @param error the error.
+     */
+    void setError(Throwable error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.InputProvider;
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputConsumer;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+
+/**
+ * <p>PipelinedCaseRunner is a runner processing the cases
+ * of a {@link LeetcodeCasePipeline} in three concurrent stages.</p>
+ *
+ * <p>The parser thread reads and parses the cases ahead, the
+ * executor thread executes them strictly in order on the leetcode
+ * instance, and the caller thread prints and consumes their
+ * outputs in order. The stages are connected by the bounded
+ * {@link SpscBoundedQueue}s, so a fast stage waits for a slow one
+ * instead of piling up the parsed inputs or the outputs. Then the
+ * throughput approaches the slowest stage instead of the sum of
+ * all stages, e.g. parsing a giant input overlaps with executing
+ * the previous case.</p>
+ *
+ * <p>A failed case is handed over to the printer stage, which
+ * rethrows its error after the outputs of the previous cases and
+ * stops the other stages.</p>
+ *
+ * @author Jidcoo
+ * @see LeetcodeJavaDebugEnhanceProcessor
+ * @since 1.1
+ */
+final class PipelinedCaseRunner {
+
+    /**
+     * The capacity of the queues between the stages.
+     */
+    private static final int QUEUE_CAPACITY = 16;
+
+    /**
+     * The parser thread name.
+     */
+    private static final String PARSER_THREAD_NAME = "LeetcodeCaseParser";
+
+    /**
+     * The executor thread name.
+     */
+    private static final String EXECUTOR_THREAD_NAME = "LeetcodeCaseExecutor";
+
+    /**
+     * The LeetcodeCasePipeline instance.
+     */
+    private final LeetcodeCasePipeline pipeline;
+
+    /**
+     * The stack size of the executor thread in bytes.
+     * Use the JVM default stack size if it's not greater than 0.
+     */
+    private final long executorStackSize;
+
+    /**
+     * Create a PipelinedCaseRunner instance.
+     *
+     * @param pipeline          the LeetcodeCasePipeline instance.
+     * @param executorStackSize the stack size of the executor thread in bytes.
+     */
+    PipelinedCaseRunner(LeetcodeCasePipeline pipeline, long executorStackSize) {
+        this.pipeline = pipeline;
+        this.executorStackSize = executorStackSize;
+    }
+
+    /**
+     * Run all cases from the InputProvider and consume their
+     * outputs to the OutputConsumer.
+     *
+     * @param inputProvider  the adapted InputProvider instance.
+     * @param outputConsumer the OutputConsumer instance.
+     */
+    void run(InputProvider inputProvider, OutputConsumer outputConsumer) {
+        SpscBoundedQueue<PipelinedCase> parsedCases = new SpscBoundedQueue<>(QUEUE_CAPACITY);
+        SpscBoundedQueue<PipelinedCase> executedCases = new SpscBoundedQueue<>(QUEUE_CAPACITY);
+        startStage(PARSER_THREAD_NAME, 0, () -> parseCases(inputProvider, parsedCases));
+        startStage(EXECUTOR_THREAD_NAME, executorStackSize, () -> executeCases(parsedCases, executedCases));
+        try {
+            // Print the cases on the caller thread in the order of the input.
+            while (true) {
+                PipelinedCase pipelinedCase = executedCases.take();
+                if (pipelinedCase == PipelinedCase.END) {
+                    break;
+                }
+                try {
+                    rethrow(pipelinedCase.getError());
+                    pipeline.print(pipelinedCase, outputConsumer);
+                } finally {
+                    // Call back the pipeline listeners with the whole case on this thread.
+                    pipeline.replay(pipelinedCase);
+                }
+            }
+        } finally {
+            // Stop the stages still running, e.g. after a failed case.
+            parsedCases.cancel();
+            executedCases.cancel();
+        }
+    }
+
+    /**
+     * Read and parse the cases until the end or a failed case.
+     *
+     * @param inputProvider the adapted InputProvider instance.
+     * @param parsedCases   the queue of the parsed cases.
+     */
+    private void parseCases(InputProvider inputProvider, SpscBoundedQueue<PipelinedCase> parsedCases) {
+        while (true) {
+            PipelinedCase pipelinedCase = parseNextCase(inputProvider);
+            parsedCases.put(pipelinedCase);
+            if (pipelinedCase == PipelinedCase.END || Objects.nonNull(pipelinedCase.getError())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Read and parse the next case.
+     *
+     * @param inputProvider the adapted InputProvider instance.
+     * @return the parsed case, the failed case or {@link PipelinedCase#END}.
+     */
+    private PipelinedCase parseNextCase(InputProvider inputProvider) {
+        PipelinedCase pipelinedCase = pipeline.readNextCase(inputProvider);
+        if (pipelinedCase != PipelinedCase.END && Objects.isNull(pipelinedCase.getError())) {
+            try {
+                pipeline.parse(pipelinedCase);
+            } catch (RuntimeException | Error throwable) {
+                pipelinedCase.setError(throwable);
+            }
+        }
+        return pipelinedCase;
+    }
+
+    /**
+     * Execute the parsed cases in order until the end or a failed case.
+     *
+     * @param parsedCases   the queue of the parsed cases.
+     * @param executedCases the queue of the executed cases.
+     */
+    private void executeCases(SpscBoundedQueue<PipelinedCase> parsedCases,
+                              SpscBoundedQueue<PipelinedCase> executedCases) {
+        while (true) {
+            PipelinedCase pipelinedCase = parsedCases.take();
+            if (pipelinedCase != PipelinedCase.END && Objects.isNull(pipelinedCase.getError())) {
+                try {
+                    pipeline.execute(pipelinedCase);
+                } catch (RuntimeException | Error throwable) {
+                    pipelinedCase.setError(throwable);
+                }
+            }
+            executedCases.put(pipelinedCase);
+            if (pipelinedCase == PipelinedCase.END || Objects.nonNull(pipelinedCase.getError())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Start a stage on a daemon thread. The stage quits silently
+     * when its queues are cancelled by the printer stage.
+     *
+     * @param name      the thread name.
+     * @param stackSize the stack size of the thread in bytes.
+     * @param stage     the stage.
+     */
+    private static void startStage(String name, long stackSize, Runnable stage) {
+        Thread thread = new Thread(null, () -> {
+            try {
+                stage.run();
+            } catch (CancellationException ignored) {
+                // The run has stopped.
+            }
+        }, name, Math.max(stackSize, 0));
+        // The parser thread may block on reading the console input forever.
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Rethrow the error of a failed case on the caller thread.
+     *
+     * @param error the error, or null if the case succeeded.
+     */
+    private static void rethrow(Throwable error) {
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>SpscBoundedQueue is a bounded single-producer
+ * single-consumer queue connecting two stages of the
+ * {@link PipelinedCaseRunner}.</p>
+ *
+ * <p>The elements are kept in a power-of-two ring. The producer
+ * only writes the tail and the consumer only writes the head,
+ * so both sides publish their progress without a lock or CAS,
+ * and each side caches the last seen progress of the other side
+ * to touch its cache line only when the ring looks full or
+ * empty.</p>
+ *
+ * <p>The blocking {@link #put(Object)} and {@link #take()} spin
+ * briefly and then park until the other side signals its
+ * progress, so that a fast stage waits for a slow one without
+ * burning a core. The waiting side announces itself before it
+ * re-checks the ring, and the other side checks the announced
+ * waiter after it publishes its progress, so that a signal is
+ * never lost. Both of them throw a {@link CancellationException}
+ * once the queue is cancelled.</p>
+ *
+ * @param <E> the element type.
+ * @author Jidcoo
+ * @since 1.1
+ */
+final class SpscBoundedQueue<E> {
+
+    /**
+     * The idle rounds spinning before parking.
+     */
+    private static final int SPIN_ROUNDS = 64;
+
+    /**
+     * The ring of the elements.
+     */
+    private final Object[] ring;
+
+    /**
+     * The index mask of the ring.
+     */
+    private final int mask;
+
+    /**
+     * The next position to take, written by the consumer only.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The next position to put, written by the producer only.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The producer's cache of the head.
+     */
+    private long headCache;
+
+    /**
+     * The consumer's cache of the tail.
+     */
+    private long tailCache;
+
+    /**
+     * The producer parked on the full ring, or null.
+     */
+    private volatile Thread waitingProducer;
+
+    /**
+     * The consumer parked on the empty ring, or null.
+     */
+    private volatile Thread waitingConsumer;
+
+    /**
+     * Whether the queue is cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Create a SpscBoundedQueue instance.
+     *
+     * @param capacity the capacity, rounded up to a power of two.
+     */
+    SpscBoundedQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.ring = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Offer an element if the queue is not full.
+     * It's called by the producer only.
+     *
+     * @param element the element.
+     * @return true if the element is offered.
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        if (position - headCache >= ring.length) {
+            headCache = head.get();
+            if (position - headCache >= ring.length) {
+                return false;
+            }
+        }
+        ring[(int) position & mask] = element;
+        // Publish the element to the consumer before checking the waiting consumer.
+        tail.set(position + 1);
+        return true;
+    }
+
+    /**
+     * Poll an element if the queue is not empty.
+     * It's called by the consumer only.
+     *
+     * @return the element, or null if the queue is empty.
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long position = head.get();
+        if (position >= tailCache) {
+            tailCache = tail.get();
+            if (position >= tailCache) {
+                return null;
+            }
+        }
+        int index = (int) position & mask;
+        E element = (E) ring[index];
+        ring[index] = null;
+        // Release the slot to the producer before checking the waiting producer.
+        head.set(position + 1);
+        return element;
+    }
+
+    /**
+     * Put an element, waiting while the queue is full.
+     * It's called by the producer only.
+     *
+     * @param element the element.
+     * @throws CancellationException if the queue is cancelled.
+     */
+    void put(E element) {
+        for (int idleRounds = 0; !offer(element); idleRounds++) {
+            checkCancelled();
+            if (idleRounds < SPIN_ROUNDS) {
+                continue;
+            }
+            waitingProducer = Thread.currentThread();
+            // Re-check after announcing, since the consumer may have taken in between.
+            if (tail.get() - head.get() >= ring.length && !cancelled) {
+                LockSupport.park(this);
+            }
+            waitingProducer = null;
+        }
+        LockSupport.unpark(waitingConsumer);
+    }
+
+    /**
+     * Take an element, waiting while the queue is empty.
+     * It's called by the consumer only.
+     *
+     * @return the element.
+     * @throws CancellationException if the queue is cancelled.
+     */
+    E take() {
+        E element;
+        for (int idleRounds = 0; (element = poll()) == null; idleRounds++) {
+            checkCancelled();
+            if (idleRounds < SPIN_ROUNDS) {
+                continue;
+            }
+            waitingConsumer = Thread.currentThread();
+            // Re-check after announcing, since the producer may have put in between.
+            if (head.get() >= tail.get() && !cancelled) {
+                LockSupport.park(this);
+            }
+            waitingConsumer = null;
+        }
+        LockSupport.unpark(waitingProducer);
+        return element;
+    }
+
+    /**
+     * Cancel the queue and wake up the waiting sides, which give up then.
+     */
+    void cancel() {
+        cancelled = true;
+        LockSupport.unpark(waitingProducer);
+        LockSupport.unpark(waitingConsumer);
+    }
+
+    /**
+     * Check whether the queue is cancelled.
+     *
+     * @throws CancellationException if the queue is cancelled.
+     */
+    private void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException("The queue is cancelled.");
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.cache;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>ResultCache is an on-disk cache of the printed
+ * outputs of the cases, addressed by their content.</p>
+ *
+ * <p>The key of a case is the first 128 bits of the SHA-256 of
+ * the {@link SolutionCodeDigest} and the string input, so the
+ * cases are served from the cache until the code of the
+ * <tt>AT</tt> class changes.</p>
+ *
+ * <p>The outputs are appended to the segment file
+ * {@value #SEGMENT_FILE_NAME}, and the fixed-size entries of
+ * their keys, offsets and lengths are appended to the index file
+ * {@value #INDEX_FILE_NAME}, which is loaded into memory when
+ * the cache is opened. The segment is always written before the
+ * index, so a torn write of an interrupted run leaves at most an
+ * unreferenced tail of the segment and a partial index entry,
+ * which are ignored.</p>
+ *
+ * <p>ResultCache is thread-safe, e.g. the parser and the printer
+ * stage of the pipelined mode may look up and store the outputs
+ * concurrently. The cache directory is locked while it's open.</p>
+ *
+ * @author Jidcoo
+ * @see ResultCacheFactory
+ * @since 1.1
+ */
+final class ResultCache {
+
+    /**
+     * The segment file name.
+     */
+    private static final String SEGMENT_FILE_NAME = "results.seg";
+
+    /**
+     * The index file name.
+     */
+    private static final String INDEX_FILE_NAME = "results.idx";
+
+    /**
+     * The size of an index entry, i.e. the 128-bit key, the long offset and the int length.
+     */
+    private static final int INDEX_ENTRY_SIZE = 28;
+
+    /**
+     * The size of the write buffers.
+     */
+    private static final int BUFFER_SIZE = 64 << 10;
+
+    /**
+     * The digest of the code of the <tt>AT</tt> class.
+     */
+    private final byte[] codeDigest;
+
+    /**
+     * The MessageDigest instance of the keys.
+     */
+    private final MessageDigest keyDigest = SolutionCodeDigest.newMessageDigest();
+
+    /**
+     * The segment file channel.
+     */
+    private final FileChannel segment;
+
+    /**
+     * The index file channel.
+     */
+    private final FileChannel index;
+
+    /**
+     * The lock of the cache directory.
+     */
+    private final FileLock lock;
+
+    /**
+     * The locations of the cached outputs by their keys.
+     */
+    private final Map<Key, Location> locations = new HashMap<>();
+
+    /**
+     * The buffered outputs to append to the segment.
+     */
+    private final ByteBuffer segmentBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * The buffered entries to append to the index.
+     */
+    private final ByteBuffer indexBuffer = ByteBuffer.allocate(BUFFER_SIZE / INDEX_ENTRY_SIZE * INDEX_ENTRY_SIZE);
+
+    /**
+     * The size of the segment written to the file.
+     */
+    private long segmentFlushedSize;
+
+    /**
+     * The count of the outputs served from the cache.
+     */
+    private long hitCount;
+
+    /**
+     * The count of the outputs stored into the cache.
+     */
+    private long storeCount;
+
+    /**
+     * Open a ResultCache instance in the directory.
+     *
+     * @param directory  the cache directory.
+     * @param codeDigest the digest of the code of the <tt>AT</tt> class.
+     * @throws IOException if the cache cannot be opened, e.g. it's locked by another run.
+     */
+    ResultCache(String directory, byte[] codeDigest) throws IOException {
+        this.codeDigest = codeDigest;
+        Path directoryPath = Paths.get(directory);
+        Files.createDirectories(directoryPath);
+        this.index = FileChannel.open(directoryPath.resolve(INDEX_FILE_NAME), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileLock indexLock;
+        try {
+            indexLock = index.tryLock();
+        } catch (IOException | RuntimeException exception) {
+            index.close();
+            throw exception;
+        }
+        if (Objects.isNull(indexLock)) {
+            index.close();
+            throw new IOException("The result cache is locked by another run: " + directory);
+        }
+        this.lock = indexLock;
+        this.segment = FileChannel.open(directoryPath.resolve(SEGMENT_FILE_NAME), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.segmentFlushedSize = segment.size();
+        load();
+    }
+
+    /**
+     * Load the index entries referencing the written outputs.
+     *
+     * @throws IOException if the index cannot be read.
+     */
+    private void load() throws IOException {
+        // Drop the partial entry of a torn write.
+        long indexSize = index.size() / INDEX_ENTRY_SIZE * INDEX_ENTRY_SIZE;
+        index.truncate(indexSize);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(indexSize, indexBuffer.capacity()));
+        for (long position = 0; position < indexSize; ) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), indexSize - position));
+            while (buffer.hasRemaining()) {
+                position += index.read(buffer, position);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                Key key = new Key(buffer.getLong(), buffer.getLong());
+                Location location = new Location(buffer.getLong(), buffer.getInt());
+                if (location.offset + location.length <= segmentFlushedSize) {
+                    locations.put(key, location);
+                }
+            }
+        }
+        index.position(indexSize);
+        segment.position(segmentFlushedSize);
+    }
+
+    /**
+     * Get the cached output of the input.
+     *
+     * @param input the string input.
+     * @return the cached output, or null if the output is not cached.
+     */
+    synchronized String get(String input) {
+        Location location = locations.get(keyOf(input));
+        if (Objects.isNull(location)) {
+            return null;
+        }
+        try {
+            if (location.offset + location.length > segmentFlushedSize) {
+                // The output is stored by this run but still buffered.
+                flush();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(location.length);
+            for (long position = location.offset; buffer.hasRemaining(); ) {
+                int read = segment.read(buffer, position);
+                if (read < 0) {
+                    return null;
+                }
+                position += read;
+            }
+            hitCount++;
+            return new String(buffer.array(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            EnhancerLogUtil.logW("Cannot read the result cache: %s", exception);
+            return null;
+        }
+    }
+
+    /**
+     * Store the output of the input.
+     *
+     * @param input  the string input.
+     * @param output the printed output.
+     */
+    synchronized void put(String input, String output) {
+        Key key = keyOf(input);
+        if (locations.containsKey(key)) {
+            return;
+        }
+        byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+        try {
+            long offset = segmentFlushedSize + segmentBuffer.position();
+            if (bytes.length > segmentBuffer.remaining()) {
+                flush();
+            }
+            if (bytes.length > segmentBuffer.capacity()) {
+                // Write the giant output directly.
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    segmentFlushedSize += segment.write(buffer);
+                }
+            } else {
+                segmentBuffer.put(bytes);
+            }
+            if (indexBuffer.remaining() < INDEX_ENTRY_SIZE) {
+                flush();
+            }
+            indexBuffer.putLong(key.high).putLong(key.low).putLong(offset).putInt(bytes.length);
+            locations.put(key, new Location(offset, bytes.length));
+            storeCount++;
+        } catch (IOException exception) {
+            EnhancerLogUtil.logW("Cannot write the result cache: %s", exception);
+        }
+    }
+
+    /**
+     * Flush the buffered outputs and then their index entries.
+     *
+     * @throws IOException if the cache cannot be written.
+     */
+    private void flush() throws IOException {
+        segmentBuffer.flip();
+        while (segmentBuffer.hasRemaining()) {
+            segmentFlushedSize += segment.write(segmentBuffer);
+        }
+        segmentBuffer.clear();
+        indexBuffer.flip();
+        while (indexBuffer.hasRemaining()) {
+            index.write(indexBuffer);
+        }
+        indexBuffer.clear();
+    }
+
+    /**
+     * Flush the cache and release the cache directory.
+     */
+    synchronized void close() {
+        try {
+            flush();
+        } catch (IOException exception) {
+            EnhancerLogUtil.logW("Cannot write the result cache: %s", exception);
+        }
+        try {
+            lock.release();
+            segment.close();
+            index.close();
+        } catch (IOException exception) {
+            EnhancerLogUtil.logW("Cannot close the result cache: %s", exception);
+        }
+        EnhancerLogUtil.logI("Result cache: %d outputs served, %d outputs stored.", hitCount, storeCount);
+    }
+
+    /**
+     * Compute the key of the input.
+     *
+     * @param input the string input.
+     * @return the key.
+     */
+    private Key keyOf(String input) {
+        keyDigest.update(codeDigest);
+        byte[] digest = keyDigest.digest(input.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        return new Key(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * <p>Key is the 128-bit key of a cached output.</p>
+     */
+    private static final class Key {
+
+        /**
+         * The high 64 bits.
+         */
+        private final long high;
+
+        /**
+         * The low 64 bits.
+         */
+        private final long low;
+
+        /**
+         * Create a Key instance.
+         *
+         * @param high the high 64 bits.
+         * @param low  the low 64 bits.
+         */
+        Key(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        /**
+         * Check if the key equals another key.
+         *
+         * @param object the other object.
+         * @return true if they are the same key.
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) object;
+            return high == key.high && low == key.low;
+        }
+
+        /**
+         * Get the hash code of the key.
+         *
+         * @return the hash code.
+         */
+        @Override
+        public int hashCode() {
+            // The key is a digest already.
+            return (int) low;
+        }
+    }
+
+    /**
+     * <p>Location is the location of a cached output in the segment.</p>
+     */
+    private static final class Location {
+
+        /**
+         * The offset in the segment.
+         */
+        private final long offset;
+
+        /**
+         * The length in bytes.
+         */
+        private final int length;
+
+        /**
+         * Create a Location instance.
+         *
+         * @param offset the offset in the segment.
+         * @param length the length in bytes.
+         */
+        Location(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
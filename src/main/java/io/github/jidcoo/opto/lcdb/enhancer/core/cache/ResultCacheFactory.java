@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.cache;
+
+import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputPrintingMode;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * <p>ResultCacheFactory is a factory class
+ * to product the {@link ResultCache}
+ * instance.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class ResultCacheFactory {
+
+    /**
+     * Product a ResultCache instance by
+     * {@link LeetcodeJavaDebugEnhancer} instance.
+     *
+     * @param enhancer the LeetcodeJavaDebugEnhancer instance.
+     * @return the ResultCache instance, or null if the
+     * result cache is disabled or cannot be opened.
+     */
+    public static ResultCache getResultCache(LeetcodeJavaDebugEnhancer enhancer) {
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        String directory = enhancer.getResultCacheDirectory();
+        if (Objects.isNull(directory)) {
+            return null;
+        }
+        if (enhancer.isComplexityEstimationEnabled()) {
+            EnhancerLogUtil.logW("The result cache is disabled by the complexity estimation.");
+            return null;
+        }
+        if (enhancer.getOutputPrintingMode() == OutputPrintingMode.HASH) {
+            // The hashed outputs are numbered by the printer.
+            EnhancerLogUtil.logW("The result cache is disabled in the HASH output printing mode.");
+            return null;
+        }
+        // The printed outputs depend on the printer configuration, so an output printed
+        // in the SUMMARY mode must never be served to a run in the FULL mode, and vice versa.
+        String printingConfiguration = enhancer.getOutputPrintingMode() + "," + enhancer.getOutputCharBudget()
+                + "," + enhancer.isOutputOrderInsensitive();
+        byte[] codeDigest = SolutionCodeDigest.digest(enhancer.getClass(), enhancer.getEnhancerVersion(),
+                printingConfiguration);
+        if (Objects.isNull(codeDigest)) {
+            EnhancerLogUtil.logW("The result cache is disabled, because the bytecode of %s cannot be read.",
+                    enhancer.getClass().getName());
+            return null;
+        }
+        try {
+            return new ResultCache(directory, codeDigest);
+        } catch (IOException exception) {
+            EnhancerLogUtil.logW("The result cache is disabled, because it cannot be opened: %s", exception);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.cache;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+/**
+ * <p>ResultCacheProcessor is a publicly available
+ * ResultCache processor. It has used a proxy to
+ * access {@link ResultCache}.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class ResultCacheProcessor {
+
+    /**
+     * Get the cached output of the input from the ResultCache instance.
+     *
+     * @param cache the ResultCache instance.
+     * @param input the string input.
+     * @return the cached output, or null if the output is not cached.
+     */
+    public static String get(Object cache, String input) {
+        AssertUtil.nonNull(cache, "The cache cannot be null.");
+        AssertUtil.nonNull(input, "The input cannot be null.");
+        AssertUtil.isTrue((cache instanceof ResultCache), "The cache is not a ResultCache.");
+        return ((ResultCache) (cache)).get(input);
+    }
+
+    /**
+     * Store the output of the input into the ResultCache instance.
+     *
+     * @param cache  the ResultCache instance.
+     * @param input  the string input.
+     * @param output the printed output.
+     */
+    public static void put(Object cache, String input, String output) {
+        AssertUtil.nonNull(cache, "The cache cannot be null.");
+        AssertUtil.nonNull(input, "The input cannot be null.");
+        AssertUtil.nonNull(output, "The output cannot be null.");
+        AssertUtil.isTrue((cache instanceof ResultCache), "The cache is not a ResultCache.");
+        ((ResultCache) (cache)).put(input, output);
+    }
+
+    /**
+     * Flush the ResultCache instance and release its directory.
+     *
+     * @param cache the ResultCache instance.
+     */
+    public static void close(Object cache) {
+        AssertUtil.nonNull(cache, "The cache cannot be null.");
+        AssertUtil.isTrue((cache instanceof ResultCache), "The cache is not a ResultCache.");
+        ((ResultCache) (cache)).close();
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.cache;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * <p>SolutionCodeDigest is a digest of the code of
+ * an <tt>AT</tt> class, i.e. the SHA-256 of the bytecode
+ * of all classes in the package of the <tt>AT</tt> class.</p>
+ *
+ * <p>The class files are listed from the package directory
+ * or the package entries of the jar file where the <tt>AT</tt>
+ * class is loaded from. So they cover all classes compiled from
+ * the source file of the <tt>AT</tt> class, e.g. the inner class
+ * Solution and a top-level helper class, and the other classes
+ * of the same package. They are digested in the order of their
+ * names, so the digest changes only when the code of one of
+ * them changes.</p>
+ *
+ * <p>If the class files cannot be listed, e.g. the class is
+ * loaded by a custom class loader, only the <tt>AT</tt> class
+ * and its nested classes are digested, with a warning that the
+ * changes of the other classes are not detected.</p>
+ *
+ * @author Jidcoo
+ * @see ResultCache
+ * @since 1.1
+ */
+final class SolutionCodeDigest {
+
+    /**
+     * The digest algorithm.
+     */
+    static final String ALGORITHM = "SHA-256";
+
+    /**
+     * Digest the code of the <tt>AT</tt> class.
+     *
+     * @param AT                    the <tt>AT</tt> class.
+     * @param version               the enhancer version, which affects the printed outputs as well.
+     * @param printingConfiguration the configuration of the output printer, e.g. the output
+     *                              printing mode, which affects the printed outputs as well.
+     * @return the digest, or null if the bytecode of a class cannot be read.
+     */
+    static byte[] digest(Class<?> AT, String version, String printingConfiguration) {
+        Map<String, byte[]> classFiles = readPackageClassFiles(AT);
+        if (Objects.isNull(classFiles)) {
+            EnhancerLogUtil.logW("Cannot list the classes of the package of %s, so the result cache only detects "
+                    + "the changes of the AT class and its nested classes.", AT.getName());
+            classFiles = readNestedClassFiles(AT);
+            if (Objects.isNull(classFiles)) {
+                return null;
+            }
+        }
+        MessageDigest messageDigest = newMessageDigest();
+        messageDigest.update(version.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+        messageDigest.update(printingConfiguration.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+        for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
+            messageDigest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            messageDigest.update(entry.getValue());
+        }
+        return messageDigest.digest();
+    }
+
+    /**
+     * Read the class files in the package of the <tt>AT</tt> class
+     * from the package directory or the jar file it's loaded from.
+     *
+     * @param AT the <tt>AT</tt> class.
+     * @return the bytecode of the class files by their names, or null
+     * if the class files cannot be listed.
+     */
+    private static Map<String, byte[]> readPackageClassFiles(Class<?> AT) {
+        String name = AT.getName();
+        URL classFile = AT.getResource(name.substring(name.lastIndexOf('.') + 1) + ".class");
+        if (Objects.isNull(classFile)) {
+            return null;
+        }
+        Map<String, byte[]> classFiles = new TreeMap<>();
+        try {
+            if ("file".equals(classFile.getProtocol())) {
+                File[] files = new File(classFile.toURI()).getParentFile()
+                        .listFiles((directory, fileName) -> fileName.endsWith(".class"));
+                if (Objects.isNull(files)) {
+                    return null;
+                }
+                for (File file : files) {
+                    try (InputStream inputStream = new FileInputStream(file)) {
+                        classFiles.put(file.getName(), readFully(inputStream));
+                    }
+                }
+                return classFiles;
+            }
+            if ("jar".equals(classFile.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) classFile.openConnection();
+                // Open a private jar file, which can be closed without closing the one of the class loader.
+                connection.setUseCaches(false);
+                String packagePath = connection.getEntryName().substring(0,
+                        connection.getEntryName().lastIndexOf('/') + 1);
+                try (JarFile jarFile = connection.getJarFile()) {
+                    Enumeration<JarEntry> entries = jarFile.entries();
+                    while (entries.hasMoreElements()) {
+                        JarEntry entry = entries.nextElement();
+                        String entryName = entry.getName();
+                        if (entryName.startsWith(packagePath) && entryName.endsWith(".class")
+                                && entryName.indexOf('/', packagePath.length()) < 0) {
+                            try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                                classFiles.put(entryName.substring(packagePath.length()), readFully(inputStream));
+                            }
+                        }
+                    }
+                }
+                return classFiles;
+            }
+        } catch (IOException | URISyntaxException | RuntimeException exception) {
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * Read the class files of the <tt>AT</tt> class and all its nested classes.
+     *
+     * <p>The nested classes are the member classes declared
+     * recursively, e.g. the inner class Solution, and their
+     * anonymous classes.</p>
+     *
+     * @param AT the <tt>AT</tt> class.
+     * @return the bytecode of the class files by the class names, or
+     * null if the bytecode of a class cannot be read.
+     */
+    private static Map<String, byte[]> readNestedClassFiles(Class<?> AT) {
+        Map<String, Class<?>> classes = new TreeMap<>();
+        Deque<Class<?>> pendingClasses = new ArrayDeque<>();
+        pendingClasses.push(AT);
+        while (!pendingClasses.isEmpty()) {
+            Class<?> clazz = pendingClasses.pop();
+            if (Objects.nonNull(classes.put(clazz.getName(), clazz))) {
+                continue;
+            }
+            for (Class<?> declaredClass : clazz.getDeclaredClasses()) {
+                pendingClasses.push(declaredClass);
+            }
+            // The anonymous classes are not declared, so probe them by their names.
+            for (int i = 1; ; i++) {
+                Class<?> anonymousClass = findClass(clazz.getName() + "$" + i, clazz.getClassLoader());
+                if (Objects.isNull(anonymousClass)) {
+                    break;
+                }
+                pendingClasses.push(anonymousClass);
+            }
+        }
+        Map<String, byte[]> classFiles = new TreeMap<>();
+        for (Map.Entry<String, Class<?>> entry : classes.entrySet()) {
+            byte[] bytecode = readBytecode(entry.getValue());
+            if (Objects.isNull(bytecode)) {
+                return null;
+            }
+            classFiles.put(entry.getKey(), bytecode);
+        }
+        return classFiles;
+    }
+
+    /**
+     * Create a MessageDigest instance of the {@value #ALGORITHM} algorithm.
+     *
+     * @return the MessageDigest instance.
+     */
+    static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException exception) {
+            // Every JVM supports SHA-256.
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Find a class without initializing it.
+     *
+     * @param name        the class name.
+     * @param classLoader the class loader.
+     * @return the class, or null if it's not found.
+     */
+    private static Class<?> findClass(String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Read the bytecode of a class from its class file.
+     *
+     * @param clazz the class.
+     * @return the bytecode, or null if the class file is not found.
+     */
+    private static byte[] readBytecode(Class<?> clazz) {
+        String name = clazz.getName();
+        try (InputStream inputStream = clazz.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1)
+                + ".class")) {
+            if (Objects.isNull(inputStream)) {
+                return null;
+            }
+            return readFully(inputStream);
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Read all bytes of an input stream.
+     *
+     * @param inputStream the input stream.
+     * @return the bytes.
+     * @throws IOException if the input stream cannot be read.
+     */
+    private static byte[] readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        for (int read; (read = inputStream.read(buffer)) != -1; ) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.complexity;
+
+/**
+ * <p>ComplexityClass is the complexity class fitted
+ * by the {@link ComplexityEstimator}.</p>
+ *
+ * <p>Each complexity class gives the natural logarithm
+ * of its growth function, so that the timings can be
+ * fitted in the log space.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+enum ComplexityClass {
+
+    /**
+     * O(1).
+     */
+    CONSTANT("O(1)") {
+        @Override
+        double logGrowth(double n) {
+            return 0;
+        }
+    },
+
+    /**
+     * O(log n).
+     */
+    LOGARITHMIC("O(log n)") {
+        @Override
+        double logGrowth(double n) {
+            return Math.log(Math.log(n));
+        }
+    },
+
+    /**
+     * O(n).
+     */
+    LINEAR("O(n)") {
+        @Override
+        double logGrowth(double n) {
+            return Math.log(n);
+        }
+    },
+
+    /**
+     * O(n log n).
+     */
+    LINEARITHMIC("O(n log n)") {
+        @Override
+        double logGrowth(double n) {
+            return Math.log(n) + Math.log(Math.log(n));
+        }
+    },
+
+    /**
+     * O(n^2).
+     */
+    QUADRATIC("O(n^2)") {
+        @Override
+        double logGrowth(double n) {
+            return 2 * Math.log(n);
+        }
+    },
+
+    /**
+     * O(2^n).
+     */
+    EXPONENTIAL("O(2^n)") {
+        @Override
+        double logGrowth(double n) {
+            return n * Math.log(2);
+        }
+    };
+
+    /**
+     * The Big-O notation.
+     */
+    private final String notation;
+
+    /**
+     * Create a ComplexityClass.
+     *
+     * @param notation the Big-O notation.
+     */
+    ComplexityClass(String notation) {
+        this.notation = notation;
+    }
+
+    /**
+     * Get the natural logarithm of the growth function at n.
+     *
+     * @param n the input size.
+     * @return the natural logarithm of the growth function.
+     */
+    abstract double logGrowth(double n);
+
+    /**
+     * Get the Big-O notation.
+     *
+     * @return the Big-O notation.
+     */
+    String getNotation() {
+        return notation;
+    }
+}
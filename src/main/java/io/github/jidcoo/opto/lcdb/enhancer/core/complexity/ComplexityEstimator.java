@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.complexity;
+
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeExecutorProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p>ComplexityEstimator is an empirical complexity
+ * estimator of the leetcode invoker.</p>
+ *
+ * <p>ComplexityEstimator takes the bound arguments of a case
+ * as the seed, scales them by the {@link InputScaler} to the
+ * geometric sizes from {@value #MIN_SIZE} to {@value #MAX_SIZE}
+ * in √10 steps, and executes the leetcode invoker through the
+ * {@link LeetcodeExecutorProcessor} at each size after warmup.
+ * Then it fits the median timings to each {@link ComplexityClass}
+ * in the log space and reports the best fit with its confidence
+ * {@code 1 - RSS(best) / RSS(second best)}.</p>
+ *
+ * <p>The estimation stops early when the next size is predicted
+ * to exceed the remaining time budget, or when a run fails,
+ * e.g. exceeds the case time limit.</p>
+ *
+ * @author Jidcoo
+ * @see ComplexityClass
+ * @see InputScaler
+ * @since 1.1
+ */
+final class ComplexityEstimator {
+
+    /**
+     * The smallest geometric size.
+     */
+    private static final int MIN_SIZE = 100;
+
+    /**
+     * The largest geometric size.
+     */
+    private static final int MAX_SIZE = 1000000;
+
+    /**
+     * The time budget of one estimation in nanoseconds.
+     */
+    private static final long BUDGET_NANOS = 10_000_000_000L;
+
+    /**
+     * The warmup time of each size in nanoseconds.
+     */
+    private static final long WARMUP_NANOS = 50_000_000L;
+
+    /**
+     * The measurement time of each size in nanoseconds.
+     */
+    private static final long MEASURE_NANOS = 100_000_000L;
+
+    /**
+     * The minimum measured runs of each size.
+     */
+    private static final int MIN_RUNS = 3;
+
+    /**
+     * The maximum warmup or measured runs of each size.
+     */
+    private static final int MAX_RUNS = 1000;
+
+    /**
+     * The minimum fitted points.
+     */
+    private static final int MIN_POINTS = 3;
+
+    /**
+     * The sink of the invoker outputs. It keeps the JIT compiler
+     * from eliminating the inlined invoker as dead code.
+     */
+    private static volatile Object sink;
+
+    /**
+     * Estimate the complexity of the leetcode invoker with the seed input.
+     *
+     * @param executor    the LeetcodeExecutor instance.
+     * @param inputObject the bound seed input object.
+     * @return the estimation report, or null if the seed input is not supported.
+     */
+    String estimate(Object executor, Object inputObject) {
+        if (LeetcodeExecutorProcessor.isDesignExecutor(executor) || !(inputObject instanceof Object[])) {
+            EnhancerLogUtil.logW("The complexity estimation does not support the design problem.");
+            return null;
+        }
+        InputScaler scaler = new InputScaler((Object[]) inputObject);
+        if (!scaler.isScalable()) {
+            return "[Complexity] Skipped: no non-empty array, String or List argument to scale.";
+        }
+        List<Integer> sizes = new ArrayList<>();
+        List<Double> timings = new ArrayList<>();
+        String stopReason = null;
+        long budgetDeadline = System.nanoTime() + BUDGET_NANOS;
+        for (int n : resolveSizes(scaler.getSeedSize())) {
+            if (!sizes.isEmpty()) {
+                double predicted = predict(sizes, timings, n);
+                if (System.nanoTime() + predicted * (MIN_RUNS + 1) > budgetDeadline) {
+                    stopReason = String.format(Locale.ROOT, "n = %d is predicted to exceed the time budget", n);
+                    break;
+                }
+            }
+            try {
+                timings.add(measure(executor, scaler, n));
+                sizes.add(n);
+            } catch (RuntimeException exception) {
+                stopReason = String.format(Locale.ROOT, "n = %d failed: %s", n, exception.getMessage());
+                break;
+            }
+        }
+        return report(scaler.getSeedSize(), sizes, timings, stopReason);
+    }
+
+    /**
+     * Resolve the geometric sizes. A seed smaller than {@value #MIN_SIZE}
+     * starts from its own size and doubles up to {@value #MIN_SIZE}.
+     *
+     * @param seedSize the seed size.
+     * @return the sizes.
+     */
+    private static List<Integer> resolveSizes(int seedSize) {
+        List<Integer> sizes = new ArrayList<>();
+        for (int n = Math.max(seedSize, 2); n < MIN_SIZE; n *= 2) {
+            sizes.add(n);
+        }
+        for (int k = 0; ; k++) {
+            int n = (int) Math.round(MIN_SIZE * Math.pow(10, k / 2.0));
+            if (n > MAX_SIZE) {
+                break;
+            }
+            sizes.add(n);
+        }
+        return sizes;
+    }
+
+    /**
+     * Predict the timing at the next size by the local growth
+     * exponent of the last two sizes, which is at least linear.
+     *
+     * @param sizes   the measured sizes.
+     * @param timings the measured median timings in nanoseconds.
+     * @param n       the next size.
+     * @return the predicted timing in nanoseconds.
+     */
+    private static double predict(List<Integer> sizes, List<Double> timings, int n) {
+        int last = sizes.size() - 1;
+        double exponent = 1;
+        if (last > 0) {
+            exponent = Math.max(exponent, Math.log(timings.get(last) / timings.get(last - 1))
+                    / Math.log((double) sizes.get(last) / sizes.get(last - 1)));
+        }
+        return timings.get(last) * Math.pow((double) n / sizes.get(last), exponent);
+    }
+
+    /**
+     * Measure the median timing of the leetcode invoker at the size.
+     *
+     * @param executor the LeetcodeExecutor instance.
+     * @param scaler   the InputScaler instance.
+     * @param n        the size.
+     * @return the median timing in nanoseconds.
+     */
+    private static double measure(Object executor, InputScaler scaler, int n) {
+        // Warmup.
+        long deadline = System.nanoTime() + WARMUP_NANOS;
+        for (int runs = 0; runs < MAX_RUNS && System.nanoTime() < deadline; runs++) {
+            run(executor, scaler.scale(n));
+        }
+        // Measure.
+        long[] timings = new long[MAX_RUNS];
+        int runs = 0;
+        deadline = System.nanoTime() + MEASURE_NANOS;
+        while (runs < MAX_RUNS && (runs < MIN_RUNS || System.nanoTime() < deadline)) {
+            // Scale a fresh input outside the timing, because the invoker may mutate it.
+            timings[runs++] = run(executor, scaler.scale(n));
+        }
+        Arrays.sort(timings, 0, runs);
+        return Math.max(1, timings[runs / 2]);
+    }
+
+    /**
+     * Run the leetcode invoker once.
+     *
+     * @param executor  the LeetcodeExecutor instance.
+     * @param arguments the scaled arguments.
+     * @return the timing in nanoseconds.
+     */
+    private static long run(Object executor, Object[] arguments) {
+        long start = System.nanoTime();
+        Object output = LeetcodeExecutorProcessor.process(executor, arguments);
+        long timing = System.nanoTime() - start;
+        sink = output;
+        return timing;
+    }
+
+    /**
+     * Fit the timings and create the estimation report.
+     *
+     * @param seedSize   the seed size.
+     * @param sizes      the measured sizes.
+     * @param timings    the measured median timings in nanoseconds.
+     * @param stopReason the early stop reason, or null.
+     * @return the estimation report.
+     */
+    private static String report(int seedSize, List<Integer> sizes, List<Double> timings, String stopReason) {
+        StringBuilder report = new StringBuilder("[Complexity] ");
+        if (sizes.size() < MIN_POINTS) {
+            report.append("Insufficient sizes to fit, seed size ").append(seedSize);
+        } else {
+            ComplexityClass best = null;
+            double bestRss = Double.MAX_VALUE;
+            double bestScale = 0;
+            double secondRss = Double.MAX_VALUE;
+            for (ComplexityClass complexityClass : ComplexityClass.values()) {
+                // Fit log(t) = log(c) + log(f(n)) by the least squares.
+                double scale = 0;
+                for (int i = 0; i < sizes.size(); i++) {
+                    scale += Math.log(timings.get(i)) - complexityClass.logGrowth(sizes.get(i));
+                }
+                scale /= sizes.size();
+                double rss = 0;
+                for (int i = 0; i < sizes.size(); i++) {
+                    double residual = Math.log(timings.get(i)) - complexityClass.logGrowth(sizes.get(i)) - scale;
+                    rss += residual * residual;
+                }
+                if (rss < bestRss) {
+                    secondRss = bestRss;
+                    best = complexityClass;
+                    bestRss = rss;
+                    bestScale = scale;
+                } else if (rss < secondRss) {
+                    secondRss = rss;
+                }
+            }
+            double confidence = secondRss > 0 ? 1 - bestRss / secondRss : 0;
+            report.append(String.format(Locale.ROOT, "%s (confidence %.2f), seed size %d, estimated %s at n = %d",
+                    best.getNotation(), confidence, seedSize,
+                    formatNanos(Math.exp(bestScale + best.logGrowth(MAX_SIZE))), MAX_SIZE));
+        }
+        if (stopReason != null) {
+            report.append("\n  Stopped: ").append(stopReason);
+        }
+        for (int i = 0; i < sizes.size(); i++) {
+            report.append(String.format(Locale.ROOT, "\n  n = %-8d median %s", sizes.get(i),
+                    formatNanos(timings.get(i))));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Format the nanoseconds in a readable unit.
+     *
+     * @param nanos the nanoseconds.
+     * @return the formatted duration.
+     */
+    private static String formatNanos(double nanos) {
+        if (Double.isInfinite(nanos) || nanos > 8.64e13) {
+            return "more than 1 day";
+        }
+        if (nanos >= 1e9) {
+            return String.format(Locale.ROOT, "%.2f s", nanos / 1e9);
+        }
+        if (nanos >= 1e6) {
+            return String.format(Locale.ROOT, "%.2f ms", nanos / 1e6);
+        }
+        if (nanos >= 1e3) {
+            return String.format(Locale.ROOT, "%.2f us", nanos / 1e3);
+        }
+        return String.format(Locale.ROOT, "%.0f ns", nanos);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.complexity;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+/**
+ * <p>ComplexityEstimatorProcessor is a publicly available
+ * ComplexityEstimator processor. It has used a proxy to
+ * access {@link ComplexityEstimator}.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class ComplexityEstimatorProcessor {
+
+    /**
+     * Do real estimate with ComplexityEstimator instance and the bound seed input.
+     *
+     * @param estimator   the ComplexityEstimator instance.
+     * @param executor    the LeetcodeExecutor instance.
+     * @param inputObject the bound seed input object.
+     * @return the estimation report, or null if the seed input is not supported.
+     */
+    public static String process(Object estimator, Object executor, Object inputObject) {
+        AssertUtil.nonNull(estimator, "The estimator cannot be null.");
+        AssertUtil.nonNull(executor, "The executor cannot be null.");
+        AssertUtil.isTrue((estimator instanceof ComplexityEstimator), "The estimator is not a ComplexityEstimator.");
+        // Do real estimate logic and return the estimation report.
+        return ((ComplexityEstimator) (estimator)).estimate(executor, inputObject);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.complexity;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>InputScaler is a scaler used to scale the bound
+ * seed arguments of a case to a given size.</p>
+ *
+ * <p>The arrays, the {@link String}s and the {@link List}s are
+ * scalable. They are scaled by repeating their seed elements
+ * cyclically. The other arguments are kept as they are. When
+ * there are several scalable arguments, they are scaled in
+ * proportion to the largest one.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+final class InputScaler {
+
+    /**
+     * The bound seed arguments.
+     */
+    private final Object[] seedArguments;
+
+    /**
+     * The seed size, i.e. the length of the largest scalable argument.
+     */
+    private final int seedSize;
+
+    /**
+     * Create an InputScaler instance.
+     *
+     * @param seedArguments the bound seed arguments.
+     */
+    InputScaler(Object[] seedArguments) {
+        this.seedArguments = seedArguments;
+        int size = 0;
+        for (Object argument : seedArguments) {
+            size = Math.max(size, lengthOf(argument));
+        }
+        this.seedSize = size;
+    }
+
+    /**
+     * Check if the seed arguments are scalable.
+     *
+     * @return true if there is a non-empty scalable argument.
+     */
+    boolean isScalable() {
+        return seedSize > 0;
+    }
+
+    /**
+     * Get the seed size.
+     *
+     * @return the seed size.
+     */
+    int getSeedSize() {
+        return seedSize;
+    }
+
+    /**
+     * Create a fresh copy of the seed arguments scaled to the size.
+     *
+     * @param n the size of the largest scalable argument.
+     * @return the scaled arguments.
+     */
+    Object[] scale(int n) {
+        Object[] arguments = new Object[seedArguments.length];
+        for (int i = 0; i < seedArguments.length; i++) {
+            Object argument = seedArguments[i];
+            int length = lengthOf(argument);
+            if (length <= 0) {
+                arguments[i] = argument;
+                continue;
+            }
+            // Scale in proportion to the largest scalable argument.
+            int scaledLength = (int) Math.max(1, Math.round((double) length * n / seedSize));
+            arguments[i] = scale(argument, length, scaledLength);
+        }
+        return arguments;
+    }
+
+    /**
+     * Scale a scalable argument by repeating its elements cyclically.
+     *
+     * @param argument the scalable argument.
+     * @param length   the argument length.
+     * @param n        the scaled length.
+     * @return the scaled argument.
+     */
+    private static Object scale(Object argument, int length, int n) {
+        if (argument instanceof String) {
+            StringBuilder builder = new StringBuilder(n + length);
+            while (builder.length() < n) {
+                builder.append((String) argument);
+            }
+            builder.setLength(n);
+            return builder.toString();
+        }
+        if (argument instanceof List) {
+            List<?> list = (List<?>) argument;
+            List<Object> scaled = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                scaled.add(list.get(i % length));
+            }
+            return scaled;
+        }
+        Object scaled = Array.newInstance(argument.getClass().getComponentType(), n);
+        System.arraycopy(argument, 0, scaled, 0, Math.min(length, n));
+        // Double the filled prefix until the array is full.
+        for (int filled = Math.min(length, n); filled < n; filled *= 2) {
+            System.arraycopy(scaled, 0, scaled, filled, Math.min(filled, n - filled));
+        }
+        if (argument.getClass().getComponentType().isArray()) {
+            // Do not share the rows of a multidimensional array.
+            Object[] rows = (Object[]) scaled;
+            for (int i = 0; i < n; i++) {
+                rows[i] = copyOf(rows[i]);
+            }
+        }
+        return scaled;
+    }
+
+    /**
+     * Copy an array shallowly.
+     *
+     * @param array the array.
+     * @return the copied array.
+     */
+    private static Object copyOf(Object array) {
+        if (Objects.isNull(array)) {
+            return null;
+        }
+        int length = Array.getLength(array);
+        Object copied = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copied, 0, length);
+        return copied;
+    }
+
+    /**
+     * Get the length of a scalable argument.
+     *
+     * @param argument the argument.
+     * @return the length, or -1 if the argument is not scalable.
+     */
+    private static int lengthOf(Object argument) {
+        if (argument instanceof String) {
+            return ((String) argument).length();
+        }
+        if (argument instanceof List) {
+            return ((List<?>) argument).size();
+        }
+        if (Objects.nonNull(argument) && argument.getClass().isArray()) {
+            return Array.getLength(argument);
+        }
+        return -1;
+    }
+}
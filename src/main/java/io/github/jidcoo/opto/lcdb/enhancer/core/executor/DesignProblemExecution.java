@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.executor;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>DesignProblemExecution is the bound execution of a
+ * Leetcode data structure design problem case, such as
+ * <tt>["MinStack","push","getMin"]</tt> with
+ * <tt>[[],[-2],[]]</tt>.</p>
+ *
+ * <p>DesignProblemExecution holds the constructor handle,
+ * the operation handles and their bound arguments. All
+ * handles are spread to take an {@code Object[]} of the
+ * arguments, so the operations are called without any
+ * reflective lookup.</p>
+ *
+ * <p>The {@link #execute()} method returns the Leetcode style
+ * result list, where the constructor and the void operations
+ * produce {@code null}.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class DesignProblemExecution {
+
+    /**
+     * The constructor handle of type {@code (Object[])Object}.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * The bound constructor arguments.
+     */
+    private final Object[] constructorArguments;
+
+    /**
+     * The operation handles of type {@code (Object,Object[])Object}.
+     */
+    private final MethodHandle[] operations;
+
+    /**
+     * The bound operation arguments.
+     */
+    private final Object[][] operationArguments;
+
+    /**
+     * Create a DesignProblemExecution instance.
+     *
+     * @param constructor          the constructor handle of type {@code (Object[])Object}.
+     * @param constructorArguments the bound constructor arguments.
+     * @param operations           the operation handles of type {@code (Object,Object[])Object}.
+     * @param operationArguments   the bound operation arguments.
+     */
+    public DesignProblemExecution(MethodHandle constructor, Object[] constructorArguments, MethodHandle[] operations,
+                                  Object[][] operationArguments) {
+        AssertUtil.nonNull(constructor, "The constructor cannot be null.");
+        AssertUtil.nonNull(operations, "The operations cannot be null.");
+        AssertUtil.nonNull(operationArguments, "The operation arguments cannot be null.");
+        AssertUtil.isTrue(operations.length == operationArguments.length,
+                "The operations and the operation arguments must have the same length.");
+        this.constructor = constructor;
+        this.constructorArguments = constructorArguments;
+        this.operations = operations;
+        this.operationArguments = operationArguments;
+    }
+
+    /**
+     * Execute the constructor and all operations in order.
+     *
+     * @return the Leetcode style result list.
+     * @throws Throwable if the design problem throws.
+     */
+    public List<Object> execute() throws Throwable {
+        List<Object> results = new ArrayList<>(operations.length + 1);
+        Object instance = (Object) constructor.invokeExact(constructorArguments);
+        // The constructor returns nothing in Leetcode style.
+        results.add(null);
+        for (int i = 0; i < operations.length; i++) {
+            results.add((Object) operations[i].invokeExact(instance, operationArguments[i]));
+        }
+        return results;
+    }
+
+    /**
+     * Get the number of the operations, excluding the constructor.
+     *
+     * @return the number of the operations.
+     */
+    public int getOperationCount() {
+        return operations.length;
+    }
+
+    /**
+     * Get the bound constructor arguments.
+     *
+     * @return the bound constructor arguments.
+     */
+    public Object[] getConstructorArguments() {
+        return constructorArguments;
+    }
+
+    /**
+     * Get the bound operation arguments.
+     *
+     * @return the bound operation arguments.
+     */
+    public Object[][] getOperationArguments() {
+        return operationArguments;
+    }
+
+    /**
+     * Create a DesignProblemExecution instance with the same handles
+     * and other bound arguments, e.g. a copy of the bound arguments.
+     *
+     * @param constructorArguments the bound constructor arguments.
+     * @param operationArguments   the bound operation arguments.
+     * @return the DesignProblemExecution instance.
+     */
+    public DesignProblemExecution withArguments(Object[] constructorArguments, Object[][] operationArguments) {
+        return new DesignProblemExecution(constructor, constructorArguments, operations, operationArguments);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.executor;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+/**
+ * <p>LeetcodeCaseContext is the typed context of the
+ * cases handed between the parser, the executor and
+ * the printer of a {@link LeetcodeExecutor}.</p>
+ *
+ * <p>The leetcode instance, the leetcode executor and the
+ * design flag are resolved once when the executor is created.
+ * The leetcode invoker is matched by the parser of each case,
+ * and its accessibility and response type are resolved only
+ * when it changes, so the cases of the same invoker do not
+ * reach into the executor reflectively.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class LeetcodeCaseContext {
+
+    /**
+     * The leetcode instance.
+     * <p>It's the prototype instance if the instance
+     * provider does not share the instance.</p>
+     */
+    private final Object instance;
+
+    /**
+     * The leetcode executor.
+     */
+    private final Method executor;
+
+    /**
+     * Whether the context is of the data structure design problem.
+     */
+    private final boolean design;
+
+    /**
+     * The leetcode invoker.
+     */
+    private Method invoker;
+
+    /**
+     * The leetcode invoker response type.
+     */
+    private Class<?> invokerResponseType;
+
+    /**
+     * Create a LeetcodeCaseContext instance.
+     *
+     * @param instance the leetcode instance.
+     * @param executor the leetcode executor.
+     * @param design   whether the context is of the data structure design problem.
+     */
+    LeetcodeCaseContext(Object instance, Method executor, boolean design) {
+        this.instance = instance;
+        this.executor = executor;
+        this.design = design;
+        if (Objects.nonNull(executor)) {
+            // Set executor as default leetcode invoker.
+            setInvoker(executor);
+        }
+    }
+
+    /**
+     * Get the leetcode instance.
+     *
+     * @return the leetcode instance.
+     */
+    public Object getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the leetcode executor.
+     *
+     * @return the leetcode executor.
+     */
+    public Method getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Check if the context is of the data structure design problem.
+     *
+     * @return true if the context is of the data structure design problem.
+     */
+    public boolean isDesign() {
+        return design;
+    }
+
+    /**
+     * Get the leetcode invoker.
+     *
+     * @return the leetcode invoker.
+     */
+    public Method getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Get the leetcode invoker response type.
+     *
+     * @return the leetcode invoker response type.
+     */
+    public Class<?> getInvokerResponseType() {
+        return invokerResponseType;
+    }
+
+    /**
+     * Set the leetcode invoker matched by the parser.
+     *
+     * @param invoker the leetcode invoker.
+     */
+    public void setInvoker(Method invoker) {
+        AssertUtil.nonNull(invoker, "The leetcode invoker cannot be null.");
+        if (invoker == this.invoker) {
+            // The invoker of the last case is resolved already.
+            return;
+        }
+        invoker.setAccessible(true);
+        this.invokerResponseType = invoker.getReturnType();
+        this.invoker = invoker;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.executor;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>LeetcodeCaseWatchdog is a per-case watchdog used by
+ * the {@link LeetcodeExecutor}.</p>
+ *
+ * <p>LeetcodeCaseWatchdog runs each case on an isolated worker
+ * thread with a configurable stack size, so that the deep
+ * recursive cases can work. And when the time limit of a case is
+ * exceeded, the watchdog interrupts the case at first and then
+ * abandons the worker thread if the case still does not stop.
+ * The next case will be run on a new worker thread.</p>
+ *
+ * <p>Note: An abandoned worker thread may still be running with
+ * the leetcode instance. So the shared leetcode instance state may
+ * be polluted for the next cases. Use the
+ * {@link io.github.jidcoo.opto.lcdb.enhancer.base.SolutionLifecycle#FRESH_PER_CASE}
+ * or {@link io.github.jidcoo.opto.lcdb.enhancer.base.SolutionLifecycle#POOLED}
+ * lifecycle policy to avoid it.</p>
+ *
+ * @author Jidcoo
+ * @see LeetcodeTimeLimitExceededException
+ * @since 1.1
+ */
+final class LeetcodeCaseWatchdog {
+
+    /**
+     * The grace milliseconds waiting for an interrupted case to stop.
+     */
+    private static final long INTERRUPT_GRACE_MILLIS = 100;
+
+    /**
+     * The worker thread name prefix.
+     */
+    private static final String WORKER_NAME_PREFIX = "LeetcodeCaseWorker-";
+
+    /**
+     * The worker thread sequence.
+     */
+    private static final AtomicInteger WORKER_SEQUENCE = new AtomicInteger();
+
+    /**
+     * The time limit of each case in milliseconds.
+     * No time limit if it's not greater than 0.
+     */
+    private final long timeLimit;
+
+    /**
+     * The stack size of the worker thread in bytes.
+     * Use the JVM default stack size if it's not greater than 0.
+     */
+    private final long stackSize;
+
+    /**
+     * The current worker thread.
+     */
+    private Worker worker;
+
+    /**
+     * Create a LeetcodeCaseWatchdog instance.
+     *
+     * @param timeLimit the time limit of each case in milliseconds.
+     * @param stackSize the stack size of the worker thread in bytes.
+     */
+    LeetcodeCaseWatchdog(long timeLimit, long stackSize) {
+        this.timeLimit = timeLimit;
+        this.stackSize = stackSize;
+    }
+
+    /**
+     * Run the case on the worker thread and wait for its result.
+     *
+     * @param leetcodeCase the case.
+     * @return the case result.
+     * @throws LeetcodeTimeLimitExceededException if the time limit of the case is exceeded.
+     */
+    Object execute(Callable<Object> leetcodeCase) {
+        AssertUtil.nonNull(leetcodeCase, "The leetcode case cannot be null.");
+        if (Objects.isNull(worker)) {
+            worker = new Worker(stackSize);
+            worker.start();
+        }
+        FutureTask<Object> task = new FutureTask<>(leetcodeCase);
+        worker.submit(task);
+        try {
+            return timeLimit > 0 ? task.get(timeLimit, TimeUnit.MILLISECONDS) : task.get();
+        } catch (TimeoutException timeoutException) {
+            // Interrupt the case at first.
+            worker.interrupt();
+            try {
+                task.get(INTERRUPT_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException stillRunning) {
+                // The case does not respond to the interruption. Abandon the worker thread.
+                EnhancerLogUtil.logW("Abandon the case worker thread: %s", worker.getName());
+                worker.abandon();
+                worker = null;
+            } catch (Throwable ignored) {
+                // The case has stopped by the interruption.
+            }
+            throw new LeetcodeTimeLimitExceededException(timeLimit);
+        } catch (ExecutionException executionException) {
+            Throwable cause = executionException.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(interruptedException);
+        }
+    }
+
+    /**
+     * Stop the current worker thread. A new worker thread
+     * will be started if another case is executed.
+     */
+    void shutdown() {
+        if (Objects.nonNull(worker)) {
+            worker.abandon();
+            // Wake up the idle worker to let it exit.
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    /**
+     * <p>Worker is the case worker thread.</p>
+     * <p>It's a daemon thread, so that an abandoned worker
+     * cannot prevent the JVM from exiting.</p>
+     */
+    private static final class Worker extends Thread {
+
+        /**
+         * The case task handoff queue.
+         */
+        private final SynchronousQueue<FutureTask<Object>> tasks = new SynchronousQueue<>();
+
+        /**
+         * Whether the worker is abandoned.
+         */
+        private volatile boolean abandoned;
+
+        /**
+         * Create a Worker instance.
+         *
+         * @param stackSize the stack size of the worker thread in bytes.
+         */
+        Worker(long stackSize) {
+            super(null, null, WORKER_NAME_PREFIX + WORKER_SEQUENCE.incrementAndGet(), Math.max(stackSize, 0));
+            setDaemon(true);
+        }
+
+        /**
+         * Submit a case task to this worker.
+         *
+         * @param task the case task.
+         */
+        void submit(FutureTask<Object> task) {
+            try {
+                tasks.put(task);
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(interruptedException);
+            }
+        }
+
+        /**
+         * Abandon this worker.
+         */
+        void abandon() {
+            abandoned = true;
+        }
+
+        /**
+         * Run the case tasks one by one.
+         */
+        @Override
+        public void run() {
+            while (!abandoned) {
+                // Clear the interruption left by the last timed out case.
+                Thread.interrupted();
+                FutureTask<Object> task;
+                try {
+                    task = tasks.take();
+                } catch (InterruptedException interruptedException) {
+                    continue;
+                }
+                task.run();
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Objects;
 
 /**
  * <p>LeetcodeExecutor is an executor used to
@@ -39,36 +40,46 @@ import java.lang.reflect.Method;
 final class LeetcodeExecutor {
 
     /**
-     * The leetcode instance.
+     * The leetcode instance provider of each case.
      */
-    private final Object instance;
+    private final SolutionInstanceProvider instanceProvider;
 
     /**
-     * The leetcode executor.
+     * The leetcode case context.
      */
-    private final Method executor;
+    private final LeetcodeCaseContext context;
 
     /**
-     * The leetcode invoker.
+     * The leetcode case watchdog.
+     * <p>Execute the case on the caller thread if it's null.</p>
      */
-    private Method invoker;
+    private final LeetcodeCaseWatchdog watchdog;
 
     /**
-     * The leetcode invoker response type.
+     * Create a LeetcodeExecutor instance.
+     *
+     * @param instanceProvider the leetcode instance provider.
+     * @param executor         the leetcode executor.
+     * @param watchdog         the leetcode case watchdog.
      */
-    private Class invokerResponseType;
+    LeetcodeExecutor(SolutionInstanceProvider instanceProvider, Method executor, LeetcodeCaseWatchdog watchdog) {
+        this(instanceProvider, executor, watchdog, false);
+    }
 
     /**
      * Create a LeetcodeExecutor instance.
      *
-     * @param instance the leetcode instance.
-     * @param executor the leetcode executor.
+     * @param instanceProvider the leetcode instance provider.
+     * @param executor         the leetcode executor.
+     * @param watchdog         the leetcode case watchdog.
+     * @param design           whether the executor executes the data structure design problem.
      */
-    LeetcodeExecutor(Object instance, Method executor) {
-        this.instance = instance;
-        this.executor = executor;
-        // Set executor as default leetcode invoker.
-        this.invoker = executor;
+    LeetcodeExecutor(SolutionInstanceProvider instanceProvider, Method executor, LeetcodeCaseWatchdog watchdog,
+                     boolean design) {
+        this.instanceProvider = instanceProvider;
+        // Resolve the leetcode instance and executor once for all cases.
+        this.context = new LeetcodeCaseContext(instanceProvider.getPrototype(), executor, design);
+        this.watchdog = watchdog;
     }
 
     /**
@@ -79,13 +90,59 @@ final class LeetcodeExecutor {
      * @throws EnhancerException if method invoke error.
      * @throws RuntimeException  if leetcode execute failed
      *                           or invoker error.
+     * @throws LeetcodeTimeLimitExceededException if the case exceeds the
+     *                                            time limit of the watchdog.
+     * @throws LeetcodeRuntimeErrorException      if the case overflows its stack.
      */
     Object execute(Object input) {
+        return execute(context.getInvoker(), input);
+    }
+
+    /**
+     * Do execute <tt>AT</tt> with the leetcode invoker matched
+     * for the input object, e.g. when the next case has been
+     * parsed ahead and matched another invoker.
+     *
+     * @param invoker the leetcode invoker.
+     * @param input   input object.
+     * @return the <tt>AT</tt> return.
+     * @throws EnhancerException if method invoke error.
+     * @throws RuntimeException  if leetcode execute failed
+     *                           or invoker error.
+     * @throws LeetcodeTimeLimitExceededException if the case exceeds the
+     *                                            time limit of the watchdog.
+     * @throws LeetcodeRuntimeErrorException      if the case overflows its stack.
+     */
+    Object execute(Method invoker, Object input) {
         AssertUtil.nonNull(invoker, "The leetcode execute invoker cannot be null.");
+        if (Objects.nonNull(watchdog)) {
+            // Run the case on the worker thread of the watchdog.
+            return watchdog.execute(() -> invoke(invoker, input));
+        }
+        return invoke(invoker, input);
+    }
+
+    /**
+     * Do invoke the invoker with input object.
+     *
+     * @param invoker the leetcode invoker.
+     * @param input   input object.
+     * @return the <tt>AT</tt> return.
+     */
+    private Object invoke(Method invoker, Object input) {
         try {
-            invoker.setAccessible(true);
-            return invoker.invoke(instance, (Object[]) input);
+            // The invoker is made accessible by the context already.
+            if (context.isDesign()) {
+                // The input is the bound design problem execution itself.
+                return invoker.invoke(input);
+            }
+            // Acquire the leetcode instance on the case worker thread.
+            return invoker.invoke(instanceProvider.acquire(), (Object[]) input);
         } catch (InvocationTargetException exception) {
+            if (isStackOverflow(exception.getCause())) {
+                // The stack is unwound already, so record the case as a runtime error.
+                throw new LeetcodeRuntimeErrorException(exception.getCause());
+            }
             throw new EnhancerException(exception.getCause());
         } catch (Throwable exception) {
             throw new RuntimeException(exception);
@@ -93,29 +150,47 @@ final class LeetcodeExecutor {
     }
 
     /**
-     * Get the leetcode instance.
+     * Check if the error of a case is caused by a stack overflow,
+     * e.g. wrapped by a design problem operation.
      *
-     * @return the leetcode instance.
+     * @param error the error of the case.
+     * @return true if the error is caused by a {@link StackOverflowError}.
      */
-    Object getInstance() {
-        return instance;
+    private static boolean isStackOverflow(Throwable error) {
+        for (Throwable cause = error; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof StackOverflowError) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stop the background threads of this executor.
+     */
+    void shutdown() {
+        instanceProvider.shutdown();
+        if (Objects.nonNull(watchdog)) {
+            watchdog.shutdown();
+        }
     }
 
     /**
-     * Get the leetcode executor.
+     * Get the leetcode case context.
      *
-     * @return the leetcode executor.
+     * @return the leetcode case context.
      */
-    Method getExecutor() {
-        return executor;
+    LeetcodeCaseContext getContext() {
+        return context;
     }
 
     /**
-     * Get the leetcode invoker.
+     * Check if the executor executes the data structure design problem.
+     * <p>If it's true, the input is a {@link DesignProblemExecution}.</p>
      *
-     * @return the leetcode invoker.
+     * @return true if the executor executes the data structure design problem.
      */
-    Method getInvoker() {
-        return invoker;
+    boolean isDesign() {
+        return context.isDesign();
     }
-}
\ No newline at end of file
+}
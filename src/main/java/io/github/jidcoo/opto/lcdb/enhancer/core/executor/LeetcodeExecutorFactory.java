@@ -44,12 +44,40 @@ public final class LeetcodeExecutorFactory {
         // Hate the npe.
         AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
         Method enhancementPoint = enhancer.getEnhancementPoint();
-        Object target = enhancer;
-        // Try to look for the inner class Solution in AT if the enhancementPoint is null.
-        if (Objects.isNull(enhancementPoint)) {
-            target = ReflectUtil.resolveSolutionInstance(enhancer);
-            AssertUtil.nonNull(target, "Cannot resolve the inner class Solution from the AT enhancer instance.");
+        // Create a case watchdog only if the enhancer requires a time limit or a stack size.
+        LeetcodeCaseWatchdog watchdog = null;
+        if (enhancer.getCaseTimeLimit() > 0 || enhancer.getCaseStackSize() > 0) {
+            watchdog = new LeetcodeCaseWatchdog(enhancer.getCaseTimeLimit(), enhancer.getCaseStackSize());
         }
-        return new LeetcodeExecutor(target, enhancementPoint);
+        if (isDesignProblem(enhancer)) {
+            // The design class is resolved from the constructor operation of each case.
+            return new LeetcodeExecutor(SolutionInstanceProvider.shared(enhancer), null, watchdog, true);
+        }
+        SolutionInstanceProvider instanceProvider;
+        if (Objects.nonNull(enhancementPoint)) {
+            // The AT itself is the leetcode instance of the enhancement point.
+            instanceProvider = SolutionInstanceProvider.shared(enhancer);
+        } else {
+            // Try to look for the inner class Solution in AT if the enhancementPoint is null.
+            instanceProvider = SolutionInstanceProvider.create(enhancer, enhancer.getSolutionLifecycle());
+            AssertUtil.nonNull(instanceProvider.getPrototype(), "Cannot resolve the inner class Solution from the AT "
+                    + "enhancer instance.");
+        }
+        return new LeetcodeExecutor(instanceProvider, enhancementPoint, watchdog);
+    }
+
+    /**
+     * Check if the {@link LeetcodeJavaDebugEnhancer} instance
+     * debugs a data structure design problem, without creating
+     * a LeetcodeExecutor instance.
+     *
+     * @param enhancer the LeetcodeJavaDebugEnhancer instance.
+     * @return true if it's a data structure design problem.
+     */
+    public static boolean isDesignProblem(LeetcodeJavaDebugEnhancer enhancer) {
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        // Neither enhancement point nor inner class Solution, so it's a data structure design problem.
+        return Objects.isNull(enhancer.getEnhancementPoint())
+                && Objects.isNull(ReflectUtil.resolveSolutionClass(enhancer));
     }
 }
@@ -18,6 +18,8 @@ package io.github.jidcoo.opto.lcdb.enhancer.core.executor;
 
 import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
 
+import java.lang.reflect.Method;
+
 /**
  * <p>LeetcodeExecutorProcessor is a publicly available
  * LeetcodeExecutor processor. It has used a proxy to
@@ -47,4 +49,60 @@ public final class LeetcodeExecutorProcessor {
         Object output = ((LeetcodeExecutor) (executor)).execute(inputObject);
         return output;
     }
+
+    /**
+     * Do real execute with LeetcodeExecutor instance, the leetcode
+     * invoker matched for the input and Input instance.
+     *
+     * @param executor    the LeetcodeExecutor instance.
+     * @param invoker     the leetcode invoker.
+     * @param inputObject the input object.
+     * @return the executor output object.
+     * @since 1.1
+     */
+    public static Object process(Object executor, Method invoker, Object inputObject) {
+        AssertUtil.nonNull(executor, "The executor cannot be null.");
+        AssertUtil.isTrue((executor instanceof LeetcodeExecutor), "The executor is not a LeetcodeExecutor.");
+        return ((LeetcodeExecutor) (executor)).execute(invoker, inputObject);
+    }
+
+    /**
+     * Check if the LeetcodeExecutor instance executes the
+     * data structure design problem.
+     *
+     * @param executor the LeetcodeExecutor instance.
+     * @return true if the executor executes the data structure design problem.
+     */
+    public static boolean isDesignExecutor(Object executor) {
+        AssertUtil.nonNull(executor, "The executor cannot be null.");
+        AssertUtil.isTrue((executor instanceof LeetcodeExecutor), "The executor is not a LeetcodeExecutor.");
+        return ((LeetcodeExecutor) (executor)).isDesign();
+    }
+
+    /**
+     * Get the typed case context of the LeetcodeExecutor instance,
+     * which is handed between the parser, the executor and the
+     * printer of the cases.
+     *
+     * @param executor the LeetcodeExecutor instance.
+     * @return the LeetcodeCaseContext instance.
+     * @since 1.1
+     */
+    public static LeetcodeCaseContext getCaseContext(Object executor) {
+        AssertUtil.nonNull(executor, "The executor cannot be null.");
+        AssertUtil.isTrue((executor instanceof LeetcodeExecutor), "The executor is not a LeetcodeExecutor.");
+        return ((LeetcodeExecutor) (executor)).getContext();
+    }
+
+    /**
+     * Stop the background threads of the LeetcodeExecutor instance,
+     * e.g. the case worker thread and the Solution instance prefetcher.
+     *
+     * @param executor the LeetcodeExecutor instance.
+     */
+    public static void shutdown(Object executor) {
+        AssertUtil.nonNull(executor, "The executor cannot be null.");
+        AssertUtil.isTrue((executor instanceof LeetcodeExecutor), "The executor is not a LeetcodeExecutor.");
+        ((LeetcodeExecutor) (executor)).shutdown();
+    }
 }
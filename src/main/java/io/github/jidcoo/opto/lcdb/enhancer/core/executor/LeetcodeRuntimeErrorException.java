@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.executor;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.EnhancerException;
+
+/**
+ * <p>LeetcodeRuntimeErrorException is an exception class
+ * that will be thrown by the {@link LeetcodeExecutor} when
+ * a case overflows its stack.</p>
+ *
+ * <p>The stack is unwound once the error reaches the executor,
+ * so the case is recorded as a failed case instead of stopping
+ * the run. The detail message is the Leetcode style verdict
+ * <tt>Runtime Error</tt>, so it can be consumed as the case
+ * output directly, and the cause is the original error.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class LeetcodeRuntimeErrorException extends EnhancerException {
+
+    /**
+     * The Leetcode style runtime error verdict.
+     */
+    private static final String RUNTIME_ERROR = "Runtime Error";
+
+    /**
+     * Create a LeetcodeRuntimeErrorException instance.
+     *
+     * @param cause the error of the case.
+     */
+    LeetcodeRuntimeErrorException(Throwable cause) {
+        super(RUNTIME_ERROR, cause);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.executor;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.EnhancerException;
+
+/**
+ * <p>LeetcodeTimeLimitExceededException is an exception
+ * class that will be thrown when a case exceeds the time
+ * limit of the {@link LeetcodeCaseWatchdog}.</p>
+ *
+ * <p>The detail message is the Leetcode style verdict
+ * <tt>Time Limit Exceeded</tt>, so it can be consumed as
+ * the case output directly.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class LeetcodeTimeLimitExceededException extends EnhancerException {
+
+    /**
+     * The Leetcode style TLE verdict.
+     */
+    private static final String TIME_LIMIT_EXCEEDED = "Time Limit Exceeded";
+
+    /**
+     * The exceeded time limit in milliseconds.
+     */
+    private final long timeLimit;
+
+    /**
+     * Create a LeetcodeTimeLimitExceededException instance.
+     *
+     * @param timeLimit the exceeded time limit in milliseconds.
+     */
+    LeetcodeTimeLimitExceededException(long timeLimit) {
+        super(TIME_LIMIT_EXCEEDED);
+        this.timeLimit = timeLimit;
+    }
+
+    /**
+     * Get the exceeded time limit in milliseconds.
+     *
+     * @return the exceeded time limit.
+     */
+    public long getTimeLimit() {
+        return timeLimit;
+    }
+}
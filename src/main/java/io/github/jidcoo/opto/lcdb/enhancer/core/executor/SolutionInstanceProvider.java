@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.executor;
+
+import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.base.SolutionLifecycle;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * <p>SolutionInstanceProvider is a provider of the leetcode
+ * instance used by the {@link LeetcodeExecutor} to execute
+ * each case.</p>
+ *
+ * <p>SolutionInstanceProvider provides the leetcode instance
+ * according to the {@link SolutionLifecycle}. The new Solution
+ * instances are constructed through a cached constructor
+ * {@link MethodHandle}. For the {@link SolutionLifecycle#FRESH_PER_CASE},
+ * they are pre-constructed ahead of time on a background thread. For
+ * the {@link SolutionLifecycle#POOLED}, each case worker thread
+ * constructs its pooled instance lazily on the first case.</p>
+ *
+ * @author Jidcoo
+ * @see SolutionLifecycle
+ * @since 1.1
+ */
+final class SolutionInstanceProvider {
+
+    /**
+     * The number of the pre-constructed Solution instances.
+     */
+    private static final int PREFETCH_SIZE = 4;
+
+    /**
+     * The prefetch thread name.
+     */
+    private static final String PREFETCH_THREAD_NAME = "SolutionInstancePrefetcher";
+
+    /**
+     * The lifecycle policy.
+     */
+    private final SolutionLifecycle lifecycle;
+
+    /**
+     * The prototype leetcode instance.
+     * <p>It's the shared instance for the {@link SolutionLifecycle#SHARED}.</p>
+     */
+    private final Object prototype;
+
+    /**
+     * The enhancer used to reset the pooled instances.
+     */
+    private final LeetcodeJavaDebugEnhancer enhancer;
+
+    /**
+     * The constructor handle of the new instances.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * The pre-constructed Solution instances.
+     */
+    private final BlockingQueue<Object> prefetchedInstances;
+
+    /**
+     * The thread pre-constructing the Solution instances.
+     */
+    private final Thread prefetcher;
+
+    /**
+     * The pooled instance of each case worker thread.
+     */
+    private final ThreadLocal<Object> pooledInstance;
+
+    /**
+     * Create a SolutionInstanceProvider instance.
+     *
+     * @param lifecycle   the lifecycle policy.
+     * @param prototype   the prototype leetcode instance.
+     * @param enhancer    the enhancer.
+     * @param constructor the constructor handle of the new instances.
+     */
+    private SolutionInstanceProvider(SolutionLifecycle lifecycle, Object prototype,
+                                     LeetcodeJavaDebugEnhancer enhancer, MethodHandle constructor) {
+        this.lifecycle = lifecycle;
+        this.prototype = prototype;
+        this.enhancer = enhancer;
+        this.constructor = constructor;
+        this.pooledInstance = new ThreadLocal<>();
+        if (lifecycle != SolutionLifecycle.FRESH_PER_CASE) {
+            // Only the fresh instances are worth constructing ahead.
+            this.prefetchedInstances = null;
+            this.prefetcher = null;
+            return;
+        }
+        this.prefetchedInstances = new ArrayBlockingQueue<>(PREFETCH_SIZE);
+        this.prefetcher = new Thread(() -> {
+            while (true) {
+                Object instance;
+                try {
+                    instance = (Object) constructor.invokeExact();
+                } catch (Throwable throwable) {
+                    // Hand over the construction failure to the case.
+                    instance = new PrefetchFailure(throwable);
+                }
+                try {
+                    prefetchedInstances.put(instance);
+                } catch (InterruptedException interruptedException) {
+                    return;
+                }
+            }
+        }, PREFETCH_THREAD_NAME);
+        prefetcher.setDaemon(true);
+        prefetcher.start();
+    }
+
+    /**
+     * Create a SolutionInstanceProvider sharing the leetcode instance.
+     *
+     * @param instance the leetcode instance.
+     * @return the SolutionInstanceProvider instance.
+     */
+    static SolutionInstanceProvider shared(Object instance) {
+        return new SolutionInstanceProvider(SolutionLifecycle.SHARED, instance, null, null);
+    }
+
+    /**
+     * Create a SolutionInstanceProvider providing the inner class
+     * Solution instances of the <tt>AT</tt> enhancer by the lifecycle policy.
+     *
+     * @param enhancer  the <tt>AT</tt> enhancer.
+     * @param lifecycle the lifecycle policy.
+     * @return the SolutionInstanceProvider instance.
+     */
+    static SolutionInstanceProvider create(LeetcodeJavaDebugEnhancer enhancer, SolutionLifecycle lifecycle) {
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        Object prototype = ReflectUtil.resolveSolutionInstance(enhancer);
+        if (Objects.isNull(lifecycle) || lifecycle == SolutionLifecycle.SHARED) {
+            return shared(prototype);
+        }
+        // Resolve the constructor handle only once.
+        Constructor<?> solutionConstructor = ReflectUtil.resolveSolutionConstructor(enhancer);
+        MethodHandle constructor;
+        try {
+            constructor = MethodHandles.lookup().unreflectConstructor(solutionConstructor);
+        } catch (IllegalAccessException exception) {
+            throw new RuntimeException(exception);
+        }
+        if (solutionConstructor.getParameterCount() > 0) {
+            // Bind the outer AT instance of the inner class Solution.
+            constructor = constructor.bindTo(enhancer);
+        }
+        return new SolutionInstanceProvider(lifecycle, prototype, enhancer,
+                constructor.asType(MethodType.methodType(Object.class)));
+    }
+
+    /**
+     * Get the prototype leetcode instance.
+     *
+     * @return the prototype leetcode instance.
+     */
+    Object getPrototype() {
+        return prototype;
+    }
+
+    /**
+     * Acquire the leetcode instance for the next case
+     * on the current case worker thread.
+     *
+     * @return the leetcode instance.
+     */
+    Object acquire() {
+        switch (lifecycle) {
+            case FRESH_PER_CASE:
+                return takePrefetchedInstance();
+            case POOLED:
+                Object instance = pooledInstance.get();
+                if (Objects.isNull(instance)) {
+                    instance = newInstance();
+                    pooledInstance.set(instance);
+                } else {
+                    // Reset the pooled instance before it's reused.
+                    enhancer.resetSolutionInstance(instance);
+                }
+                return instance;
+            default:
+                return prototype;
+        }
+    }
+
+    /**
+     * Stop pre-constructing the Solution instances.
+     */
+    void shutdown() {
+        if (Objects.nonNull(prefetcher)) {
+            prefetcher.interrupt();
+        }
+    }
+
+    /**
+     * Construct a new Solution instance on the current thread.
+     *
+     * @return the Solution instance.
+     */
+    private Object newInstance() {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable throwable) {
+            throw new RuntimeException("Cannot construct the Solution instance.", throwable);
+        }
+    }
+
+    /**
+     * Take a pre-constructed Solution instance.
+     *
+     * @return the Solution instance.
+     */
+    private Object takePrefetchedInstance() {
+        Object instance;
+        try {
+            instance = prefetchedInstances.take();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(interruptedException);
+        }
+        if (instance instanceof PrefetchFailure) {
+            throw new RuntimeException("Cannot construct the Solution instance.",
+                    ((PrefetchFailure) instance).cause);
+        }
+        return instance;
+    }
+
+    /**
+     * PrefetchFailure holds a Solution construction failure.
+     */
+    private static final class PrefetchFailure {
+
+        /**
+         * The construction failure.
+         */
+        private final Throwable cause;
+
+        /**
+         * Create a PrefetchFailure instance.
+         *
+         * @param cause the construction failure.
+         */
+        PrefetchFailure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
@@ -38,6 +38,12 @@ public abstract class BaseBufferWriterOutputConsumer implements OutputConsumer {
      */
     private final BufferedWriter bufferedWriter;
 
+    /**
+     * Whether the outputs are streamed into the base BufferedWriter,
+     * i.e. the {@link #consumeNextOutput(String)} is not overridden.
+     */
+    private final boolean streamable;
+
     /**
      * Create a BaseBufferWriterOutputConsumer.
      *
@@ -46,6 +52,7 @@ public abstract class BaseBufferWriterOutputConsumer implements OutputConsumer {
     public BaseBufferWriterOutputConsumer(BufferedWriter bufferedWriter) {
         AssertUtil.nonNull(bufferedWriter, "The bufferedWriter cannot be null.");
         this.bufferedWriter = bufferedWriter;
+        this.streamable = isConsumeNextOutputInherited();
     }
 
     /**
@@ -56,6 +63,7 @@ public abstract class BaseBufferWriterOutputConsumer implements OutputConsumer {
     public BaseBufferWriterOutputConsumer(OutputStream outputStream) {
         AssertUtil.nonNull(outputStream, "The outputStream cannot be null.");
         this.bufferedWriter = new BufferedWriter(new OutputStreamWriter(outputStream));
+        this.streamable = isConsumeNextOutputInherited();
     }
 
     /**
@@ -76,6 +84,48 @@ public abstract class BaseBufferWriterOutputConsumer implements OutputConsumer {
         }
     }
 
+    /**
+     * Begin to consume the next output in streaming mode.
+     *
+     * <p>If a subclass overrides {@link #consumeNextOutput(String)},
+     * the outputs are not streamed, so that they still pass through
+     * the overridden method.</p>
+     *
+     * @return the base BufferedWriter, or null if the outputs are not streamed.
+     */
+    @Override
+    public Appendable beginNextOutput() {
+        return this.streamable ? this.bufferedWriter : null;
+    }
+
+    /**
+     * End to consume the next output in streaming mode.
+     */
+    @Override
+    public void endNextOutput() {
+        try {
+            this.bufferedWriter.write('\n');
+            this.bufferedWriter.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Check if the {@link #consumeNextOutput(String)} is inherited
+     * from BaseBufferWriterOutputConsumer instead of overridden.
+     *
+     * @return true if the consumeNextOutput is not overridden.
+     */
+    private boolean isConsumeNextOutputInherited() {
+        try {
+            return getClass().getMethod("consumeNextOutput", String.class).getDeclaringClass()
+                    == BaseBufferWriterOutputConsumer.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     /**
      * Closes this resource, relinquishing any underlying resources.
      * This method is invoked automatically on objects managed by the
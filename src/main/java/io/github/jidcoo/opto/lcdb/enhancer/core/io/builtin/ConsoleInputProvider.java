@@ -41,4 +41,13 @@ public class ConsoleInputProvider extends BaseBufferReaderInputProvider {
         // Use the stdin as input source.
         super(System.in);
     }
+
+    /**
+     * Keep the stdin open, so that it's still usable after this
+     * provider is closed, e.g. by the next run in the hot reload mode.
+     */
+    @Override
+    public void close() {
+        // Do not close the stdin.
+    }
 }
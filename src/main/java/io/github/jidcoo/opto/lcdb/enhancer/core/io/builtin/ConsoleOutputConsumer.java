@@ -41,4 +41,13 @@ public class ConsoleOutputConsumer extends BaseBufferWriterOutputConsumer {
         // Use the stdout as output source.
         super(System.out);
     }
+
+    /**
+     * Keep the stdout open, so that it's still usable after this
+     * consumer is closed, e.g. by the next run in the hot reload mode.
+     */
+    @Override
+    public void close() {
+        // The output has been flushed after each case.
+    }
 }
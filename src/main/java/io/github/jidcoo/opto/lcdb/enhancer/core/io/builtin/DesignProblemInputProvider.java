@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.io.builtin;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.InputProvider;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+/**
+ * <p>DesignProblemInputProvider is a {@link InputProvider}
+ * wrapping another {@link InputProvider} for the Leetcode
+ * data structure design problem.</p>
+ *
+ * <p>Leetcode gives a design problem case in two lines,
+ * the operation line and the argument line:</p>
+ *
+ * <pre>
+ * ["MinStack","push","push","getMin"]
+ * [[],[-2],[0],[]]
+ * </pre>
+ *
+ * <p>DesignProblemInputProvider merges the two lines into
+ * one input. An input that already has both parts in one
+ * line is provided as it is.</p>
+ *
+ * @author Jidcoo
+ * @see InputProvider
+ * @since 1.1
+ */
+public class DesignProblemInputProvider implements InputProvider {
+
+    /**
+     * The wrapped InputProvider.
+     */
+    private final InputProvider inputProvider;
+
+    /**
+     * Create a DesignProblemInputProvider by the wrapped InputProvider.
+     *
+     * @param inputProvider the wrapped InputProvider.
+     */
+    public DesignProblemInputProvider(InputProvider inputProvider) {
+        AssertUtil.nonNull(inputProvider, "The inputProvider cannot be null.");
+        this.inputProvider = inputProvider;
+    }
+
+    /**
+     * Provide a next string input.
+     *
+     * @return a string input.
+     */
+    @Override
+    public String provideNextInput() {
+        String operations = inputProvider.provideNextInput();
+        if (inputProvider.isEnd(operations) || hasArguments(operations)) {
+            return operations;
+        }
+        String arguments = inputProvider.provideNextInput();
+        AssertUtil.isTrue(!inputProvider.isEnd(arguments), "The design problem arguments are missing for the "
+                + "operations: " + operations);
+        return operations + " " + arguments;
+    }
+
+    /**
+     * Determine if the input is ending.
+     *
+     * @param input a string input got from {@link #provideNextInput()}}.
+     * @return true if the input is ending.
+     */
+    @Override
+    public boolean isEnd(String input) {
+        return inputProvider.isEnd(input);
+    }
+
+    /**
+     * Check if the operation line is followed by
+     * the arguments in the same line.
+     *
+     * @param input the operation line.
+     * @return true if the arguments are in the same line.
+     */
+    private static boolean hasArguments(String input) {
+        int depth = 0;
+        boolean inString = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (inString) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                // The operation list ends here. Check if anything follows it.
+                return !input.substring(i + 1).trim().isEmpty();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Closes the wrapped InputProvider.
+     *
+     * @throws Exception if the wrapped InputProvider cannot be closed
+     */
+    @Override
+    public void close() throws Exception {
+        inputProvider.close();
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineEvent;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.GsonUtil;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>ChromeTraceWriter is an asynchronous writer of a trace file
+ * in the Chrome trace event format, which can be opened in
+ * Perfetto or <tt>chrome://tracing</tt>.</p>
+ *
+ * <p>Each case is a complete event span, and its stages are the
+ * nested spans on the same track. Each thread recording the
+ * spans has its own track named by the thread name. A case
+ * span ends when its output is consumed or a stage fails.</p>
+ *
+ * <p>The recording threads only enqueue the spans into a bounded
+ * queue, and a daemon writer thread formats and writes them into
+ * a buffered file. When the queue is full, the spans are dropped
+ * and counted instead of blocking the recording threads.</p>
+ *
+ * @author Jidcoo
+ * @see PipelineStageRecorder
+ * @since 1.1
+ */
+final class ChromeTraceWriter extends PipelineStageListener {
+
+    /**
+     * The capacity of the span queue.
+     */
+    private static final int QUEUE_CAPACITY = 65536;
+
+    /**
+     * The name of the writer thread.
+     */
+    private static final String WRITER_THREAD_NAME = "ChromeTraceWriter";
+
+    /**
+     * The end marker of the span queue.
+     */
+    private static final Span END = new Span(null, null, 0, 0, 0, 0, null);
+
+    /**
+     * The span queue.
+     */
+    private final BlockingQueue<Span> spans;
+
+    /**
+     * The trace file writer.
+     */
+    private final Writer writer;
+
+    /**
+     * The writer thread.
+     */
+    private final Thread writerThread;
+
+    /**
+     * The origin time of the trace in nanoseconds.
+     */
+    private final long originNanos;
+
+    /**
+     * The count of the dropped spans.
+     */
+    private final AtomicLong dropped;
+
+    /**
+     * Create a ChromeTraceWriter instance writing to the trace file.
+     *
+     * @param path the trace file path.
+     */
+    ChromeTraceWriter(String path) {
+        AssertUtil.nonNull(path, "The trace file path cannot be null.");
+        try {
+            this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(path),
+                    StandardCharsets.UTF_8), 1 << 16);
+        } catch (IOException exception) {
+            throw new RuntimeException("Cannot open the trace file: " + path, exception);
+        }
+        this.originNanos = System.nanoTime();
+        this.spans = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this.dropped = new AtomicLong();
+        this.writerThread = new Thread(this::write, WRITER_THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Record the ended stage as a stage span, and the case span
+     * if the output is consumed.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    @Override
+    void onStage(PipelineEvent event) {
+        Thread thread = Thread.currentThread();
+        offer(new Span(thread, event.getStage().getStageName(), event.getCaseIndex(), event.getStageStartNanos(),
+                event.getStageEndNanos(), 0, null));
+        if (event.getStage() == PipelineStage.CONSUME) {
+            recordCase(thread, event);
+        }
+    }
+
+    /**
+     * Record the case span ended by the failed stage.
+     *
+     * @param event the PipelineEvent of the failed stage.
+     */
+    @Override
+    public void onError(PipelineEvent event) {
+        recordCase(Thread.currentThread(), event);
+    }
+
+    /**
+     * Write the remaining spans and close the trace file.
+     */
+    @Override
+    public void close() {
+        try {
+            // Stop waiting for the queue space if the writer has stopped.
+            while (!spans.offer(END, 100, TimeUnit.MILLISECONDS) && writerThread.isAlive()) {
+                // Keep waiting for the writer to drain the queue.
+            }
+            writerThread.join();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.get() > 0) {
+            EnhancerLogUtil.logW("The trace writer dropped %d spans because the queue was full.", dropped.get());
+        }
+    }
+
+    /**
+     * Record the case span ended by the stage.
+     *
+     * @param thread the recording thread.
+     * @param event  the PipelineEvent of the last stage.
+     */
+    private void recordCase(Thread thread, PipelineEvent event) {
+        offer(new Span(thread, null, event.getCaseIndex(), event.getCaseStartNanos(), event.getStageEndNanos(),
+                Objects.nonNull(event.getInput()) ? event.getInput().length() : 0, event.getInvoker()));
+    }
+
+    /**
+     * Offer a span to the queue, or count it as dropped.
+     *
+     * @param span the span.
+     */
+    private void offer(Span span) {
+        if (!spans.offer(span)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Write the spans as a JSON array until the end marker.
+     */
+    private void write() {
+        Set<Thread> namedThreads = new HashSet<>();
+        try (Writer out = writer) {
+            out.write("[\n");
+            boolean first = true;
+            while (true) {
+                Span span = spans.take();
+                if (span == END) {
+                    break;
+                }
+                if (namedThreads.add(span.thread)) {
+                    // Name the track of the thread at its first span.
+                    out.write(first ? "" : ",\n");
+                    out.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + span.thread.getId()
+                            + ",\"args\":{\"name\":" + GsonUtil.toJson(span.thread.getName()) + "}}");
+                    first = false;
+                }
+                out.write(first ? "" : ",\n");
+                writeSpan(out, span);
+                first = false;
+            }
+            out.write("\n]\n");
+        } catch (IOException | InterruptedException exception) {
+            EnhancerLogUtil.logE("The trace writer stopped writing: %s", exception);
+        }
+    }
+
+    /**
+     * Write a span as a complete event.
+     *
+     * @param out  the trace file writer.
+     * @param span the span.
+     * @throws IOException if the span cannot be written.
+     */
+    private void writeSpan(Writer out, Span span) throws IOException {
+        boolean isCase = Objects.isNull(span.stage);
+        out.write("{\"name\":\"");
+        out.write(isCase ? "case " + span.caseIndex : span.stage);
+        out.write(isCase ? "\",\"cat\":\"case\"" : "\",\"cat\":\"stage\"");
+        out.write(String.format(Locale.ROOT, ",\"ph\":\"X\",\"ts\":%.3f,\"dur\":%.3f,\"pid\":1,\"tid\":%d",
+                (span.startNanos - originNanos) / 1e3, (span.endNanos - span.startNanos) / 1e3,
+                span.thread.getId()));
+        out.write(",\"args\":{\"case\":" + span.caseIndex);
+        if (isCase) {
+            out.write(",\"inputLength\":" + span.inputLength);
+            if (Objects.nonNull(span.invoker)) {
+                out.write(",\"invoker\":" + GsonUtil.toJson(span.invoker.toGenericString()));
+            }
+        }
+        out.write("}}");
+    }
+
+    /**
+     * <p>Span is a case span or a stage span.</p>
+     */
+    private static final class Span {
+
+        /**
+         * The recording thread.
+         */
+        private final Thread thread;
+
+        /**
+         * The stage name, or null if it's a case span.
+         */
+        private final String stage;
+
+        /**
+         * The case index starting from 1.
+         */
+        private final int caseIndex;
+
+        /**
+         * The start time in nanoseconds.
+         */
+        private final long startNanos;
+
+        /**
+         * The end time in nanoseconds.
+         */
+        private final long endNanos;
+
+        /**
+         * The string input length of the case span.
+         */
+        private final int inputLength;
+
+        /**
+         * The matched leetcode invoker of the case span, or null.
+         */
+        private final Method invoker;
+
+        /**
+         * Create a Span instance.
+         *
+         * @param thread      the recording thread.
+         * @param stage       the stage name, or null if it's a case span.
+         * @param caseIndex   the case index starting from 1.
+         * @param startNanos  the start time in nanoseconds.
+         * @param endNanos    the end time in nanoseconds.
+         * @param inputLength the string input length of the case span.
+         * @param invoker     the matched leetcode invoker of the case span, or null.
+         */
+        private Span(Thread thread, String stage, int caseIndex, long startNanos, long endNanos, int inputLength,
+                     Method invoker) {
+            this.thread = thread;
+            this.stage = stage;
+            this.caseIndex = caseIndex;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.inputLength = inputLength;
+            this.invoker = invoker;
+        }
+    }
+}
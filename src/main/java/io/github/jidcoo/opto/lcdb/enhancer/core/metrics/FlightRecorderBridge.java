@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineEvent;
+import jdk.jfr.FlightRecorder;
+
+import java.util.Objects;
+
+/**
+ * <p>FlightRecorderBridge is the only entry to the
+ * <tt>jdk.jfr</tt> API.</p>
+ *
+ * <p>The {@link PipelineStageRecorder} loads it reflectively
+ * only if the <tt>jdk.jfr</tt> classes are found, so that the
+ * enhancer still links and runs on a JVM without the Java
+ * Flight Recorder. Before any recording is started, the Java
+ * Flight Recorder is not initialized and no event is created
+ * at all.</p>
+ *
+ * @author Jidcoo
+ * @see PipelineStageEvent
+ * @since 1.1
+ */
+final class FlightRecorderBridge implements StageFlightRecorder {
+
+    /**
+     * Check if the Java Flight Recorder is initialized, i.e. a recording has been started.
+     *
+     * @return true if the Java Flight Recorder is initialized.
+     */
+    @Override
+    public boolean isInitialized() {
+        return FlightRecorder.isInitialized();
+    }
+
+    /**
+     * Begin a PipelineStageEvent if the Java Flight Recorder is initialized.
+     *
+     * @return the begun PipelineStageEvent, or null if the Java Flight Recorder is not initialized.
+     */
+    @Override
+    public Object begin() {
+        if (!FlightRecorder.isInitialized()) {
+            return null;
+        }
+        PipelineStageEvent event = new PipelineStageEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End a PipelineStageEvent and commit it if it's enabled by a recording.
+     *
+     * @param event         the begun PipelineStageEvent.
+     * @param pipelineEvent the PipelineEvent of the ended stage.
+     */
+    @Override
+    public void commit(Object event, PipelineEvent pipelineEvent) {
+        PipelineStageEvent stageEvent = (PipelineStageEvent) event;
+        stageEvent.end();
+        if (stageEvent.shouldCommit()) {
+            stageEvent.stage = pipelineEvent.getStage().getStageName();
+            stageEvent.caseIndex = pipelineEvent.getCaseIndex();
+            stageEvent.inputLength = Objects.nonNull(pipelineEvent.getInput()) ?
+                    pipelineEvent.getInput().length() : 0;
+            stageEvent.invoker = Objects.nonNull(pipelineEvent.getInvoker()) ?
+                    pipelineEvent.getInvoker().toGenericString() : null;
+            stageEvent.commit();
+        }
+    }
+}
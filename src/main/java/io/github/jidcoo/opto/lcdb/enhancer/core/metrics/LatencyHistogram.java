@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>LatencyHistogram is an HDR-style latency histogram
+ * in nanoseconds.</p>
+ *
+ * <p>The values below {@value #SUB_BUCKET_COUNT} have their
+ * own buckets. The larger values are grouped by their highest
+ * bit, and each group is split into {@value #HALF_SUB_BUCKET_COUNT}
+ * linear sub-buckets, so that a value is recorded in a constant
+ * time with a relative error below 1 / {@value #HALF_SUB_BUCKET_COUNT}.</p>
+ *
+ * <p>LatencyHistogram has a single writer, i.e. the pipeline
+ * thread, which records without any lock or CAS. The readers,
+ * e.g. the JMX threads, may read it concurrently and see a
+ * slightly stale snapshot.</p>
+ *
+ * @author Jidcoo
+ * @see StageMetrics
+ * @since 1.1
+ */
+final class LatencyHistogram {
+
+    /**
+     * The bits of the sub-bucket count.
+     */
+    private static final int SUB_BUCKET_BITS = 7;
+
+    /**
+     * The sub-bucket count.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The half sub-bucket count, i.e. the linear sub-buckets of each group.
+     */
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+
+    /**
+     * The bucket count covering all non-negative long values.
+     */
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * HALF_SUB_BUCKET_COUNT;
+
+    /**
+     * The bucket counts.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Record a value.
+     *
+     * @param value the value in nanoseconds.
+     */
+    void record(long value) {
+        int bucket = bucketOf(Math.max(0, value));
+        // Only the pipeline thread writes, so a lazy set is enough.
+        counts.lazySet(bucket, counts.get(bucket) + 1);
+    }
+
+    /**
+     * Get the value at the percentile.
+     *
+     * @param percentile the percentile in [0, 100].
+     * @return the value in nanoseconds, or 0 if nothing is recorded.
+     */
+    long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return highestValueOf(i);
+            }
+        }
+        return highestValueOf(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Get the bucket of a value.
+     *
+     * @param value the non-negative value.
+     * @return the bucket index.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Keep the highest SUB_BUCKET_BITS bits of the value.
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Get the highest value of a bucket.
+     *
+     * @param bucket the bucket index.
+     * @return the highest value of the bucket.
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / HALF_SUB_BUCKET_COUNT - 1;
+        long mantissa = bucket % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
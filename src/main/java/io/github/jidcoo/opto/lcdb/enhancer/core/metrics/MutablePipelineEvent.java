@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineEvent;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+
+import java.lang.reflect.Method;
+
+/**
+ * <p>MutablePipelineEvent is the {@link PipelineEvent}
+ * reused by the {@link PipelineStageRecorder} for all
+ * stages and cases of a run.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+final class MutablePipelineEvent implements PipelineEvent {
+
+    /**
+     * The case index starting from 1.
+     */
+    private int caseIndex;
+
+    /**
+     * The string input of the case.
+     */
+    private String input;
+
+    /**
+     * The ended or failed stage.
+     */
+    private PipelineStage stage;
+
+    /**
+     * The start time of the case in nanoseconds.
+     */
+    private long caseStartNanos;
+
+    /**
+     * The start time of the stage in nanoseconds.
+     */
+    private long stageStartNanos;
+
+    /**
+     * The end time of the stage in nanoseconds.
+     */
+    private long stageEndNanos;
+
+    /**
+     * The matched leetcode invoker, or null.
+     */
+    private Method invoker;
+
+    /**
+     * The error of the failed stage, or null.
+     */
+    private Throwable error;
+
+    /**
+     * Reset the event for a case before its input is read.
+     *
+     * @param caseIndex      the case index starting from 1.
+     * @param caseStartNanos the start time of the case in nanoseconds.
+     */
+    void resetCase(int caseIndex, long caseStartNanos) {
+        this.caseIndex = caseIndex;
+        this.input = null;
+        this.caseStartNanos = caseStartNanos;
+        this.invoker = null;
+        this.error = null;
+    }
+
+    /**
+     * Update the event for a stage.
+     *
+     * @param stage           the ended or failed stage.
+     * @param stageStartNanos the start time of the stage in nanoseconds.
+     * @param stageEndNanos   the end time of the stage in nanoseconds.
+     * @param error           the error of the failed stage, or null.
+     */
+    void updateStage(PipelineStage stage, long stageStartNanos, long stageEndNanos, Throwable error) {
+        this.stage = stage;
+        this.stageStartNanos = stageStartNanos;
+        this.stageEndNanos = stageEndNanos;
+        this.error = error;
+    }
+
+    /**
+     * Set the string input of the case once it's read.
+     *
+     * @param input the string input of the case.
+     */
+    void setInput(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Set the matched leetcode invoker.
+     *
+     * @param invoker the matched leetcode invoker.
+     */
+    void setInvoker(Method invoker) {
+        this.invoker = invoker;
+    }
+
+    /**
+     * Get the case index.
+     *
+     * @return the case index starting from 1.
+     */
+    @Override
+    public int getCaseIndex() {
+        return caseIndex;
+    }
+
+    /**
+     * Get the string input of the case.
+     *
+     * @return the string input.
+     */
+    @Override
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Get the ended or failed stage.
+     *
+     * @return the PipelineStage.
+     */
+    @Override
+    public PipelineStage getStage() {
+        return stage;
+    }
+
+    /**
+     * Get the start time of the case.
+     *
+     * @return the start time of the case in nanoseconds.
+     */
+    @Override
+    public long getCaseStartNanos() {
+        return caseStartNanos;
+    }
+
+    /**
+     * Get the start time of the stage.
+     *
+     * @return the start time of the stage in nanoseconds.
+     */
+    @Override
+    public long getStageStartNanos() {
+        return stageStartNanos;
+    }
+
+    /**
+     * Get the end time of the stage.
+     *
+     * @return the end time of the stage in nanoseconds.
+     */
+    @Override
+    public long getStageEndNanos() {
+        return stageEndNanos;
+    }
+
+    /**
+     * Get the matched leetcode invoker of the case.
+     *
+     * @return the matched leetcode invoker, or null if it's not matched yet.
+     */
+    @Override
+    public Method getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Get the error of the failed stage.
+     *
+     * @return the error, or null if the stage has not failed.
+     */
+    @Override
+    public Throwable getError() {
+        return error;
+    }
+}
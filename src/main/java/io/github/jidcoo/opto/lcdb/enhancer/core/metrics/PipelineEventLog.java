@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineEvent;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.GsonUtil;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>PipelineEventLog is an asynchronous structured event
+ * log of the case pipeline.</p>
+ *
+ * <p>Each event records a stage of a case, i.e. its case index,
+ * stage name, duration and error, and is appended to the event
+ * file as a JSON line, e.g.</p>
+ *
+ * <pre>
+ * {"time":1718000000000,"case":1,"stage":"match","nanos":183200}
+ * </pre>
+ *
+ * <p>The pipeline thread only enqueues the events into a bounded
+ * queue, and a daemon writer thread formats and writes them. When
+ * the queue is full, the events are dropped and counted instead of
+ * blocking the pipeline.</p>
+ *
+ * @author Jidcoo
+ * @see PipelineStageRecorder
+ * @since 1.1
+ */
+final class PipelineEventLog extends PipelineStageListener {
+
+    /**
+     * The capacity of the event queue.
+     */
+    private static final int QUEUE_CAPACITY = 8192;
+
+    /**
+     * The name of the writer thread.
+     */
+    private static final String WRITER_THREAD_NAME = "PipelineEventLogWriter";
+
+    /**
+     * The end marker of the event queue.
+     */
+    private static final Event END = new Event(0, null, 0, null);
+
+    /**
+     * The event queue.
+     */
+    private final BlockingQueue<Event> events;
+
+    /**
+     * The event file writer.
+     */
+    private final Writer writer;
+
+    /**
+     * The writer thread.
+     */
+    private final Thread writerThread;
+
+    /**
+     * The count of the dropped events.
+     */
+    private final AtomicLong dropped;
+
+    /**
+     * Create a PipelineEventLog instance appending to the event file.
+     *
+     * @param path the event file path.
+     */
+    PipelineEventLog(String path) {
+        AssertUtil.nonNull(path, "The event file path cannot be null.");
+        try {
+            this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(path, true),
+                    StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            throw new RuntimeException("Cannot open the event file: " + path, exception);
+        }
+        this.events = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this.dropped = new AtomicLong();
+        this.writerThread = new Thread(this::write, WRITER_THREAD_NAME);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Record the ended stage.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    @Override
+    void onStage(PipelineEvent event) {
+        record(event, null);
+    }
+
+    /**
+     * Record the failed stage with its error message.
+     *
+     * @param event the PipelineEvent of the failed stage.
+     */
+    @Override
+    public void onError(PipelineEvent event) {
+        record(event, event.getError().toString());
+    }
+
+    /**
+     * Write the remaining events and close the event file.
+     */
+    @Override
+    public void close() {
+        try {
+            // Stop waiting for the queue space if the writer has stopped.
+            while (!events.offer(END, 100, TimeUnit.MILLISECONDS) && writerThread.isAlive()) {
+                // Keep waiting for the writer to drain the queue.
+            }
+            writerThread.join();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.get() > 0) {
+            EnhancerLogUtil.logW("The event log dropped %d events because the queue was full.", dropped.get());
+        }
+    }
+
+    /**
+     * Record an event without blocking. The event is dropped if the queue is full.
+     *
+     * @param event the PipelineEvent of the stage.
+     * @param error the error message, or null if the stage succeeded.
+     */
+    private void record(PipelineEvent event, String error) {
+        if (!events.offer(new Event(event.getCaseIndex(), event.getStage().getStageName(),
+                event.getStageEndNanos() - event.getStageStartNanos(), error))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Write the events until the end marker. The file is flushed
+     * whenever the queue is drained.
+     */
+    private void write() {
+        try (Writer out = writer) {
+            while (true) {
+                Event event = events.take();
+                if (event == END) {
+                    return;
+                }
+                out.write(event.toJson());
+                out.write('\n');
+                if (events.isEmpty()) {
+                    out.flush();
+                }
+            }
+        } catch (IOException | InterruptedException exception) {
+            EnhancerLogUtil.logE("The event log stopped writing: %s", exception);
+        }
+    }
+
+    /**
+     * <p>Event is a structured event of a case stage.</p>
+     */
+    private static final class Event {
+
+        /**
+         * The event time in milliseconds.
+         */
+        private final long time;
+
+        /**
+         * The case index starting from 1.
+         */
+        private final int caseIndex;
+
+        /**
+         * The stage name.
+         */
+        private final String stage;
+
+        /**
+         * The stage duration in nanoseconds.
+         */
+        private final long nanos;
+
+        /**
+         * The error message, or null if the stage succeeded.
+         */
+        private final String error;
+
+        /**
+         * Create an Event instance.
+         *
+         * @param caseIndex the case index starting from 1.
+         * @param stage     the stage name.
+         * @param nanos     the stage duration in nanoseconds.
+         * @param error     the error message, or null if the stage succeeded.
+         */
+        private Event(int caseIndex, String stage, long nanos, String error) {
+            this.time = System.currentTimeMillis();
+            this.caseIndex = caseIndex;
+            this.stage = stage;
+            this.nanos = nanos;
+            this.error = error;
+        }
+
+        /**
+         * Format the event as a JSON object.
+         *
+         * @return the JSON object string.
+         */
+        private String toJson() {
+            StringBuilder json = new StringBuilder(96);
+            json.append("{\"time\":").append(time)
+                    .append(",\"case\":").append(caseIndex)
+                    .append(",\"stage\":\"").append(stage).append('"')
+                    .append(",\"nanos\":").append(nanos);
+            if (Objects.nonNull(error)) {
+                json.append(",\"error\":").append(GsonUtil.toJson(error));
+            }
+            return json.append('}').toString();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineEvent;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * <p>PipelineMetrics is the per-stage metrics of
+ * the case pipeline.</p>
+ *
+ * <p>PipelineMetrics keeps a {@link StageMetrics} for each
+ * {@link PipelineStage} and registers them as the platform
+ * MBeans, so that a long run can be watched live. At the end
+ * of a run, it gives a summary table of the stages.</p>
+ *
+ * @author Jidcoo
+ * @see StageMetricsMBean
+ * @since 1.1
+ */
+final class PipelineMetrics extends PipelineStageListener {
+
+    /**
+     * The object name prefix of the stage MBeans.
+     */
+    private static final String OBJECT_NAME_PREFIX = "io.github.jidcoo.opto.lcdb.enhancer:type=PipelineStage,name=";
+
+    /**
+     * The StageMetrics of each PipelineStage, indexed by the ordinal.
+     */
+    private final StageMetrics[] stageMetrics;
+
+    /**
+     * Create a PipelineMetrics instance and register its stage MBeans.
+     */
+    PipelineMetrics() {
+        PipelineStage[] stages = PipelineStage.values();
+        this.stageMetrics = new StageMetrics[stages.length];
+        for (PipelineStage stage : stages) {
+            stageMetrics[stage.ordinal()] = new StageMetrics(stage);
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (StageMetrics metrics : stageMetrics) {
+            try {
+                ObjectName name = objectNameOf(metrics.getStage());
+                // Replace the MBean of a previous run, e.g. in the hot reload mode.
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+                server.registerMBean(metrics, name);
+            } catch (JMException exception) {
+                EnhancerLogUtil.logW("Cannot register the MBean of the stage %s: %s",
+                        metrics.getStage().getStageName(), exception);
+            }
+        }
+    }
+
+    /**
+     * Measure the ended stage.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    @Override
+    void onStage(PipelineEvent event) {
+        stageMetrics[event.getStage().ordinal()].record(event.getStageEndNanos() - event.getStageStartNanos());
+    }
+
+    /**
+     * Create the summary table of the stages.
+     *
+     * @return the summary table.
+     */
+    String summary() {
+        StringBuilder table = new StringBuilder("[Pipeline Metrics]\n");
+        table.append(String.format(Locale.ROOT, "%-10s %10s %12s %7s %12s %12s %12s %12s%n", "stage", "count",
+                "total(ms)", "share", "mean(us)", "p50(us)", "p99(us)", "max(us)"));
+        double totalMillis = 0;
+        for (StageMetrics metrics : stageMetrics) {
+            totalMillis += metrics.getTotalMillis();
+        }
+        for (StageMetrics metrics : stageMetrics) {
+            double share = totalMillis > 0 ? metrics.getTotalMillis() * 100 / totalMillis : 0;
+            table.append(String.format(Locale.ROOT, "%-10s %10d %12.2f %6.1f%% %12.2f %12.2f %12.2f %12.2f%n",
+                    metrics.getStage().getStageName(), metrics.getCount(), metrics.getTotalMillis(), share,
+                    metrics.getMeanMicros(), metrics.getP50Micros(), metrics.getP99Micros(),
+                    metrics.getMaxMicros()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Unregister the stage MBeans.
+     */
+    @Override
+    public void close() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (StageMetrics metrics : stageMetrics) {
+            try {
+                ObjectName name = objectNameOf(metrics.getStage());
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException exception) {
+                EnhancerLogUtil.logW("Cannot unregister the MBean of the stage %s: %s",
+                        metrics.getStage().getStageName(), exception);
+            }
+        }
+    }
+
+    /**
+     * Get the object name of the stage MBean.
+     *
+     * @param stage the PipelineStage.
+     * @return the object name.
+     * @throws JMException if the object name is malformed.
+     */
+    private static ObjectName objectNameOf(PipelineStage stage) throws JMException {
+        return new ObjectName(OBJECT_NAME_PREFIX + stage.getStageName());
+    }
+}
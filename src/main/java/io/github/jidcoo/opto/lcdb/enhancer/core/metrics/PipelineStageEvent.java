@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>PipelineStageEvent is a Java Flight Recorder event
+ * of a {@link PipelineStage}.</p>
+ *
+ * <p>It's only loaded by the {@link FlightRecorderBridge}
+ * when the JVM has the <tt>jdk.jfr</tt> module.</p>
+ *
+ * @author Jidcoo
+ * @see FlightRecorderBridge
+ * @since 1.1
+ */
+@Name("io.github.jidcoo.opto.lcdb.enhancer.PipelineStage")
+@Label("Pipeline Stage")
+@Category("LeetcodeJavaDebugEnhancer")
+@Description("A stage of the case pipeline")
+@StackTrace(false)
+final class PipelineStageEvent extends jdk.jfr.Event {
+
+    /**
+     * The stage name.
+     */
+    @Label("Stage")
+    String stage;
+
+    /**
+     * The case index starting from 1.
+     */
+    @Label("Case Index")
+    int caseIndex;
+
+    /**
+     * The string input length of the case.
+     */
+    @Label("Input Length")
+    int inputLength;
+
+    /**
+     * The matched leetcode invoker, or null if it's not matched yet.
+     */
+    @Label("Invoker")
+    String invoker;
+}
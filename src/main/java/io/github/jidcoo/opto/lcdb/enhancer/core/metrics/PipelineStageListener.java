@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineEvent;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineListener;
+
+/**
+ * <p>PipelineStageListener is a builtin {@link PipelineListener}
+ * handling all ended stages alike.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+abstract class PipelineStageListener implements PipelineListener, AutoCloseable {
+
+    /**
+     * Called after any stage ends.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    abstract void onStage(PipelineEvent event);
+
+    /**
+     * Called after a case is read.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    @Override
+    public void onCaseRead(PipelineEvent event) {
+        onStage(event);
+    }
+
+    /**
+     * Called after the string input is parsed.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    @Override
+    public void onParsed(PipelineEvent event) {
+        onStage(event);
+    }
+
+    /**
+     * Called after the leetcode invoker is matched.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    @Override
+    public void onInvokerMatched(PipelineEvent event) {
+        onStage(event);
+    }
+
+    /**
+     * Called after the leetcode invoker is executed.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    @Override
+    public void onExecuted(PipelineEvent event) {
+        onStage(event);
+    }
+
+    /**
+     * Called after the output is printed.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    @Override
+    public void onPrinted(PipelineEvent event) {
+        onStage(event);
+    }
+
+    /**
+     * Called after the output is consumed.
+     *
+     * @param event the PipelineEvent of the ended stage.
+     */
+    @Override
+    public void onConsumed(PipelineEvent event) {
+        onStage(event);
+    }
+
+    /**
+     * Close the resources of this listener.
+     */
+    @Override
+    public abstract void close();
+}
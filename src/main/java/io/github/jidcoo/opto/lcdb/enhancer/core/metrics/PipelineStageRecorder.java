@@ -0,0 +1,393 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineListener;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>PipelineStageRecorder is the recorder of the stages
+ * of the case pipeline.</p>
+ *
+ * <p>PipelineStageRecorder dispatches each ended or failed
+ * stage to the {@link PipelineListener}s with a reused
+ * {@link MutablePipelineEvent}, e.g. the builtin
+ * {@link PipelineMetrics}, {@link PipelineEventLog} and
+ * {@link ChromeTraceWriter}. It also emits a
+ * {@link PipelineStageEvent} for each stage while a Java
+ * Flight Recorder recording is running, e.g. started by
+ * <tt>-XX:StartFlightRecording</tt>. If there is no listener,
+ * the stages are neither timed nor dispatched. If there is
+ * neither a listener nor a recording, no recorder is created
+ * at all.</p>
+ *
+ * <p>The stages are recorded one after another by the pipeline
+ * thread, so PipelineStageRecorder is not thread-safe. In the
+ * pipelined mode, each case is recorded by its own recorder
+ * forked by {@link #forkCase(int)}, which is handed over from
+ * stage thread to stage thread along with the case. It emits the
+ * flight events on the stage threads, but keeps the stages for the
+ * listeners until the printer thread replays them by
+ * {@link #replay(PipelineStageRecorder)}, so that the listeners
+ * are still called back on one thread and in the stage order.</p>
+ *
+ * @author Jidcoo
+ * @see PipelineStage
+ * @since 1.1
+ */
+final class PipelineStageRecorder {
+
+    /**
+     * The class name of the {@link StageFlightRecorder} implementation.
+     */
+    private static final String FLIGHT_RECORDER_BRIDGE_CLASS =
+            "io.github.jidcoo.opto.lcdb.enhancer.core.metrics.FlightRecorderBridge";
+
+    /**
+     * The StageFlightRecorder, or null if the Java Flight Recorder API is not
+     * found. It's loaded reflectively, so that the {@link FlightRecorderBridge}
+     * is never loaded on a JVM without the <tt>jdk.jfr</tt> module.
+     */
+    private static final StageFlightRecorder FLIGHT_RECORDER = loadFlightRecorder();
+
+    /**
+     * The PipelineListeners.
+     */
+    private final PipelineListener[] listeners;
+
+    /**
+     * The builtin PipelineMetrics listener, or null if the metrics are disabled.
+     */
+    private final PipelineMetrics metrics;
+
+    /**
+     * Whether there is any listener.
+     */
+    private final boolean listened;
+
+    /**
+     * The reused PipelineEvent.
+     */
+    private final MutablePipelineEvent event;
+
+    /**
+     * The stages kept for the replay of a forked case recorder,
+     * or null if the stages are dispatched once they are ended.
+     */
+    private final List<RecordedStage> recordedStages;
+
+    /**
+     * The current stage.
+     */
+    private PipelineStage stage;
+
+    /**
+     * The start time of the current stage in nanoseconds.
+     */
+    private long stageStartNanos;
+
+    /**
+     * The begun PipelineStageEvent of the current stage, or null.
+     */
+    private Object flightEvent;
+
+    /**
+     * Create a PipelineStageRecorder instance.
+     *
+     * @param listeners the PipelineListeners.
+     * @param metrics   the builtin PipelineMetrics listener, or null if the metrics are disabled.
+     */
+    PipelineStageRecorder(List<PipelineListener> listeners, PipelineMetrics metrics) {
+        this.listeners = listeners.toArray(new PipelineListener[0]);
+        this.metrics = metrics;
+        this.listened = this.listeners.length > 0;
+        this.event = new MutablePipelineEvent();
+        this.recordedStages = null;
+    }
+
+    /**
+     * Create a case recorder forked from a PipelineStageRecorder instance.
+     *
+     * @param parent the PipelineStageRecorder instance.
+     */
+    private PipelineStageRecorder(PipelineStageRecorder parent) {
+        this.listeners = parent.listeners;
+        this.metrics = parent.metrics;
+        this.listened = parent.listened;
+        this.event = new MutablePipelineEvent();
+        this.recordedStages = listened ? new ArrayList<>(PipelineStage.values().length) : null;
+    }
+
+    /**
+     * Fork a recorder of a case for the pipelined mode, and begin
+     * recording the case before its {@link PipelineStage#READ} stage.
+     *
+     * @param caseIndex the case index starting from 1.
+     * @return the case recorder.
+     */
+    PipelineStageRecorder forkCase(int caseIndex) {
+        PipelineStageRecorder caseRecorder = new PipelineStageRecorder(this);
+        caseRecorder.beginCase(caseIndex);
+        return caseRecorder;
+    }
+
+    /**
+     * Dispatch the stages kept by a forked case recorder to the listeners.
+     *
+     * @param caseRecorder the case recorder forked by {@link #forkCase(int)}.
+     */
+    void replay(PipelineStageRecorder caseRecorder) {
+        if (Objects.isNull(caseRecorder.recordedStages)) {
+            return;
+        }
+        MutablePipelineEvent caseEvent = caseRecorder.event;
+        event.resetCase(caseEvent.getCaseIndex(), caseEvent.getCaseStartNanos());
+        event.setInput(caseEvent.getInput());
+        for (RecordedStage recordedStage : caseRecorder.recordedStages) {
+            event.setInvoker(recordedStage.invoker);
+            event.updateStage(recordedStage.stage, recordedStage.stageStartNanos, recordedStage.stageEndNanos,
+                    recordedStage.error);
+            dispatch();
+        }
+        caseRecorder.recordedStages.clear();
+    }
+
+    /**
+     * Begin recording a case before its {@link PipelineStage#READ} stage.
+     *
+     * @param caseIndex the case index starting from 1.
+     */
+    void beginCase(int caseIndex) {
+        event.resetCase(caseIndex, listened ? System.nanoTime() : 0);
+    }
+
+    /**
+     * Set the string input of the current case once it's read.
+     *
+     * @param input the string input of the case.
+     */
+    void setInput(String input) {
+        event.setInput(input);
+    }
+
+    /**
+     * Set the matched leetcode invoker of the current case.
+     *
+     * @param invoker the matched leetcode invoker.
+     */
+    void setInvoker(Method invoker) {
+        event.setInvoker(invoker);
+    }
+
+    /**
+     * Begin a stage.
+     *
+     * @param stage the PipelineStage.
+     */
+    void begin(PipelineStage stage) {
+        this.stage = stage;
+        if (Objects.nonNull(FLIGHT_RECORDER)) {
+            flightEvent = FLIGHT_RECORDER.begin();
+        }
+        if (listened) {
+            stageStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * End the current stage and dispatch it to the listeners.
+     */
+    void end() {
+        event.updateStage(stage, stageStartNanos, listened ? System.nanoTime() : 0, null);
+        if (listened) {
+            dispatchOrKeep();
+        }
+        if (Objects.nonNull(flightEvent)) {
+            FLIGHT_RECORDER.commit(flightEvent, event);
+            flightEvent = null;
+        }
+    }
+
+    /**
+     * Fail the current stage and dispatch the error to the listeners.
+     *
+     * @param error the error of the current stage.
+     */
+    void error(Throwable error) {
+        flightEvent = null;
+        if (listened) {
+            event.updateStage(stage, stageStartNanos, System.nanoTime(), error);
+            dispatchOrKeep();
+        }
+    }
+
+    /**
+     * Get the summary table of the pipeline metrics.
+     *
+     * @return the summary table, or null if the metrics are disabled.
+     */
+    String summary() {
+        return Objects.nonNull(metrics) ? metrics.summary() : null;
+    }
+
+    /**
+     * Close the listeners implementing {@link AutoCloseable}.
+     */
+    void close() {
+        for (PipelineListener listener : listeners) {
+            if (listener instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) listener).close();
+                } catch (Exception exception) {
+                    EnhancerLogUtil.logW("Cannot close the pipeline listener %s: %s", listener, exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dispatch the ended or failed stage of the event to the
+     * listeners, or keep it for the replay of a forked case recorder.
+     */
+    private void dispatchOrKeep() {
+        if (Objects.nonNull(recordedStages)) {
+            recordedStages.add(new RecordedStage(event));
+        } else {
+            dispatch();
+        }
+    }
+
+    /**
+     * Dispatch the ended or failed stage of the event to the listeners.
+     */
+    private void dispatch() {
+        for (PipelineListener listener : listeners) {
+            if (Objects.nonNull(event.getError())) {
+                listener.onError(event);
+            } else {
+                dispatch(listener, event.getStage());
+            }
+        }
+    }
+
+    /**
+     * Dispatch the ended stage to the callback of the listener.
+     *
+     * @param listener the PipelineListener.
+     * @param stage    the ended stage.
+     */
+    private void dispatch(PipelineListener listener, PipelineStage stage) {
+        switch (stage) {
+            case READ:
+                listener.onCaseRead(event);
+                break;
+            case TOKENIZE:
+                listener.onParsed(event);
+                break;
+            case MATCH:
+                listener.onInvokerMatched(event);
+                break;
+            case EXECUTE:
+                listener.onExecuted(event);
+                break;
+            case PRINT:
+                listener.onPrinted(event);
+                break;
+            case CONSUME:
+                listener.onConsumed(event);
+                break;
+            default:
+                throw new RuntimeException("Unknown pipeline stage: " + stage);
+        }
+    }
+
+    /**
+     * Check if a Java Flight Recorder recording has been started.
+     *
+     * @return true if the Java Flight Recorder is found and initialized.
+     */
+    static boolean isFlightRecorderInitialized() {
+        return Objects.nonNull(FLIGHT_RECORDER) && FLIGHT_RECORDER.isInitialized();
+    }
+
+    /**
+     * Load the StageFlightRecorder if the Java Flight Recorder API is found.
+     *
+     * @return the StageFlightRecorder, or null if the Java Flight Recorder API is not found.
+     */
+    private static StageFlightRecorder loadFlightRecorder() {
+        ClassLoader classLoader = PipelineStageRecorder.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.Event", false, classLoader);
+            return (StageFlightRecorder) Class.forName(FLIGHT_RECORDER_BRIDGE_CLASS, true, classLoader)
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError error) {
+            return null;
+        }
+    }
+
+    /**
+     * <p>RecordedStage is an ended or failed stage kept by a
+     * forked case recorder until it's replayed.</p>
+     */
+    private static final class RecordedStage {
+
+        /**
+         * The ended or failed stage.
+         */
+        private final PipelineStage stage;
+
+        /**
+         * The start time of the stage in nanoseconds.
+         */
+        private final long stageStartNanos;
+
+        /**
+         * The end time of the stage in nanoseconds.
+         */
+        private final long stageEndNanos;
+
+        /**
+         * The matched leetcode invoker when the stage ended, or null.
+         */
+        private final Method invoker;
+
+        /**
+         * The error of the failed stage, or null.
+         */
+        private final Throwable error;
+
+        /**
+         * Create a RecordedStage instance from the updated event.
+         *
+         * @param event the event updated for the stage.
+         */
+        RecordedStage(MutablePipelineEvent event) {
+            this.stage = event.getStage();
+            this.stageStartNanos = event.getStageStartNanos();
+            this.stageEndNanos = event.getStageEndNanos();
+            this.invoker = event.getInvoker();
+            this.error = event.getError();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineListener;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ContainerCheckUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>PipelineStageRecorderFactory is a factory class
+ * to product the {@link PipelineStageRecorder}
+ * instance.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class PipelineStageRecorderFactory {
+
+    /**
+     * Product a PipelineStageRecorder instance by
+     * {@link LeetcodeJavaDebugEnhancer} instance.
+     *
+     * @param enhancer the LeetcodeJavaDebugEnhancer instance.
+     * @return the PipelineStageRecorder instance, or null if there is
+     * no listener and no Java Flight Recorder recording has been started.
+     */
+    public static PipelineStageRecorder getPipelineStageRecorder(LeetcodeJavaDebugEnhancer enhancer) {
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        List<PipelineListener> listeners = new ArrayList<>();
+        // Add the builtin listeners at first.
+        PipelineMetrics metrics = enhancer.isPipelineMetricsEnabled() ? new PipelineMetrics() : null;
+        if (Objects.nonNull(metrics)) {
+            listeners.add(metrics);
+        }
+        String eventLogFile = enhancer.getPipelineEventLogFile();
+        if (Objects.nonNull(eventLogFile)) {
+            listeners.add(new PipelineEventLog(eventLogFile));
+        }
+        String traceFile = enhancer.getChromeTraceFile();
+        if (Objects.nonNull(traceFile)) {
+            listeners.add(new ChromeTraceWriter(traceFile));
+        }
+        // Then add the user listeners.
+        List<PipelineListener> userListeners = enhancer.getPipelineListeners();
+        if (!ContainerCheckUtil.isListEmpty(userListeners)) {
+            for (PipelineListener listener : userListeners) {
+                AssertUtil.nonNull(listener, "The pipeline listener cannot be null.");
+                listeners.add(listener);
+            }
+        }
+        // Skip the per-case bookkeeping when nobody records the stages.
+        if (listeners.isEmpty() && !PipelineStageRecorder.isFlightRecorderInitialized()) {
+            return null;
+        }
+        return new PipelineStageRecorder(listeners, metrics);
+    }
+}
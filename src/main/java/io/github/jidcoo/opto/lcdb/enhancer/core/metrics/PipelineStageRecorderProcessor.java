@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+import java.lang.reflect.Method;
+
+/**
+ * <p>PipelineStageRecorderProcessor is a publicly available
+ * PipelineStageRecorder processor. It has used a proxy to
+ * access {@link PipelineStageRecorder}.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class PipelineStageRecorderProcessor {
+
+    /**
+     * Begin recording a case before its {@link PipelineStage#READ}
+     * stage with PipelineStageRecorder instance.
+     *
+     * @param recorder  the PipelineStageRecorder instance.
+     * @param caseIndex the case index starting from 1.
+     */
+    public static void beginCase(Object recorder, int caseIndex) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        ((PipelineStageRecorder) (recorder)).beginCase(caseIndex);
+    }
+
+    /**
+     * Fork a recorder of a case for the pipelined mode with PipelineStageRecorder instance,
+     * and begin recording the case before its {@link PipelineStage#READ} stage.
+     *
+     * @param recorder  the PipelineStageRecorder instance.
+     * @param caseIndex the case index starting from 1.
+     * @return the case recorder.
+     */
+    public static Object forkCase(Object recorder, int caseIndex) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        return ((PipelineStageRecorder) (recorder)).forkCase(caseIndex);
+    }
+
+    /**
+     * Dispatch the stages kept by a forked case recorder to the listeners
+     * with PipelineStageRecorder instance.
+     *
+     * @param recorder     the PipelineStageRecorder instance.
+     * @param caseRecorder the case recorder forked by {@link #forkCase(Object, int)}.
+     */
+    public static void replay(Object recorder, Object caseRecorder) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        AssertUtil.isTrue((caseRecorder instanceof PipelineStageRecorder),
+                "The case recorder is not a PipelineStageRecorder.");
+        ((PipelineStageRecorder) (recorder)).replay((PipelineStageRecorder) (caseRecorder));
+    }
+
+    /**
+     * Set the string input of the current case once it's read with PipelineStageRecorder instance.
+     *
+     * @param recorder the PipelineStageRecorder instance.
+     * @param input    the string input of the case.
+     */
+    public static void setInput(Object recorder, String input) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        ((PipelineStageRecorder) (recorder)).setInput(input);
+    }
+
+    /**
+     * Set the matched leetcode invoker of the current case with PipelineStageRecorder instance.
+     *
+     * @param recorder the PipelineStageRecorder instance.
+     * @param invoker  the matched leetcode invoker.
+     */
+    public static void setInvoker(Object recorder, Method invoker) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        ((PipelineStageRecorder) (recorder)).setInvoker(invoker);
+    }
+
+    /**
+     * Begin a stage with PipelineStageRecorder instance.
+     *
+     * @param recorder the PipelineStageRecorder instance.
+     * @param stage    the PipelineStage.
+     */
+    public static void begin(Object recorder, PipelineStage stage) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        ((PipelineStageRecorder) (recorder)).begin(stage);
+    }
+
+    /**
+     * End the current stage with PipelineStageRecorder instance.
+     *
+     * @param recorder the PipelineStageRecorder instance.
+     */
+    public static void end(Object recorder) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        ((PipelineStageRecorder) (recorder)).end();
+    }
+
+    /**
+     * Fail the current stage with PipelineStageRecorder instance.
+     *
+     * @param recorder the PipelineStageRecorder instance.
+     * @param error    the error of the current stage.
+     */
+    public static void error(Object recorder, Throwable error) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        ((PipelineStageRecorder) (recorder)).error(error);
+    }
+
+    /**
+     * Create the summary table of the pipeline metrics with PipelineStageRecorder instance.
+     *
+     * @param recorder the PipelineStageRecorder instance.
+     * @return the summary table, or null if the metrics are disabled.
+     */
+    public static String summary(Object recorder) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        return ((PipelineStageRecorder) (recorder)).summary();
+    }
+
+    /**
+     * Close the listeners of PipelineStageRecorder instance.
+     *
+     * @param recorder the PipelineStageRecorder instance.
+     */
+    public static void close(Object recorder) {
+        AssertUtil.isTrue((recorder instanceof PipelineStageRecorder), "The recorder is not a PipelineStageRecorder.");
+        ((PipelineStageRecorder) (recorder)).close();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineEvent;
+
+/**
+ * <p>StageFlightRecorder is the entry of the {@link PipelineStageRecorder}
+ * to the Java Flight Recorder.</p>
+ *
+ * <p>Its only implementation {@link FlightRecorderBridge} is loaded
+ * reflectively by its class name, so that no class linking against
+ * the <tt>jdk.jfr</tt> API is loaded on a JVM without it.</p>
+ *
+ * @author Jidcoo
+ * @see FlightRecorderBridge
+ * @since 1.1
+ */
+interface StageFlightRecorder {
+
+    /**
+     * Check if the Java Flight Recorder is initialized, i.e. a recording has been started.
+     *
+     * @return true if the Java Flight Recorder is initialized.
+     */
+    boolean isInitialized();
+
+    /**
+     * Begin a stage event if the Java Flight Recorder is initialized.
+     *
+     * @return the begun stage event, or null if the Java Flight Recorder is not initialized.
+     */
+    Object begin();
+
+    /**
+     * End a stage event and commit it if it's enabled by a recording.
+     *
+     * @param event         the begun stage event.
+     * @param pipelineEvent the PipelineEvent of the ended stage.
+     */
+    void commit(Object event, PipelineEvent pipelineEvent);
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+
+/**
+ * <p>StageMetrics is the counters and the latency
+ * histogram of a {@link PipelineStage}.</p>
+ *
+ * <p>StageMetrics has a single writer, i.e. the pipeline
+ * thread, and may be read concurrently by the JMX threads.</p>
+ *
+ * @author Jidcoo
+ * @see LatencyHistogram
+ * @since 1.1
+ */
+final class StageMetrics implements StageMetricsMBean {
+
+    /**
+     * The measured PipelineStage.
+     */
+    private final PipelineStage stage;
+
+    /**
+     * The latency histogram.
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * The count of the measured stages.
+     */
+    private volatile long count;
+
+    /**
+     * The total time in nanoseconds.
+     */
+    private volatile long totalNanos;
+
+    /**
+     * The max time in nanoseconds.
+     */
+    private volatile long maxNanos;
+
+    /**
+     * Create a StageMetrics instance.
+     *
+     * @param stage the measured PipelineStage.
+     */
+    StageMetrics(PipelineStage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Record a measured stage.
+     *
+     * @param nanos the stage time in nanoseconds.
+     */
+    void record(long nanos) {
+        histogram.record(nanos);
+        totalNanos += nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+        count++;
+    }
+
+    /**
+     * Get the measured PipelineStage.
+     *
+     * @return the measured PipelineStage.
+     */
+    PipelineStage getStage() {
+        return stage;
+    }
+
+    /**
+     * Get the count of the measured stages.
+     *
+     * @return the count.
+     */
+    @Override
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the total time of the measured stages.
+     *
+     * @return the total time in milliseconds.
+     */
+    @Override
+    public double getTotalMillis() {
+        return totalNanos / 1e6;
+    }
+
+    /**
+     * Get the mean time of the measured stages.
+     *
+     * @return the mean time in microseconds.
+     */
+    @Override
+    public double getMeanMicros() {
+        long snapshot = count;
+        return snapshot == 0 ? 0 : totalNanos / 1e3 / snapshot;
+    }
+
+    /**
+     * Get the max time of the measured stages.
+     *
+     * @return the max time in microseconds.
+     */
+    @Override
+    public double getMaxMicros() {
+        return maxNanos / 1e3;
+    }
+
+    /**
+     * Get the 50th percentile time of the measured stages.
+     *
+     * @return the 50th percentile time in microseconds.
+     */
+    @Override
+    public double getP50Micros() {
+        return histogram.getValueAtPercentile(50) / 1e3;
+    }
+
+    /**
+     * Get the 90th percentile time of the measured stages.
+     *
+     * @return the 90th percentile time in microseconds.
+     */
+    @Override
+    public double getP90Micros() {
+        return histogram.getValueAtPercentile(90) / 1e3;
+    }
+
+    /**
+     * Get the 99th percentile time of the measured stages.
+     *
+     * @return the 99th percentile time in microseconds.
+     */
+    @Override
+    public double getP99Micros() {
+        return histogram.getValueAtPercentile(99) / 1e3;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.metrics;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+
+/**
+ * <p>StageMetricsMBean is the management interface of the
+ * metrics of a {@link PipelineStage}. It's registered as a platform
+ * MBean named <tt>io.github.jidcoo.opto.lcdb.enhancer:type=PipelineStage,name=stage</tt>,
+ * so that a long run can be watched in JConsole or VisualVM.</p>
+ *
+ * @author Jidcoo
+ * @see StageMetrics
+ * @since 1.1
+ */
+public interface StageMetricsMBean {
+
+    /**
+     * Get the count of the measured stages.
+     *
+     * @return the count.
+     */
+    long getCount();
+
+    /**
+     * Get the total time of the measured stages.
+     *
+     * @return the total time in milliseconds.
+     */
+    double getTotalMillis();
+
+    /**
+     * Get the mean time of the measured stages.
+     *
+     * @return the mean time in microseconds.
+     */
+    double getMeanMicros();
+
+    /**
+     * Get the max time of the measured stages.
+     *
+     * @return the max time in microseconds.
+     */
+    double getMaxMicros();
+
+    /**
+     * Get the 50th percentile time of the measured stages.
+     *
+     * @return the 50th percentile time in microseconds.
+     */
+    double getP50Micros();
+
+    /**
+     * Get the 90th percentile time of the measured stages.
+     *
+     * @return the 90th percentile time in microseconds.
+     */
+    double getP90Micros();
+
+    /**
+     * Get the 99th percentile time of the measured stages.
+     *
+     * @return the 99th percentile time in microseconds.
+     */
+    double getP99Micros();
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
+
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.DesignProblemExecution;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>DesignProblemMatcher is a matcher used to match the
+ * IR input of a Leetcode data structure design problem case
+ * to a {@link DesignProblemExecution}.</p>
+ *
+ * <p>The IR input of a design problem case is the operation
+ * list and the argument list, such as <tt>["MinStack","push",
+ * "getMin"]</tt> and <tt>[[],[-2],[]]</tt>. The first operation
+ * is the simple name of the design class declared in <tt>AT</tt>.</p>
+ *
+ * <p>Each operation name of a design class is resolved to the
+ * spread {@link MethodHandle}s only once, and the arguments of
+ * each call are accepted by the {@link ParameterAcceptor}.</p>
+ *
+ * @author Jidcoo
+ * @see DesignProblemExecution
+ * @since 1.1
+ */
+final class DesignProblemMatcher {
+
+    /**
+     * The leetcode invoker of the design problem.
+     */
+    private static final Method EXECUTE_METHOD = ReflectUtil.getMethod(DesignProblemExecution.class, "execute");
+
+    /**
+     * The spread constructor handle type.
+     */
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * The spread operation handle type.
+     */
+    private static final MethodType OPERATION_TYPE = MethodType.methodType(Object.class, Object.class,
+            Object[].class);
+
+    /**
+     * The resolved design classes.
+     */
+    private final Map<Class<?>, DesignClass> designClasses = new HashMap<>();
+
+    /**
+     * Match the IR input in the context to a DesignProblemExecution.
+     *
+     * @param context the instance parser context.
+     * @return the DesignProblemExecution instance.
+     */
+    DesignProblemExecution match(InputParserContext context) {
+        List<Object> input = (List<Object>) context.peekInput();
+        AssertUtil.isTrue(input.size() == 2 && input.get(0) instanceof List && input.get(1) instanceof List,
+                "The design problem input must be an operation list and an argument list: " + input);
+        List<Object> operationNames = (List<Object>) input.get(0);
+        List<Object> operationArguments = (List<Object>) input.get(1);
+        AssertUtil.isTrue(!operationNames.isEmpty(), "The design problem operations cannot be empty.");
+        AssertUtil.isTrue(operationNames.size() == operationArguments.size(),
+                "The design problem operations and arguments must have the same size.");
+        Object target = context.getTargetInstance();
+        ParameterAcceptor parameterAcceptor = context.getParameterAcceptor();
+        // The first operation is the design class constructor.
+        DesignClass designClass = resolveDesignClass(target, String.valueOf(operationNames.get(0)));
+        Object[][] boundArguments = new Object[1][];
+        MethodHandle constructor = bind(designClass.constructors, 0, operationNames, operationArguments,
+                parameterAcceptor, boundArguments);
+        Object[] constructorArguments = boundArguments[0];
+        // Bind all operations.
+        int operationCount = operationNames.size() - 1;
+        MethodHandle[] operations = new MethodHandle[operationCount];
+        Object[][] arguments = new Object[operationCount][];
+        for (int i = 0; i < operationCount; i++) {
+            String operationName = String.valueOf(operationNames.get(i + 1));
+            operations[i] = bind(designClass.getOperations(operationName), i + 1, operationNames,
+                    operationArguments, parameterAcceptor, boundArguments);
+            arguments[i] = boundArguments[0];
+        }
+        context.setTargetMethod(EXECUTE_METHOD);
+        return new DesignProblemExecution(constructor, constructorArguments, operations, arguments);
+    }
+
+    /**
+     * Bind the arguments of the operation at the index to one of the candidates.
+     *
+     * @param candidates         the candidates with the same name.
+     * @param index              the operation index.
+     * @param operationNames     the operation names.
+     * @param operationArguments the operation arguments.
+     * @param parameterAcceptor  the ParameterAcceptor instance.
+     * @param boundArguments     the holder of the bound arguments.
+     * @return the matched candidate handle.
+     */
+    private MethodHandle bind(List<Candidate> candidates, int index, List<Object> operationNames,
+                              List<Object> operationArguments, ParameterAcceptor parameterAcceptor,
+                              Object[][] boundArguments) {
+        Object argumentsObject = operationArguments.get(index);
+        List<Object> arguments = Objects.isNull(argumentsObject) ? Collections.emptyList() :
+                (List<Object>) argumentsObject;
+        boolean overloaded = candidates.size() > 1;
+        for (Candidate candidate : candidates) {
+            Object[] bound = candidate.bind(arguments, overloaded, parameterAcceptor);
+            if (Objects.nonNull(bound)) {
+                boundArguments[0] = bound;
+                return candidate.handle;
+            }
+        }
+        EnhancerLogUtil.logE("Cannot match the design problem operation at index %d: %s with arguments: %s. "
+                + "Candidates: %s", index, operationNames.get(index), arguments, candidates);
+        throw new RuntimeException("Cannot match the design problem operation: " + operationNames.get(index) + ".");
+    }
+
+    /**
+     * Resolve the design class by its simple name from the <tt>AT</tt> target.
+     *
+     * @param target    the <tt>AT</tt> target.
+     * @param className the simple name of the design class.
+     * @return the DesignClass instance.
+     */
+    private DesignClass resolveDesignClass(Object target, String className) {
+        for (Class<?> declaredClass : target.getClass().getDeclaredClasses()) {
+            if (className.equals(declaredClass.getSimpleName())) {
+                return designClasses.computeIfAbsent(declaredClass, type -> new DesignClass(type, target));
+            }
+        }
+        throw new RuntimeException("No design class " + className + " found in class: " + target.getClass());
+    }
+
+    /**
+     * <p>DesignClass holds the resolved constructors and
+     * operations of a design class.</p>
+     */
+    private final class DesignClass {
+
+        /**
+         * The design class.
+         */
+        private final Class<?> type;
+
+        /**
+         * The constructor candidates.
+         */
+        private final List<Candidate> constructors = new ArrayList<>();
+
+        /**
+         * The operation candidates by name.
+         */
+        private final Map<String, List<Candidate>> operations = new HashMap<>();
+
+        /**
+         * Create a DesignClass instance.
+         *
+         * @param type   the design class.
+         * @param target the <tt>AT</tt> target used as the outer instance.
+         */
+        DesignClass(Class<?> type, Object target) {
+            this.type = type;
+            // An inner design class takes the AT instance as its first constructor parameter.
+            boolean inner = !Modifier.isStatic(type.getModifiers());
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                try {
+                    constructor.setAccessible(true);
+                    MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+                    Class<?>[] parameterTypes = constructor.getParameterTypes();
+                    if (inner) {
+                        handle = handle.bindTo(target);
+                        parameterTypes = Arrays.copyOfRange(parameterTypes, 1, parameterTypes.length);
+                    }
+                    handle = handle.asSpreader(Object[].class, parameterTypes.length).asType(CONSTRUCTOR_TYPE);
+                    constructors.add(new Candidate(constructor.toGenericString(), parameterTypes, handle));
+                } catch (IllegalAccessException exception) {
+                    throw new RuntimeException(exception);
+                }
+            }
+        }
+
+        /**
+         * Get the public operation candidates by name.
+         * The candidates are resolved only once for each name.
+         *
+         * @param name the operation name.
+         * @return the operation candidates.
+         */
+        List<Candidate> getOperations(String name) {
+            return operations.computeIfAbsent(name, this::resolveOperations);
+        }
+
+        /**
+         * Resolve the public operation candidates by name.
+         *
+         * <p>The operations inherited from the superclasses of the
+         * design class, e.g. {@code size()} of a design class extending
+         * {@link java.util.LinkedHashMap}, are candidates as well. An
+         * overridden operation is resolved only from the most derived
+         * class declaring it.</p>
+         *
+         * @param name the operation name.
+         * @return the operation candidates.
+         */
+        private List<Candidate> resolveOperations(String name) {
+            List<Candidate> candidates = new ArrayList<>();
+            Set<List<Class<?>>> resolvedParameterTypes = new HashSet<>();
+            for (Class<?> declaringType = type; Objects.nonNull(declaringType) && declaringType != Object.class;
+                 declaringType = declaringType.getSuperclass()) {
+                for (Method method : declaringType.getDeclaredMethods()) {
+                    if (!name.equals(method.getName()) || !Modifier.isPublic(method.getModifiers())
+                            || Modifier.isStatic(method.getModifiers()) || method.isBridge()
+                            || !resolvedParameterTypes.add(Arrays.asList(method.getParameterTypes()))) {
+                        continue;
+                    }
+                    try {
+                        method.setAccessible(true);
+                        MethodHandle handle = MethodHandles.lookup().unreflect(method)
+                                .asSpreader(Object[].class, method.getParameterCount()).asType(OPERATION_TYPE);
+                        candidates.add(new Candidate(method.toGenericString(), method.getParameterTypes(), handle));
+                    } catch (IllegalAccessException exception) {
+                        throw new RuntimeException(exception);
+                    }
+                }
+            }
+            AssertUtil.isTrue(!candidates.isEmpty(), "No public operation " + name + " found in class: " + type);
+            return candidates;
+        }
+    }
+
+    /**
+     * <p>Candidate is a constructor or an operation
+     * of a design class with its spread handle.</p>
+     */
+    private final class Candidate {
+
+        /**
+         * The candidate signature.
+         */
+        private final String signature;
+
+        /**
+         * The parameter types.
+         */
+        private final Class<?>[] parameterTypes;
+
+        /**
+         * The boxed parameter types.
+         */
+        private final Class<?>[] boxedParameterTypes;
+
+        /**
+         * The spread handle.
+         */
+        private final MethodHandle handle;
+
+        /**
+         * Create a Candidate instance.
+         *
+         * @param signature      the candidate signature.
+         * @param parameterTypes the parameter types.
+         * @param handle         the spread handle.
+         */
+        Candidate(String signature, Class<?>[] parameterTypes, MethodHandle handle) {
+            this.signature = signature;
+            this.parameterTypes = parameterTypes;
+            this.handle = handle;
+            this.boxedParameterTypes = new Class<?>[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                boxedParameterTypes[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+            }
+        }
+
+        /**
+         * Bind the arguments to this candidate.
+         *
+         * @param arguments         the IR arguments.
+         * @param copyInputs        whether to copy the IR arguments before accepting.
+         * @param parameterAcceptor the ParameterAcceptor instance.
+         * @return the bound arguments, or null if the arguments cannot be bound.
+         */
+        Object[] bind(List<Object> arguments, boolean copyInputs, ParameterAcceptor parameterAcceptor) {
+            if (arguments.size() != parameterTypes.length) {
+                return null;
+            }
+            Object[] bound = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                Object argument = arguments.get(i);
+                // Fast path: the IR argument is already the parameter type, e.g. Integer for int.
+                if (boxedParameterTypes[i].isInstance(argument)) {
+                    bound[i] = argument;
+                    continue;
+                }
+                ParameterAcceptResult result = parameterAcceptor.accept(parameterTypes[i],
+                        copyInputs ? InputCopier.copyIR(argument) : argument);
+                if (!result.isAccepted()) {
+                    return null;
+                }
+                bound[i] = result.getObject();
+            }
+            return bound;
+        }
+
+        @Override
+        public String toString() {
+            return signature;
+        }
+    }
+}
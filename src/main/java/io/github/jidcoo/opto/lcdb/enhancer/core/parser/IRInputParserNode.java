@@ -16,6 +16,8 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
 
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+
 import javax.annotation.Resource;
 import java.util.ArrayList;
 import java.util.List;
@@ -79,6 +81,17 @@ final class IRInputParserNode extends InputParserNode {
      */
     private static final char STRING_FINISH_TOKEN = '"';
 
+    /**
+     * String escape token.
+     */
+    private static final char STRING_ESCAPE_TOKEN = '\\';
+
+    /**
+     * The slot of the parsing index that caches the position of
+     * the next escape, or -1 if there is no escape any more.
+     */
+    private static final int NEXT_ESCAPE_SLOT = 1;
+
     /**
      * Array begin token.
      */
@@ -106,6 +119,16 @@ final class IRInputParserNode extends InputParserNode {
         return Integer.MAX_VALUE;
     }
 
+    /**
+     * Get the pipeline stage measured by this node.
+     *
+     * @return the pipeline stage.
+     */
+    @Override
+    PipelineStage getStage() {
+        return PipelineStage.TOKENIZE;
+    }
+
     /**
      * Parse input with context.
      * Parse String type input to IR input.
@@ -122,14 +145,16 @@ final class IRInputParserNode extends InputParserNode {
     Object parse(InputParserContext context) {
         // Get string type input from context.
         String input = (String) context.peekInput();
-        // Initialize parsing index.
-        int[] parseIndex = new int[1];
+        // Initialize parsing index and look ahead for the first escape.
+        int[] parseIndex = new int[]{0, input.indexOf(STRING_ESCAPE_TOKEN)};
         // Initialize parsing result list.
         List<Object> objects = new ArrayList<>();
+        // Initialize the intern table of the string tokens of this case.
+        StringInternTable strings = new StringInternTable();
 
         // Parse each element.
         while (parseIndex[0] < input.length()) {
-            Object result = parseInput(parseIndex, input);
+            Object result = parseInput(parseIndex, input, strings);
             // Save result to result list.
             objects.add(result);
             skipWhiteSpace(parseIndex, input);
@@ -236,37 +261,134 @@ final class IRInputParserNode extends InputParserNode {
     }
 
     /**
-     * Parse String type data.
+     * Parse String type data with the JSON escapes.
      *
-     * @param index the specified position.
-     * @param input the string input.
+     * <p>The closing quote and the next escape are both found by
+     * {@link String#indexOf(int, int)} in bulk, and the next escape
+     * is cached in the parsing index until it's passed, so the input
+     * is scanned about once. If there is no escape before the closing
+     * quote, the string is sliced from the input directly. Otherwise
+     * the escapes are decoded by {@link #decodeStringType(int[], String, int)}.
+     * The string is deduplicated by the intern table.</p>
+     *
+     * @param index   the specified position.
+     * @param input   the string input.
+     * @param strings the intern table of the string tokens.
      * @return string type data.
      */
-    private static String parseStringType(int[] index, String input) {
+    private static String parseStringType(int[] index, String input, StringInternTable strings) {
         consumeChar(index, input, STRING_BEGIN_TOKEN);
-        StringBuilder stringBuilder = new StringBuilder();
+        int begin = index[0];
+        int end = input.indexOf(STRING_FINISH_TOKEN, begin);
+        if (end < 0) {
+            // Fail on the input end.
+            index[0] = input.length();
+            consumeChar(index, input, STRING_FINISH_TOKEN);
+        }
+        int nextEscape = index[NEXT_ESCAPE_SLOT];
+        if (nextEscape >= 0 && nextEscape < begin) {
+            nextEscape = index[NEXT_ESCAPE_SLOT] = input.indexOf(STRING_ESCAPE_TOKEN, begin);
+        }
+        if (nextEscape >= 0 && nextEscape < end) {
+            // The closing quote may be escaped, so decode from the first escape.
+            return strings.intern(decodeStringType(index, input, nextEscape));
+        }
+        index[0] = end;
+        consumeChar(index, input, STRING_FINISH_TOKEN);
+        return strings.intern(input, begin, end);
+    }
+
+    /**
+     * Decode String type data from its first escape.
+     *
+     * @param index  the specified position, which is the string begin.
+     * @param input  the string input.
+     * @param escape the position of the first escape.
+     * @return string type data.
+     */
+    private static String decodeStringType(int[] index, String input, int escape) {
+        StringBuilder stringBuilder = new StringBuilder(escape - index[0] + 16);
+        stringBuilder.append(input, index[0], escape);
+        index[0] = escape;
         char nextChar;
         while ((nextChar = peekChar(index[0], input)) != STRING_FINISH_TOKEN) {
-            stringBuilder.append(nextChar);
+            if (index[0] >= input.length()) {
+                // Fail on the input end.
+                consumeChar(index, input, STRING_FINISH_TOKEN);
+            }
             index[0]++;
+            if (nextChar != STRING_ESCAPE_TOKEN) {
+                stringBuilder.append(nextChar);
+                continue;
+            }
+            char escapedChar = peekChar(index[0]++, input);
+            switch (escapedChar) {
+                case '"':
+                case '\\':
+                case '/':
+                    stringBuilder.append(escapedChar);
+                    break;
+                case 'b':
+                    stringBuilder.append('\b');
+                    break;
+                case 'f':
+                    stringBuilder.append('\f');
+                    break;
+                case 'n':
+                    stringBuilder.append('\n');
+                    break;
+                case 'r':
+                    stringBuilder.append('\r');
+                    break;
+                case 't':
+                    stringBuilder.append('\t');
+                    break;
+                case 'u':
+                    stringBuilder.append(parseUnicodeEscape(index, input));
+                    break;
+                default:
+                    throw new RuntimeException("Invalid escape character: '\\" + escapedChar + "'.");
+            }
         }
         consumeChar(index, input, STRING_FINISH_TOKEN);
         return stringBuilder.toString();
     }
 
     /**
-     * Parse Array type data.
+     * Parse the four hex digits of a unicode escape.
      *
-     * @param index the specified position.
+     * @param index the specified position after the escape prefix.
      * @param input the string input.
+     * @return the escaped char.
+     */
+    private static char parseUnicodeEscape(int[] index, String input) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(peekChar(index[0], input), 16);
+            if (digit < 0) {
+                throw new RuntimeException("Invalid unicode escape: '\\u" + input.substring(index[0] - i,
+                        Math.min(index[0] + 1, input.length())) + "'.");
+            }
+            value = (value << 4) | digit;
+            index[0]++;
+        }
+        return (char) value;
+    }
+
+    /**
+     * Parse Array type data.
+     *
+     * @param index   the specified position.
+     * @param input   the string input.
+     * @param strings the intern table of the string tokens.
      * @return array type data.
      */
-    private static List<Object> parseArrayType(int[] index, String input) {
+    private static List<Object> parseArrayType(int[] index, String input, StringInternTable strings) {
         consumeChar(index, input, ARRAY_BEGIN_TOKEN);
         List<Object> array = new ArrayList<>();
         skipWhiteSpace(index, input);
         while (peekChar(index[0], input) != ARRAY_FINISH_TOKEN) {
-            array.add(parseInput(index, input));
+            array.add(parseInput(index, input, strings));
             skipWhiteSpace(index, input);
             if (peekChar(index[0], input) == ARRAY_ELEMENTS_SEPARATOR_TOKEN) {
                 consumeChar(index, input, ARRAY_ELEMENTS_SEPARATOR_TOKEN);
@@ -280,17 +402,18 @@ final class IRInputParserNode extends InputParserNode {
     /**
      * Parse input to object.
      *
-     * @param index the specified position.
-     * @param input the string input.
+     * @param index   the specified position.
+     * @param input   the string input.
+     * @param strings the intern table of the string tokens.
      * @return the object.
      */
-    private static Object parseInput(int[] index, String input) {
+    private static Object parseInput(int[] index, String input, StringInternTable strings) {
         skipWhiteSpace(index, input);
         char nextChar = peekChar(index[0], input);
         if (nextChar == ARRAY_BEGIN_TOKEN) {
-            return parseArrayType(index, input);
+            return parseArrayType(index, input, strings);
         } else if (nextChar == STRING_BEGIN_TOKEN) {
-            return parseStringType(index, input);
+            return parseStringType(index, input, strings);
         } else if (Character.isDigit(nextChar) || nextChar == NUMBER_POSITIVE_SYMBOL_TOKEN || nextChar == NUMBER_NEGATIVE_SYMBOL_TOKEN) {
             return parseNumberType(index, input);
         } else if (input.startsWith(BOOLEAN_TYPE_TRUE_TOKEN, index[0]) || input.startsWith(BOOLEAN_TYPE_FALSE_TOKEN,
@@ -16,11 +16,11 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
 
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.EnhancerLogUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.GsonUtil;
 
 import javax.annotation.Resource;
-import java.io.*;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
@@ -41,16 +41,9 @@ import java.util.*;
 final class IRMatchInputParserNode extends InputParserNode {
 
     /**
-     * The ParameterAcceptor instance.
+     * The DesignProblemMatcher instance.
      */
-    private final ParameterAcceptor parameterAcceptor;
-
-    /**
-     * Create an IRMatchInputParserNode instance.
-     */
-    IRMatchInputParserNode() {
-        parameterAcceptor = new ParameterAcceptor();
-    }
+    private final DesignProblemMatcher designProblemMatcher = new DesignProblemMatcher();
 
     /**
      * Get the order of the object.
@@ -62,6 +55,16 @@ final class IRMatchInputParserNode extends InputParserNode {
         return Integer.MAX_VALUE - 1;
     }
 
+    /**
+     * Get the pipeline stage measured by this node.
+     *
+     * @return the pipeline stage.
+     */
+    @Override
+    PipelineStage getStage() {
+        return PipelineStage.MATCH;
+    }
+
     /**
      * Parse input with context.
      * Parse String type input to IR input.
@@ -76,10 +79,16 @@ final class IRMatchInputParserNode extends InputParserNode {
      */
     @Override
     Object parse(InputParserContext context) {
+        if (context.isDesign()) {
+            // Match the data structure design problem operations.
+            return designProblemMatcher.match(context);
+        }
         // Define the boss invoker.
         Method bossInvoker = null;
         // Define the boss input.
         List<Object> bossInput = new ArrayList<>();
+        // Get the ParameterAcceptor of the parser.
+        ParameterAcceptor parameterAcceptor = context.getParameterAcceptor();
         // Peek last input.
         List<Object> input = (List<Object>) context.peekInput();
         // Fetch all possible leetcode invokers.
@@ -105,7 +114,7 @@ final class IRMatchInputParserNode extends InputParserNode {
                 for (int i = 0; i < parameterTypes.length; i++) {
                     Class<?> parameterType = parameterTypes[i];
                     // Copy the input parameter deeply.
-                    Object copiedObject = deepCopy(input.get(i));
+                    Object copiedObject = InputCopier.copyIR(input.get(i));
                     // Try to accept the input parameter.
                     ParameterAcceptResult result = parameterAcceptor.accept(parameterType, copiedObject);
                     // Add cur rejected result tracer to enable cur matching tracer if result is not accepted.
@@ -153,76 +162,52 @@ final class IRMatchInputParserNode extends InputParserNode {
             if (invokers.length == 0) {
                 throw new RuntimeException("Cannot find any possible leetcode invoker.");
             }
-            StringBuilder logBuffer = new StringBuilder();
-            logBuffer.append("[IR-Matching Tracer Error Report Detail Start]\n");
-            logBuffer.append("LeetcodeInvokers: " + invokers.length + ",  IRInputs: " + input.size());
-            logBuffer.append("\n<TracersDetail>\n");
-            int invokerIdx = 0;
-            for (Map.Entry<Method, Map<Integer, Stack<ParameterAcceptStrategyTracer>>> methodListEntry :
-                    matchTracer.entrySet()) {
-                logBuffer.append("LeetcodeInvoker-" + (invokerIdx++));
-                logBuffer.append(": ");
-                logBuffer.append(methodListEntry.getKey().toGenericString());
-                logBuffer.append("\n<Tracers(" + methodListEntry.getValue().size() + ")>\n");
-                Map<Integer, Stack<ParameterAcceptStrategyTracer>> stackMap = methodListEntry.getValue();
-                for (Map.Entry<Integer, Stack<ParameterAcceptStrategyTracer>> stackEntry : stackMap.entrySet()) {
-                    logBuffer.append(" - Index: " + stackEntry.getKey());
-                    logBuffer.append(",   Parameter: " + methodListEntry.getKey().getParameters()[stackEntry.getKey()].getName());
-                    logBuffer.append(",   Type: " + methodListEntry.getKey().getParameters()[stackEntry.getKey()].getParameterizedType().getTypeName());
-                    logBuffer.append(",   Input(" + (input.get(stackEntry.getKey()) == null ? "Null" :
-                            input.get(stackEntry.getKey()).getClass().getSimpleName()) + "): " + GsonUtil.toJson(input.get(stackEntry.getKey())));
-                    logBuffer.append("\n");
-                    Stack<ParameterAcceptStrategyTracer> tracerStack = stackEntry.getValue();
-                    while (!tracerStack.empty()) {
-                        ParameterAcceptStrategyTracer tracer = tracerStack.pop();
-                        logBuffer.append(tracer.toString());
-                    }
-                }
-                if (invokerIdx < invokers.length) logBuffer.append("\n");
-            }
-            logBuffer.append("[IR-Matching Tracer Error Report Detail END]\n");
-            EnhancerLogUtil.logE("Cannot match any leetcode invoker for IR-Input: %s\n\n%s", input, logBuffer.toString());
+            // Build the large report only if the error log is enabled.
+            EnhancerLogUtil.logE(() -> "Cannot match any leetcode invoker for IR-Input: " + input + "\n\n"
+                    + buildMatchReport(invokers, input, matchTracer));
             throw new RuntimeException("Cannot match any leetcode invoker for IR-Input.");
         }
     }
 
     /**
-     * Copy object deeply.
+     * Build the tracer detail report of IR-Matching.
      *
-     * @param object the object.
-     * @return the copied object.
+     * @param invokers    the invokers array.
+     * @param input       the input object.
+     * @param matchTracer the match tracer.
+     * @return the tracer detail report.
      */
-    private Object deepCopy(Object object) {
-        if (Objects.isNull(object)) {
-            return null;
-        }
-        ByteArrayOutputStream bos = null;
-        ObjectOutputStream oos = null;
-        ByteArrayInputStream bis = null;
-        ObjectInputStream ois = null;
-        try {
-            bos = new ByteArrayOutputStream();
-            oos = new ObjectOutputStream(bos);
-            oos.writeObject(object);
-            bis = new ByteArrayInputStream(bos.toByteArray());
-            ois = new ObjectInputStream(bis);
-            return ois.readObject();
-        } catch (Exception exception) {
-            throw new RuntimeException(exception);
-        } finally {
-            if (oos != null) {
-                try {
-                    oos.close();
-                } catch (IOException ignored) {
-                }
-            }
-            if (bis != null) {
-                try {
-                    bis.close();
-                } catch (IOException ignored) {
+    private static String buildMatchReport(Method[] invokers, List<Object> input, Map<Method,
+            Map<Integer, Stack<ParameterAcceptStrategyTracer>>> matchTracer) {
+        StringBuilder logBuffer = new StringBuilder();
+        logBuffer.append("[IR-Matching Tracer Error Report Detail Start]\n");
+        logBuffer.append("LeetcodeInvokers: " + invokers.length + ",  IRInputs: " + input.size());
+        logBuffer.append("\n<TracersDetail>\n");
+        int invokerIdx = 0;
+        for (Map.Entry<Method, Map<Integer, Stack<ParameterAcceptStrategyTracer>>> methodListEntry :
+                matchTracer.entrySet()) {
+            logBuffer.append("LeetcodeInvoker-" + (invokerIdx++));
+            logBuffer.append(": ");
+            logBuffer.append(methodListEntry.getKey().toGenericString());
+            logBuffer.append("\n<Tracers(" + methodListEntry.getValue().size() + ")>\n");
+            Map<Integer, Stack<ParameterAcceptStrategyTracer>> stackMap = methodListEntry.getValue();
+            for (Map.Entry<Integer, Stack<ParameterAcceptStrategyTracer>> stackEntry : stackMap.entrySet()) {
+                logBuffer.append(" - Index: " + stackEntry.getKey());
+                logBuffer.append(",   Parameter: " + methodListEntry.getKey().getParameters()[stackEntry.getKey()].getName());
+                logBuffer.append(",   Type: " + methodListEntry.getKey().getParameters()[stackEntry.getKey()].getParameterizedType().getTypeName());
+                logBuffer.append(",   Input(" + (input.get(stackEntry.getKey()) == null ? "Null" :
+                        input.get(stackEntry.getKey()).getClass().getSimpleName()) + "): " + GsonUtil.toJson(input.get(stackEntry.getKey())));
+                logBuffer.append("\n");
+                Stack<ParameterAcceptStrategyTracer> tracerStack = stackEntry.getValue();
+                while (!tracerStack.empty()) {
+                    ParameterAcceptStrategyTracer tracer = tracerStack.pop();
+                    logBuffer.append(tracer.toString());
                 }
             }
+            if (invokerIdx < invokers.length) logBuffer.append("\n");
         }
+        logBuffer.append("[IR-Matching Tracer Error Report Detail END]\n");
+        return logBuffer.toString();
     }
 
     /**
@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.struct.ListNode;
+import io.github.jidcoo.opto.lcdb.enhancer.base.struct.TreeNode;
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.DesignProblemExecution;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>InputCopier is a structural copier of the parser
+ * inputs. It replaces the Java serialization round trip,
+ * which dominated the IR matching.</p>
+ *
+ * <p>The IR inputs are copied by {@link #copyIR(Object)}. The
+ * bound inputs, i.e. the arguments of a leetcode invoker or a
+ * {@link DesignProblemExecution}, are copied by
+ * {@link #copy(Object)}. The copies share only the immutable
+ * leaves, e.g. {@link String} and the boxed primitives, so the
+ * mutations of a copy never leak into its origin.</p>
+ *
+ * <p>Only the types produced by the builtin parameter accept
+ * strategies are copyable: the arrays, {@link ArrayList},
+ * {@link LinkedList}, {@link ListNode}, {@link TreeNode} and the
+ * immutable leaves. {@link #sizeOf(Object)} returns -1 for an
+ * input containing any other type.</p>
+ *
+ * @author Jidcoo
+ * @see ParsedInputCache
+ * @since 1.1
+ */
+final class InputCopier {
+
+    /**
+     * The estimated bytes of an object header.
+     */
+    private static final long OBJECT_BYTES = 16;
+
+    /**
+     * The estimated bytes of a reference.
+     */
+    private static final long REFERENCE_BYTES = 8;
+
+    /**
+     * Copy an IR input, i.e. the nested lists of the
+     * {@link String}, {@link Number} and {@link Boolean}
+     * leaves, structurally.
+     *
+     * @param object the IR input.
+     * @return the copied IR input.
+     */
+    static Object copyIR(Object object) {
+        if (!(object instanceof List)) {
+            // The IR leaves are immutable.
+            return object;
+        }
+        List<?> list = (List<?>) object;
+        List<Object> copied = new ArrayList<>(list.size());
+        for (Object element : list) {
+            copied.add(copyIR(element));
+        }
+        return copied;
+    }
+
+    /**
+     * Estimate the bytes of a bound input.
+     *
+     * @param object the bound input.
+     * @return the estimated bytes, or -1 if the input is not copyable.
+     */
+    static long sizeOf(Object object) {
+        if (Objects.isNull(object) || isImmutable(object)) {
+            // The leaves are shared by the copies.
+            return 0;
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            if (type.getComponentType().isPrimitive()) {
+                return OBJECT_BYTES + (long) length * primitiveBytes(type.getComponentType());
+            }
+            return sizeOfElements(OBJECT_BYTES + length * REFERENCE_BYTES, (Object[]) object);
+        }
+        if (type == ArrayList.class || type == LinkedList.class) {
+            List<?> list = (List<?>) object;
+            return sizeOfElements(OBJECT_BYTES * 2 + list.size() * REFERENCE_BYTES * 2, list.toArray());
+        }
+        if (type == ListNode.class) {
+            long bytes = 0;
+            for (ListNode node = (ListNode) object; Objects.nonNull(node); node = node.next) {
+                if (node.getClass() != ListNode.class) {
+                    return -1;
+                }
+                bytes += OBJECT_BYTES + REFERENCE_BYTES;
+            }
+            return bytes;
+        }
+        if (type == TreeNode.class) {
+            long bytes = 0;
+            Deque<TreeNode> stack = new ArrayDeque<>();
+            stack.push((TreeNode) object);
+            while (!stack.isEmpty()) {
+                TreeNode node = stack.pop();
+                if (node.getClass() != TreeNode.class) {
+                    return -1;
+                }
+                bytes += OBJECT_BYTES + REFERENCE_BYTES * 2;
+                if (Objects.nonNull(node.left)) {
+                    stack.push(node.left);
+                }
+                if (Objects.nonNull(node.right)) {
+                    stack.push(node.right);
+                }
+            }
+            return bytes;
+        }
+        if (type == DesignProblemExecution.class) {
+            DesignProblemExecution execution = (DesignProblemExecution) object;
+            long bytes = sizeOf(execution.getConstructorArguments());
+            for (Object[] arguments : execution.getOperationArguments()) {
+                long argumentBytes = sizeOf(arguments);
+                if (bytes < 0 || argumentBytes < 0) {
+                    return -1;
+                }
+                bytes += argumentBytes;
+            }
+            return bytes < 0 ? -1 : bytes + OBJECT_BYTES + execution.getOperationCount() * REFERENCE_BYTES;
+        }
+        return -1;
+    }
+
+    /**
+     * Copy a bound input whose {@link #sizeOf(Object)} is not -1.
+     *
+     * @param object the bound input.
+     * @return the copied bound input.
+     */
+    static Object copy(Object object) {
+        if (Objects.isNull(object) || isImmutable(object)) {
+            return object;
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            if (type.getComponentType().isPrimitive()) {
+                int length = Array.getLength(object);
+                Object copied = Array.newInstance(type.getComponentType(), length);
+                System.arraycopy(object, 0, copied, 0, length);
+                return copied;
+            }
+            Object[] array = (Object[]) object;
+            Object[] copied = (Object[]) Array.newInstance(type.getComponentType(), array.length);
+            for (int i = 0; i < array.length; i++) {
+                copied[i] = copy(array[i]);
+            }
+            return copied;
+        }
+        if (type == ArrayList.class || type == LinkedList.class) {
+            List<?> list = (List<?>) object;
+            List<Object> copied = type == ArrayList.class ? new ArrayList<>(list.size()) : new LinkedList<>();
+            for (Object element : list) {
+                copied.add(copy(element));
+            }
+            return copied;
+        }
+        if (type == ListNode.class) {
+            return copyList((ListNode) object);
+        }
+        if (type == TreeNode.class) {
+            return copyTree((TreeNode) object);
+        }
+        if (type == DesignProblemExecution.class) {
+            DesignProblemExecution execution = (DesignProblemExecution) object;
+            Object[][] operationArguments = execution.getOperationArguments();
+            Object[][] copiedOperationArguments = new Object[operationArguments.length][];
+            for (int i = 0; i < operationArguments.length; i++) {
+                copiedOperationArguments[i] = (Object[]) copy(operationArguments[i]);
+            }
+            return execution.withArguments((Object[]) copy(execution.getConstructorArguments()),
+                    copiedOperationArguments);
+        }
+        throw new RuntimeException("Cannot copy the input type: " + type.getName());
+    }
+
+    /**
+     * Estimate the bytes of the elements with their container.
+     *
+     * @param containerBytes the estimated bytes of the container.
+     * @param elements       the elements.
+     * @return the estimated bytes, or -1 if any element is not copyable.
+     */
+    private static long sizeOfElements(long containerBytes, Object[] elements) {
+        long bytes = containerBytes;
+        for (Object element : elements) {
+            long elementBytes = sizeOf(element);
+            if (elementBytes < 0) {
+                return -1;
+            }
+            bytes += elementBytes;
+        }
+        return bytes;
+    }
+
+    /**
+     * Copy a singly linked list iteratively.
+     *
+     * @param head the list head.
+     * @return the copied list head.
+     */
+    private static ListNode copyList(ListNode head) {
+        ListNode copiedHead = new ListNode(head.val);
+        ListNode last = copiedHead;
+        for (ListNode node = head.next; Objects.nonNull(node); node = node.next) {
+            last.next = new ListNode(node.val);
+            last = last.next;
+        }
+        return copiedHead;
+    }
+
+    /**
+     * Copy a binary tree iteratively, so that a degenerate
+     * tree cannot overflow the stack.
+     *
+     * @param root the tree root.
+     * @return the copied tree root.
+     */
+    private static TreeNode copyTree(TreeNode root) {
+        TreeNode copiedRoot = new TreeNode(root.val);
+        // The origin and copied nodes are pushed in pairs.
+        Deque<TreeNode> stack = new ArrayDeque<>();
+        stack.push(root);
+        stack.push(copiedRoot);
+        while (!stack.isEmpty()) {
+            TreeNode copied = stack.pop();
+            TreeNode node = stack.pop();
+            if (Objects.nonNull(node.left)) {
+                copied.left = new TreeNode(node.left.val);
+                stack.push(node.left);
+                stack.push(copied.left);
+            }
+            if (Objects.nonNull(node.right)) {
+                copied.right = new TreeNode(node.right.val);
+                stack.push(node.right);
+                stack.push(copied.right);
+            }
+        }
+        return copiedRoot;
+    }
+
+    /**
+     * Check if an object is an immutable leaf shared by the copies.
+     *
+     * @param object the non-null object.
+     * @return true if the object is immutable.
+     */
+    private static boolean isImmutable(Object object) {
+        return object instanceof String || object instanceof Integer || object instanceof Long
+                || object instanceof Double || object instanceof Boolean || object instanceof Character
+                || object instanceof Float || object instanceof Short || object instanceof Byte
+                || object instanceof BigInteger || object instanceof BigDecimal || object instanceof Enum;
+    }
+
+    /**
+     * Get the bytes of a primitive type.
+     *
+     * @param type the primitive type.
+     * @return the bytes.
+     */
+    private static long primitiveBytes(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == char.class || type == short.class) {
+            return 2;
+        }
+        return 1;
+    }
+}
@@ -45,6 +45,16 @@ final class InputParseTask {
      */
     private final String input;
 
+    /**
+     * Whether the input is a data structure design problem case.
+     */
+    private boolean design;
+
+    /**
+     * The PipelineStageRecorder instance recording the parser nodes, or null.
+     */
+    private Object stageRecorder;
+
     /**
      * Create an InputParseTask instance.
      *
@@ -93,4 +103,40 @@ final class InputParseTask {
     String getInput() {
         return input;
     }
+
+    /**
+     * Check if the input is a data structure design problem case.
+     *
+     * @return true if the input is a data structure design problem case.
+     */
+    boolean isDesign() {
+        return design;
+    }
+
+    /**
+     * Set whether the input is a data structure design problem case.
+     *
+     * @param design true if the input is a data structure design problem case.
+     */
+    void setDesign(boolean design) {
+        this.design = design;
+    }
+
+    /**
+     * Get the PipelineStageRecorder instance recording the parser nodes.
+     *
+     * @return the PipelineMetrics instance, or null if the parser nodes are not recorded.
+     */
+    Object getStageRecorder() {
+        return stageRecorder;
+    }
+
+    /**
+     * Set the PipelineStageRecorder instance recording the parser nodes.
+     *
+     * @param stageRecorder the PipelineMetrics instance, or null if the parser nodes are not recorded.
+     */
+    void setStageRecorder(Object stageRecorder) {
+        this.stageRecorder = stageRecorder;
+    }
 }
@@ -16,6 +16,9 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
 
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
+import io.github.jidcoo.opto.lcdb.enhancer.core.metrics.PipelineStageRecorderProcessor;
+import io.github.jidcoo.opto.lcdb.enhancer.core.strategy.StrategyRegistry;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.ContainerCheckUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.PackageUtil;
@@ -26,6 +29,7 @@ import javax.annotation.Resource;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * <p>InputParser is an input parser.</p>
@@ -35,6 +39,10 @@ import java.util.List;
  * {@link InputParserChain#parse(InputParserContext)}, and
  * finally returns the chain output.</p>
  *
+ * <p>When the {@link ParsedInputCache} is enabled, a repeated
+ * input skips the chain and returns a copy of its cached
+ * bound input.</p>
+ *
  * @author Jidcoo
  * @see InputParserChain
  * @see InputParseTask
@@ -54,13 +62,29 @@ final class InputParser {
      */
     private InputParserChain parserChain;
 
+    /**
+     * The ParameterAcceptor instance shared by all parses of this parser.
+     */
+    private final ParameterAcceptor parameterAcceptor;
+
+    /**
+     * The ParsedInputCache instance, or null if the parsed inputs are not cached.
+     */
+    private final ParsedInputCache parsedInputCache;
+
     /**
      * Create an InputParser instance.
+     *
+     * @param strategyRegistry     the StrategyRegistry instance.
+     * @param parsedInputCacheSize the capacity of the ParsedInputCache in bytes, or 0 to disable it.
      */
-    InputParser() {
+    InputParser(StrategyRegistry strategyRegistry, long parsedInputCacheSize) {
+        AssertUtil.nonNull(strategyRegistry, "The strategyRegistry cannot be null.");
+        parsedInputCache = parsedInputCacheSize > 0 ? new ParsedInputCache(parsedInputCacheSize) : null;
+        parameterAcceptor = new ParameterAcceptor(strategyRegistry.getParameterAcceptStrategyMap());
         List<InputParserNode> inputParserNodes = new ArrayList<>();
-        // Get all class in the INPUT_PARSER_NODE_PACKAGE.
-        List<Class<?>> classesByPackage = PackageUtil.getClassesByPackage(INPUT_PARSER_NODE_PACKAGE);
+        // Get all @Resource class in the INPUT_PARSER_NODE_PACKAGE.
+        List<Class<?>> classesByPackage = PackageUtil.getResourceClassesByPackage(INPUT_PARSER_NODE_PACKAGE);
         if (!ContainerCheckUtil.isListEmpty(classesByPackage)) {
             for (Class<?> clazz : classesByPackage) {
                 if (ReflectUtil.isExtendsClass(clazz, InputParserNode.class)) {
@@ -91,10 +115,41 @@ final class InputParser {
     Object parse(InputParseTask inputParseTask) {
         // Create a context.
         InputParserContext inputParserContext = createParserContext(inputParseTask);
+        if (Objects.nonNull(parsedInputCache)) {
+            ParsedInputCache.Entry entry = parsedInputCache.get(inputParseTask.getInput());
+            if (Objects.nonNull(entry)) {
+                return parseCached(inputParseTask, entry);
+            }
+        }
         // Execute parsing chain and return the chain output.
         Object inputObject = parserChain.parse(inputParserContext);
         // Set the final leetcode invoker from inputParserContext to the inputParseTask.
         inputParseTask.setTargetMethod(inputParserContext.getTargetMethod());
+        if (Objects.nonNull(parsedInputCache)) {
+            parsedInputCache.put(inputParseTask.getInput(), inputParserContext.getTargetMethod(), inputObject);
+        }
+        return inputObject;
+    }
+
+    /**
+     * Parse a cached input by copying its cached bound input,
+     * and measure the copy as the {@link PipelineStage#MATCH} stage.
+     *
+     * @param inputParseTask the InputParseTask instance.
+     * @param entry          the cached entry of the input.
+     * @return the copied bound input.
+     */
+    private Object parseCached(InputParseTask inputParseTask, ParsedInputCache.Entry entry) {
+        Object stageRecorder = inputParseTask.getStageRecorder();
+        if (Objects.nonNull(stageRecorder)) {
+            PipelineStageRecorderProcessor.begin(stageRecorder, PipelineStage.MATCH);
+        }
+        Object inputObject = entry.copyInput();
+        inputParseTask.setTargetMethod(entry.getTargetMethod());
+        if (Objects.nonNull(stageRecorder)) {
+            PipelineStageRecorderProcessor.setInvoker(stageRecorder, entry.getTargetMethod());
+            PipelineStageRecorderProcessor.end(stageRecorder);
+        }
         return inputObject;
     }
 
@@ -109,7 +164,10 @@ final class InputParser {
         AssertUtil.nonNull(inputParseTask.getTargetInstance(), "The target cannot be null");
         AssertUtil.nonNull(inputParseTask.getInput(), "The input cannot be null");
         AssertUtil.isTrue(!inputParseTask.getInput().isEmpty(), "The input cannot be empty.");
-        return new InputParserContext(inputParseTask.getTargetInstance(), inputParseTask.getInput(),
-                inputParseTask.getTargetMethod());
+        InputParserContext inputParserContext = new InputParserContext(inputParseTask.getTargetInstance(),
+                inputParseTask.getInput(), inputParseTask.getTargetMethod(), parameterAcceptor);
+        inputParserContext.setDesign(inputParseTask.isDesign());
+        inputParserContext.setStageRecorder(inputParseTask.getStageRecorder());
+        return inputParserContext;
     }
 }
@@ -16,10 +16,12 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
 
+import io.github.jidcoo.opto.lcdb.enhancer.core.metrics.PipelineStageRecorderProcessor;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.ContainerCheckUtil;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * <p>InputParserChain is an input source parsing chain. </p>
@@ -75,7 +77,18 @@ class InputParserChain extends InputParserNode {
             AssertUtil.isTrue(context.getInputStackSize() > 0,
                     "Error no input in context: " + context + ", node: " + node);
             // Do parse on node
-            Object curNodeOutput = node.parse(context);
+            Object curNodeOutput;
+            Object stageRecorder = context.getStageRecorder();
+            if (Objects.nonNull(stageRecorder) && Objects.nonNull(node.getStage())) {
+                // Record the node as a pipeline stage.
+                PipelineStageRecorderProcessor.begin(stageRecorder, node.getStage());
+                curNodeOutput = node.parse(context);
+                // The leetcode invoker is known once it's matched.
+                PipelineStageRecorderProcessor.setInvoker(stageRecorder, context.getTargetMethod());
+                PipelineStageRecorderProcessor.end(stageRecorder);
+            } else {
+                curNodeOutput = node.parse(context);
+            }
             // Push the last node output to the input stack of the parser context.
             context.pushInput(curNodeOutput);
         }
@@ -46,15 +46,33 @@ final class InputParserContext {
      */
     private Method targetMethod;
 
+    /**
+     * Whether the input is a data structure design problem case.
+     */
+    private boolean design;
+
+    /**
+     * The ParameterAcceptor instance of the parser.
+     */
+    private final ParameterAcceptor parameterAcceptor;
+
+    /**
+     * The PipelineStageRecorder instance recording the parser nodes, or null.
+     */
+    private Object stageRecorder;
+
     /**
      * Create a InputParserContext instance.
      *
-     * @param targetInstance the target instance used for debug.
-     * @param input          the string input used for debug.
-     * @param targetMethod   the target method used for debug.
+     * @param targetInstance    the target instance used for debug.
+     * @param input             the string input used for debug.
+     * @param targetMethod      the target method used for debug.
+     * @param parameterAcceptor the ParameterAcceptor instance of the parser.
      */
-    InputParserContext(Object targetInstance, String input, Method targetMethod) {
+    InputParserContext(Object targetInstance, String input, Method targetMethod,
+                       ParameterAcceptor parameterAcceptor) {
         this.targetInstance = targetInstance;
+        this.parameterAcceptor = parameterAcceptor;
         this.inputStack = new Stack<>();
         // Add the first input to the inputStack
         this.inputStack.push(input);
@@ -71,6 +89,33 @@ final class InputParserContext {
         return targetInstance;
     }
 
+    /**
+     * Get the ParameterAcceptor instance of the parser.
+     *
+     * @return the ParameterAcceptor instance.
+     */
+    ParameterAcceptor getParameterAcceptor() {
+        return parameterAcceptor;
+    }
+
+    /**
+     * Get the PipelineStageRecorder instance recording the parser nodes.
+     *
+     * @return the PipelineMetrics instance, or null if the parser nodes are not recorded.
+     */
+    Object getStageRecorder() {
+        return stageRecorder;
+    }
+
+    /**
+     * Set the PipelineStageRecorder instance recording the parser nodes.
+     *
+     * @param stageRecorder the PipelineMetrics instance, or null if the parser nodes are not recorded.
+     */
+    void setStageRecorder(Object stageRecorder) {
+        this.stageRecorder = stageRecorder;
+    }
+
     /**
      * Push an input into the top of the input stack from this context.
      *
@@ -132,4 +177,22 @@ final class InputParserContext {
     void setTargetMethod(Method targetMethod) {
         this.targetMethod = targetMethod;
     }
+
+    /**
+     * Check if the input is a data structure design problem case.
+     *
+     * @return true if the input is a data structure design problem case.
+     */
+    boolean isDesign() {
+        return design;
+    }
+
+    /**
+     * Set whether the input is a data structure design problem case.
+     *
+     * @param design true if the input is a data structure design problem case.
+     */
+    void setDesign(boolean design) {
+        this.design = design;
+    }
 }
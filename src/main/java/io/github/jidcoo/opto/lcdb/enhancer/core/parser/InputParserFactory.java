@@ -17,6 +17,7 @@
 package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
 
 import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.core.strategy.StrategyRegistryFactory;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
 
 /**
@@ -38,6 +39,7 @@ public final class InputParserFactory {
      */
     public static InputParser getInputParser(LeetcodeJavaDebugEnhancer enhancer) {
         AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
-        return new InputParser();
+        return new InputParser(StrategyRegistryFactory.getStrategyRegistry(enhancer),
+                enhancer.getParsedInputCacheSize());
     }
 }
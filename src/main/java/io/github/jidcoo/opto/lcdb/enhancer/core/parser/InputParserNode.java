@@ -17,6 +17,7 @@
 package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
 
 import io.github.jidcoo.opto.lcdb.enhancer.base.Order;
+import io.github.jidcoo.opto.lcdb.enhancer.base.PipelineStage;
 
 /**
  * <p>InputParserNode is an input parse node.</p>
@@ -49,4 +50,14 @@ abstract class InputParserNode implements Order {
      *          the context returns an int greater than 0.
      */
     abstract Object parse(InputParserContext context);
+
+    /**
+     * Get the pipeline stage measured by this node.
+     *
+     * @return the pipeline stage, or null if this node is not measured.
+     * @since 1.1
+     */
+    PipelineStage getStage() {
+        return null;
+    }
 }
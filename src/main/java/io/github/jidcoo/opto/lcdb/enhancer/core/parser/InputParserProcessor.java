@@ -16,12 +16,11 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
 
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeCaseContext;
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeExecutorProcessor;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
-import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.StringUtil;
 
-import java.lang.reflect.Method;
-
 /**
  * <p>InputParserProcessor is a publicly available
  * InputParser processor. It has used a proxy to
@@ -46,22 +45,36 @@ public final class InputParserProcessor {
      * @return the executor output object.
      */
     public static Object process(Object parser, Object executor, String input) {
+        return process(parser, executor, input, null);
+    }
+
+    /**
+     * Do real parse with InputParser instance and input, and measure
+     * the parser nodes as the pipeline stages.
+     *
+     * @param parser          the InputParser instance.
+     * @param executor        the LeetcodeExecutor instance.
+     * @param input           the input string.
+     * @param stageRecorder   the PipelineStageRecorder instance, or null if the parser nodes are not recorded.
+     * @return the executor output object.
+     * @since 1.1
+     */
+    public static Object process(Object parser, Object executor, String input, Object stageRecorder) {
         AssertUtil.nonNull(parser, "The parser cannot be null.");
-        AssertUtil.nonNull(executor, "The parser cannot be null.");
+        AssertUtil.nonNull(executor, "The executor cannot be null.");
         AssertUtil.isTrue(!StringUtil.isBlank(input), "The input cannot be blank.");
         AssertUtil.isTrue((parser instanceof InputParser), "The parser is not a InputParser.");
-        // Get the leetcode target instance and target method from LeetcodeExecutor.
-        Object targetInstance = ReflectUtil.getFieldValue("instance", Object.class, executor);
-        Method targetExecutor = ReflectUtil.getFieldValue("executor", Method.class, executor);
+        // Get the leetcode case context resolved by LeetcodeExecutor.
+        LeetcodeCaseContext caseContext = LeetcodeExecutorProcessor.getCaseContext(executor);
         // Create an InputParseTask instance.
-        InputParseTask inputParseTask = new InputParseTask(targetInstance, targetExecutor, input);
+        InputParseTask inputParseTask = new InputParseTask(caseContext.getInstance(), caseContext.getExecutor(),
+                input);
+        inputParseTask.setDesign(caseContext.isDesign());
+        inputParseTask.setStageRecorder(stageRecorder);
         // Do real parse logic and return the parser output.
         Object output = ((InputParser) (parser)).parse(inputParseTask);
-        // Set the final leetcode invoker from inputParseTask to the LeetcodeExecutor.
-        ReflectUtil.setFieldValue("invoker", Method.class, inputParseTask.getTargetMethod(), executor);
-        // Set the leetcode invoker response type to the LeetcodeExecutor.
-        ReflectUtil.setFieldValue("invokerResponseType", Class.class,
-                inputParseTask.getTargetMethod().getReturnType(), executor);
+        // Set the final leetcode invoker from inputParseTask to the leetcode case context.
+        caseContext.setInvoker(inputParseTask.getTargetMethod());
         return output;
     }
 }
@@ -16,18 +16,14 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
 
-import io.github.jidcoo.opto.lcdb.enhancer.utils.BeanUtil;
-import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.base.BaseParameterAcceptStrategy;
-import io.github.jidcoo.opto.lcdb.enhancer.base.Order;
 import io.github.jidcoo.opto.lcdb.enhancer.base.Strategizable;
+import io.github.jidcoo.opto.lcdb.enhancer.core.strategy.StrategyRegistry;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
-import io.github.jidcoo.opto.lcdb.enhancer.utils.ContainerCheckUtil;
 
-import javax.annotation.Resource;
-import java.lang.reflect.Modifier;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
 
 /**
  * <p>ParameterAcceptor is a parameter acceptor
@@ -42,6 +38,10 @@ import java.util.stream.Collectors;
  * strategies by {@link #accept(Class, Object)}.
  * </p>
  *
+ * <p>The strategies are read from the frozen strategy map of
+ * the {@link StrategyRegistry}, so a ParameterAcceptor holds
+ * no mutable state and is cheap to create.</p>
+ *
  * @author Jidcoo
  * @see BaseParameterAcceptStrategy
  * @see ParameterAcceptResult
@@ -51,55 +51,19 @@ import java.util.stream.Collectors;
 final class ParameterAcceptor extends BaseParameterAcceptStrategy<Object> {
 
     /**
-     * Builtin parameter acceptance strategy map.
-     */
-    private Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> builtinAcceptStrategyMap;
-
-    /**
-     * BaseParameterAcceptStrategy comparator.
-     */
-    private final Comparator<Order> strategyComparator = Comparator.comparingInt(Order::getOrder).reversed();
-
-    /**
-     * Built-in  parameter acceptance strategy set package location.
+     * The frozen parameter acceptance strategy map.
      */
-    private static final String BUILT_IN_PARAMETER_ACCEPTANCE_STRATEGY_PACKAGE = "io.github.jidcoo.opto.lcdb.enhancer.core.parser.builtin";
+    private final Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> acceptStrategyMap;
 
     /**
      * Create a ParameterAcceptor instance.
-     */
-    ParameterAcceptor() {
-        this.builtinAcceptStrategyMap = new HashMap<>();
-        // Collect all builtin parameter acceptance strategies.
-        List<BaseParameterAcceptStrategy> strategies = BeanUtil.collectBeans(BaseParameterAcceptStrategy.class,
-                BUILT_IN_PARAMETER_ACCEPTANCE_STRATEGY_PACKAGE,
-                (Class type) -> type.isAnnotationPresent(Resource.class) && ReflectUtil.isExtendsClass(type,
-                        BaseParameterAcceptStrategy.class) && !Modifier.isAbstract(type.getModifiers()), (Class<?
-                        extends BaseParameterAcceptStrategy> beanType) -> ReflectUtil.createInstance(beanType)).stream().filter(Objects::nonNull).collect(Collectors.toList());
-        if (!ContainerCheckUtil.isListEmpty(strategies)) {
-            // Add all strategies to the builtinAcceptStrategyMap.
-            for (BaseParameterAcceptStrategy<?> strategy : strategies) {
-                addParameterAcceptStrategy(strategy.getAcceptableType(), strategy, builtinAcceptStrategyMap);
-            }
-        }
-    }
-
-    /**
-     * Wrap the strategy add function.
      *
-     * @param type        the accepted class type.
-     * @param strategy    the acceptance strategy.
-     * @param strategyMap the acceptance strategy map.
+     * @param acceptStrategyMap the frozen parameter acceptance strategy map
+     *                          of the {@link StrategyRegistry}.
      */
-    private void addParameterAcceptStrategy(Class<?> type, BaseParameterAcceptStrategy<?> strategy, Map<Class<?>,
-            Set<BaseParameterAcceptStrategy<?>>> strategyMap) {
-        AssertUtil.nonNull(strategy, "The parameter acceptance strategy cannot be null.");
-        AssertUtil.nonNull(type, "The type of the " + strategy + " cannot be null.");
-        // Get the strategySet by clazz.
-        Set<BaseParameterAcceptStrategy<?>> strategySet = strategyMap.computeIfAbsent(type,
-                key -> new TreeSet<>(strategyComparator));
-        // Add the strategy to the set.
-        strategySet.add(strategy);
+    ParameterAcceptor(Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> acceptStrategyMap) {
+        AssertUtil.nonNull(acceptStrategyMap, "The acceptStrategyMap cannot be null.");
+        this.acceptStrategyMap = acceptStrategyMap;
     }
 
     /**
@@ -116,12 +80,12 @@ final class ParameterAcceptor extends BaseParameterAcceptStrategy<Object> {
         try {
             // Find the strategy set for the parameter acceptance.
             Set<BaseParameterAcceptStrategy<?>> strategySet = findStrategySet(invokerParameterType,
-                    builtinAcceptStrategyMap);
+                    acceptStrategyMap);
             for (BaseParameterAcceptStrategy<?> acceptStrategy : strategySet) {
                 try {
                     // Try to accept the parameter and return the accepted result.
                     return ParameterAcceptResult.accept(acceptStrategy.accept(invokerParameterType, object,
-                            builtinAcceptStrategyMap));
+                            acceptStrategyMap));
                 } catch (Throwable e) {
                     // Push the throwable with the object tracer into stack.
                     tracerStack.push(new ParameterAcceptStrategyTracer(acceptStrategy.getClass().getName(), e));
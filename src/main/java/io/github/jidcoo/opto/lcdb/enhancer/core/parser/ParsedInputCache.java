@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>ParsedInputCache is a bounded LRU cache of the
+ * parsed inputs, keyed by the case input string.</p>
+ *
+ * <p>Each entry holds the matched leetcode invoker and a
+ * prototype of the bound input. The prototype is never
+ * handed out: every hit returns a fresh copy made by
+ * {@link InputCopier}, so a repeated case costs only the
+ * copy instead of the tokenizing and the IR matching, and
+ * the mutations of a solution cannot leak into the next
+ * case.</p>
+ *
+ * <p>The cache is sized in the estimated bytes of the
+ * prototypes and their keys. The least recently used
+ * entries are evicted once the size exceeds the capacity.</p>
+ *
+ * @author Jidcoo
+ * @see InputCopier
+ * @since 1.1
+ */
+final class ParsedInputCache {
+
+    /**
+     * The estimated bytes of an entry without its prototype and key characters.
+     */
+    private static final long ENTRY_BYTES = 128;
+
+    /**
+     * The capacity in bytes.
+     */
+    private final long capacity;
+
+    /**
+     * The entries in the access order.
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The estimated bytes of all entries.
+     */
+    private long size;
+
+    /**
+     * Create a ParsedInputCache instance.
+     *
+     * @param capacity the capacity in bytes.
+     */
+    ParsedInputCache(long capacity) {
+        AssertUtil.isTrue(capacity > 0, "The capacity must be positive.");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Get the cached entry of the input.
+     *
+     * @param input the case input string.
+     * @return the cached entry, or null if the input is not cached.
+     */
+    synchronized Entry get(String input) {
+        return entries.get(input);
+    }
+
+    /**
+     * Cache a copy of the bound input if it's copyable and
+     * not larger than a quarter of the capacity.
+     *
+     * @param input        the case input string.
+     * @param targetMethod the matched leetcode invoker.
+     * @param inputObject  the bound input.
+     */
+    synchronized void put(String input, Method targetMethod, Object inputObject) {
+        long prototypeBytes = InputCopier.sizeOf(inputObject);
+        if (prototypeBytes < 0) {
+            return;
+        }
+        long bytes = prototypeBytes + ENTRY_BYTES + 2L * input.length();
+        if (bytes > capacity / 4) {
+            return;
+        }
+        Entry previous = entries.put(input, new Entry(targetMethod, InputCopier.copy(inputObject), bytes));
+        size += bytes - (Objects.nonNull(previous) ? previous.bytes : 0);
+        // Evict the least recently used entries.
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (size > capacity && iterator.hasNext()) {
+            size -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * <p>Entry is a cached parsed input.</p>
+     *
+     * @author Jidcoo
+     * @since 1.1
+     */
+    static final class Entry {
+
+        /**
+         * The matched leetcode invoker.
+         */
+        private final Method targetMethod;
+
+        /**
+         * The prototype of the bound input.
+         */
+        private final Object prototype;
+
+        /**
+         * The estimated bytes of this entry.
+         */
+        private final long bytes;
+
+        /**
+         * Create an Entry instance.
+         *
+         * @param targetMethod the matched leetcode invoker.
+         * @param prototype    the prototype of the bound input.
+         * @param bytes        the estimated bytes of this entry.
+         */
+        private Entry(Method targetMethod, Object prototype, long bytes) {
+            this.targetMethod = targetMethod;
+            this.prototype = prototype;
+            this.bytes = bytes;
+        }
+
+        /**
+         * Get the matched leetcode invoker.
+         *
+         * @return the matched leetcode invoker.
+         */
+        Method getTargetMethod() {
+            return targetMethod;
+        }
+
+        /**
+         * Create a fresh copy of the bound input.
+         *
+         * @return the copied bound input.
+         */
+        Object copyInput() {
+            return InputCopier.copy(prototype);
+        }
+    }
+}
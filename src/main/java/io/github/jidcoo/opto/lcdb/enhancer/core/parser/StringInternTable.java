@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.parser;
+
+import java.util.Objects;
+
+/**
+ * <p>StringInternTable is an open addressing intern table
+ * of the {@link String} tokens of one case input.</p>
+ *
+ * <p>A token is looked up by its region of the input
+ * before it's sliced, so a repeated token, e.g. a word
+ * repeated in a large word list, is shared without any
+ * allocation.</p>
+ *
+ * @author Jidcoo
+ * @see IRInputParserNode
+ * @since 1.1
+ */
+final class StringInternTable {
+
+    /**
+     * The initial capacity, which must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The interned strings, or null for the empty slots.
+     */
+    private String[] table = new String[INITIAL_CAPACITY];
+
+    /**
+     * The number of the interned strings.
+     */
+    private int size;
+
+    /**
+     * Intern the region of the input.
+     *
+     * @param input the string input.
+     * @param begin the begin index of the region, inclusive.
+     * @param end   the end index of the region, exclusive.
+     * @return the interned string equal to the region.
+     */
+    String intern(String input, int begin, int end) {
+        int length = end - begin;
+        int hash = 0;
+        for (int i = begin; i < end; i++) {
+            hash = 31 * hash + input.charAt(i);
+        }
+        int mask = table.length - 1;
+        // Spread the high bits like HashMap.
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String interned;
+        while (Objects.nonNull(interned = table[slot])) {
+            if (interned.length() == length && interned.regionMatches(0, input, begin, length)) {
+                return interned;
+            }
+            slot = (slot + 1) & mask;
+        }
+        interned = input.substring(begin, end);
+        table[slot] = interned;
+        if (++size * 2 > table.length) {
+            resize();
+        }
+        return interned;
+    }
+
+    /**
+     * Intern a string, e.g. a decoded string.
+     *
+     * @param string the string.
+     * @return the interned string equal to the string.
+     */
+    String intern(String string) {
+        // The substring of the whole string is the string itself.
+        return intern(string, 0, string.length());
+    }
+
+    /**
+     * Double the table capacity and reinsert the interned strings.
+     */
+    private void resize() {
+        String[] oldTable = table;
+        table = new String[oldTable.length * 2];
+        int mask = table.length - 1;
+        for (String interned : oldTable) {
+            if (Objects.isNull(interned)) {
+                continue;
+            }
+            // String caches its hash code, which equals the region hash.
+            int hash = interned.hashCode();
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (Objects.nonNull(table[slot])) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = interned;
+        }
+    }
+}
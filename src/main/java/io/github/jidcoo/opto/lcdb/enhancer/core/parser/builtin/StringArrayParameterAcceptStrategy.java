@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.parser.builtin;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.BaseParameterAcceptStrategy;
+import io.github.jidcoo.opto.lcdb.enhancer.base.Strategizable;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.GsonUtil;
+
+import javax.annotation.Resource;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>StringArrayParameterAcceptStrategy is an parameter
+ * acceptance strategy used to accept {@link String}[]
+ * type.</p>
+ *
+ * <p>A list of the {@link String} elements, e.g. a large
+ * word list, is bound to the array directly. Other lists
+ * are accepted by Gson as in the
+ * {@link GodParameterAcceptStrategy}.</p>
+ *
+ * @author Jidcoo
+ * @see BaseParameterAcceptStrategy
+ * @see GodParameterAcceptStrategy
+ * @since 1.1
+ */
+@Resource
+public final class StringArrayParameterAcceptStrategy extends BaseParameterAcceptStrategy<String[]> {
+
+    /**
+     * Accept the object.
+     *
+     * @param object        the object.
+     * @param type          the parameter type.
+     * @param strategiesMap the strategies map that can be used during this accepting process.
+     *                      <p>The key is the output object class to which this BaseParameterAcceptStrategy
+     *                      applies. The value is a set of strategy with the same accepted type.
+     *                      And the set is sorted the priority of {@link Strategizable} based on
+     *                      {@code getOrder()}.
+     *                      </p>
+     * @return the accepted parameter.
+     */
+    @Override
+    protected String[] acceptParameter(Object object, Class type,
+                                       Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> strategiesMap) throws Throwable {
+        if (object instanceof List) {
+            List<?> list = (List<?>) object;
+            String[] strings = new String[list.size()];
+            int i = 0;
+            for (Object element : list) {
+                if (Objects.nonNull(element) && !(element instanceof String)) {
+                    // Not a String list, accept it by Gson.
+                    return GsonUtil.fromJson(GsonUtil.toJson(object), String[].class);
+                }
+                strings[i++] = (String) element;
+            }
+            return strings;
+        }
+        return GsonUtil.fromJson(GsonUtil.toJson(object), String[].class);
+    }
+
+    /**
+     * Get the order of the object.
+     *
+     * @return the int order of the object.
+     */
+    @Override
+    public int getOrder() {
+        // Give way to the user strategies of the String[] type.
+        return Integer.MIN_VALUE + 1;
+    }
+
+    /**
+     * Get the acceptable type.
+     *
+     * @return the acceptable type.
+     */
+    @Override
+    public Class<? extends String[]> getAcceptableType() {
+        return String[].class;
+    }
+}
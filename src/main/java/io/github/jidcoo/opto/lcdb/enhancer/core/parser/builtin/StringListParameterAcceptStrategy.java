@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.parser.builtin;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.BaseParameterAcceptStrategy;
+import io.github.jidcoo.opto.lcdb.enhancer.base.Strategizable;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.GsonUtil;
+
+import javax.annotation.Resource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>StringListParameterAcceptStrategy is an parameter
+ * acceptance strategy used to accept {@link List} type.</p>
+ *
+ * <p>An IR list of the {@link String} elements, e.g. a large
+ * word list for a {@code List<String>} parameter, is bound
+ * directly without copying it. Other lists are accepted by
+ * Gson as in the {@link GodParameterAcceptStrategy}.</p>
+ *
+ * @author Jidcoo
+ * @see BaseParameterAcceptStrategy
+ * @see GodParameterAcceptStrategy
+ * @since 1.1
+ */
+@Resource
+public final class StringListParameterAcceptStrategy extends BaseParameterAcceptStrategy<List> {
+
+    /**
+     * Accept the object.
+     *
+     * @param object        the object.
+     * @param type          the parameter type.
+     * @param strategiesMap the strategies map that can be used during this accepting process.
+     *                      <p>The key is the output object class to which this BaseParameterAcceptStrategy
+     *                      applies. The value is a set of strategy with the same accepted type.
+     *                      And the set is sorted the priority of {@link Strategizable} based on
+     *                      {@code getOrder()}.
+     *                      </p>
+     * @return the accepted parameter.
+     */
+    @Override
+    protected List acceptParameter(Object object, Class type,
+                                   Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> strategiesMap) throws Throwable {
+        if (Objects.nonNull(object) && object.getClass() == ArrayList.class && isStringList((List<?>) object)) {
+            // The IR list is owned by this case, so it's bound as it is.
+            return (List) object;
+        }
+        return GsonUtil.fromJson(GsonUtil.toJson(object), List.class);
+    }
+
+    /**
+     * Check if all elements of the list are {@link String} or null.
+     *
+     * @param list the list.
+     * @return true if all elements of the list are String or null.
+     */
+    private static boolean isStringList(List<?> list) {
+        for (Object element : list) {
+            if (Objects.nonNull(element) && !(element instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the order of the object.
+     *
+     * @return the int order of the object.
+     */
+    @Override
+    public int getOrder() {
+        // Give way to the user strategies of the List type.
+        return Integer.MIN_VALUE + 1;
+    }
+
+    /**
+     * Get the acceptable type.
+     *
+     * @return the acceptable type.
+     */
+    @Override
+    public Class<? extends List> getAcceptableType() {
+        return List.class;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer;
+
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+import java.io.IOException;
+
+/**
+ * <p>CountingAppendable is an {@link Appendable} wrapper
+ * counting the appended chars.</p>
+ *
+ * <p>It's used by the {@link OutputPrinter} to know whether
+ * a failed printing strategy has partially written the output,
+ * in which case it cannot fall back to the next strategy.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+final class CountingAppendable implements Appendable {
+
+    /**
+     * The wrapped Appendable.
+     */
+    private final Appendable appendable;
+
+    /**
+     * The appended char count.
+     */
+    private long count;
+
+    /**
+     * Create a CountingAppendable instance.
+     *
+     * @param appendable the wrapped Appendable.
+     */
+    CountingAppendable(Appendable appendable) {
+        AssertUtil.nonNull(appendable, "The appendable cannot be null.");
+        this.appendable = appendable;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        CharSequence sequence = csq == null ? "null" : csq;
+        appendable.append(sequence);
+        count += sequence.length();
+        return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence sequence = csq == null ? "null" : csq;
+        appendable.append(sequence, start, end);
+        count += end - start;
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        appendable.append(c);
+        count++;
+        return this;
+    }
+
+    /**
+     * Get the appended char count.
+     *
+     * @return the appended char count.
+     */
+    long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputPrintingMode;
+
+import java.util.Locale;
+
+/**
+ * <p>DigestAppendable is an {@link Appendable} used by
+ * the {@link OutputPrintingMode#DIGEST} mode.</p>
+ *
+ * <p>It counts the appended chars and hashes the UTF-8
+ * bytes of them by the 64-bit FNV-1a hash, without
+ * keeping the appended chars.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+final class DigestAppendable extends Utf8HashingAppendable {
+
+    /**
+     * The 64-bit FNV-1a offset basis.
+     */
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    /**
+     * The 64-bit FNV-1a prime.
+     */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * The hash.
+     */
+    private long hash = FNV_OFFSET_BASIS;
+
+    @Override
+    void update(int b) {
+        hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+    }
+
+    /**
+     * Get the digest of the appended chars.
+     *
+     * @return the digest.
+     */
+    String getDigest() {
+        finishChars();
+        return String.format(Locale.ROOT, "Digest(length=%d, fnv1a64=%016x)", getCount(), hash);
+    }
+}
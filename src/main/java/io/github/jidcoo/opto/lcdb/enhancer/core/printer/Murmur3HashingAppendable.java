@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputPrintingMode;
+
+import java.util.Locale;
+
+/**
+ * <p>Murmur3HashingAppendable is an {@link Appendable} used
+ * by the {@link OutputPrintingMode#HASH} mode.</p>
+ *
+ * <p>It hashes the UTF-8 bytes of the appended chars by the
+ * 128-bit MurmurHash3 (x64 variant, seed 0) in streaming mode.
+ * The hash is the same as {@code Hashing.murmur3_128()} of Guava
+ * on the whole bytes.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+final class Murmur3HashingAppendable extends Utf8HashingAppendable {
+
+    /**
+     * The first mixing constant.
+     */
+    private static final long C1 = 0x87c37b91114253d5L;
+
+    /**
+     * The second mixing constant.
+     */
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /**
+     * The first half of the hash.
+     */
+    private long h1;
+
+    /**
+     * The second half of the hash.
+     */
+    private long h2;
+
+    /**
+     * The first 8 bytes of the current block in little endian.
+     */
+    private long k1;
+
+    /**
+     * The last 8 bytes of the current block in little endian.
+     */
+    private long k2;
+
+    /**
+     * The byte count of the current block.
+     */
+    private int blockLength;
+
+    /**
+     * The hashed byte count.
+     */
+    private long length;
+
+    @Override
+    void update(int b) {
+        if (blockLength < 8) {
+            k1 |= (b & 0xFFL) << (blockLength << 3);
+        } else {
+            k2 |= (b & 0xFFL) << ((blockLength - 8) << 3);
+        }
+        length++;
+        if (++blockLength == 16) {
+            mixBlock();
+        }
+    }
+
+    /**
+     * Mix the current full block into the hash.
+     */
+    private void mixBlock() {
+        h1 ^= mixK1(k1);
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52dce729;
+        h2 ^= mixK2(k2);
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495ab5;
+        k1 = 0;
+        k2 = 0;
+        blockLength = 0;
+    }
+
+    /**
+     * Get the 128-bit hash of the appended chars.
+     * Call it only once.
+     *
+     * @return the two halves of the hash.
+     */
+    long[] getHash() {
+        finishChars();
+        // Mix the tail block.
+        if (blockLength > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (blockLength > 0) {
+            h1 ^= mixK1(k1);
+        }
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[]{h1, h2};
+    }
+
+    /**
+     * Format the 128-bit hash as 32 hex digits, in the byte
+     * order of {@code HashCode.toString()} of Guava.
+     *
+     * @param hash the two halves of the hash.
+     * @return the hex digits.
+     */
+    static String toHex(long[] hash) {
+        return String.format(Locale.ROOT, "%016x%016x", Long.reverseBytes(hash[0]), Long.reverseBytes(hash[1]));
+    }
+
+    /**
+     * Mix the first 8 bytes of a block.
+     *
+     * @param k1 the first 8 bytes in little endian.
+     * @return the mixed bytes.
+     */
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    /**
+     * Mix the last 8 bytes of a block.
+     *
+     * @param k2 the last 8 bytes in little endian.
+     * @return the mixed bytes.
+     */
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    /**
+     * The final avalanche mix of a half of the hash.
+     *
+     * @param k the half of the hash.
+     * @return the mixed half of the hash.
+     */
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
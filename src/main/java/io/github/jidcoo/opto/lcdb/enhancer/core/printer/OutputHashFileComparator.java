@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputPrintingMode;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>OutputHashFileComparator is a comparator of two
+ * output files printed in the {@link OutputPrintingMode#HASH}
+ * mode, e.g. the outputs of a solution before and after a
+ * refactoring on the same cases.</p>
+ *
+ * <p>The {@code caseIndex,hash} lines of the two files are
+ * merged by the case index, and the other lines are ignored.
+ * So a file of 10^6 cases is compared in one pass with
+ * constant memory.</p>
+ *
+ * <pre>
+ * java -cp ... io.github.jidcoo.opto.lcdb.enhancer.core.printer.OutputHashFileComparator expected.txt actual.txt
+ * </pre>
+ *
+ * @author Jidcoo
+ * @see OutputPrintingMode#HASH
+ * @since 1.1
+ */
+public final class OutputHashFileComparator {
+
+    /**
+     * The pattern of a {@code caseIndex,hash} line.
+     */
+    private static final Pattern HASH_LINE_PATTERN = Pattern.compile("^(\\d+),([0-9a-f]{32})$");
+
+    /**
+     * The max reported mismatches.
+     */
+    private static final int MAX_REPORTED_MISMATCHES = 20;
+
+    /**
+     * Just making default constructor private for non-instantiability.
+     */
+    private OutputHashFileComparator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compare two hash files and report the mismatched cases.
+     *
+     * @param expectedFile the expected hash file.
+     * @param actualFile   the actual hash file.
+     * @param report       the report stream.
+     * @return the count of the mismatched cases, including the cases missing in either file.
+     * @throws IOException if the hash files cannot be read.
+     */
+    public static long compare(File expectedFile, File actualFile, PrintStream report) throws IOException {
+        AssertUtil.nonNull(expectedFile, "The expectedFile cannot be null.");
+        AssertUtil.nonNull(actualFile, "The actualFile cannot be null.");
+        AssertUtil.nonNull(report, "The report cannot be null.");
+        long cases = 0;
+        long mismatches = 0;
+        try (BufferedReader expectedReader = Files.newBufferedReader(expectedFile.toPath(), StandardCharsets.UTF_8);
+             BufferedReader actualReader = Files.newBufferedReader(actualFile.toPath(), StandardCharsets.UTF_8)) {
+            Matcher expected = nextHashLine(expectedReader);
+            Matcher actual = nextHashLine(actualReader);
+            while (Objects.nonNull(expected) || Objects.nonNull(actual)) {
+                long expectedIndex = Objects.nonNull(expected) ? Long.parseLong(expected.group(1)) : Long.MAX_VALUE;
+                long actualIndex = Objects.nonNull(actual) ? Long.parseLong(actual.group(1)) : Long.MAX_VALUE;
+                String mismatch = null;
+                cases++;
+                if (expectedIndex < actualIndex) {
+                    mismatch = String.format("Case %d: missing in %s", expectedIndex, actualFile);
+                    expected = nextHashLine(expectedReader);
+                } else if (actualIndex < expectedIndex) {
+                    mismatch = String.format("Case %d: missing in %s", actualIndex, expectedFile);
+                    actual = nextHashLine(actualReader);
+                } else {
+                    if (!expected.group(2).equals(actual.group(2))) {
+                        mismatch = String.format("Case %d: expected %s, actual %s", expectedIndex, expected.group(2),
+                                actual.group(2));
+                    }
+                    expected = nextHashLine(expectedReader);
+                    actual = nextHashLine(actualReader);
+                }
+                if (Objects.nonNull(mismatch) && ++mismatches <= MAX_REPORTED_MISMATCHES) {
+                    report.println(mismatch);
+                }
+            }
+        }
+        if (mismatches > MAX_REPORTED_MISMATCHES) {
+            report.printf("... and %d more mismatched cases%n", mismatches - MAX_REPORTED_MISMATCHES);
+        }
+        report.printf("Compared %d cases, %d mismatched.%n", cases, mismatches);
+        return mismatches;
+    }
+
+    /**
+     * Read the next {@code caseIndex,hash} line.
+     *
+     * @param reader the reader of the hash file.
+     * @return the matcher of the next hash line, or null if the file ends.
+     * @throws IOException if the hash file cannot be read.
+     */
+    private static Matcher nextHashLine(BufferedReader reader) throws IOException {
+        String line;
+        while (Objects.nonNull(line = reader.readLine())) {
+            Matcher matcher = HASH_LINE_PATTERN.matcher(line.trim());
+            if (matcher.matches()) {
+                return matcher;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compare two hash files given by the arguments. Exit with
+     * status 1 if any case is mismatched.
+     *
+     * @param args the expected hash file and the actual hash file.
+     * @throws IOException if the hash files cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: OutputHashFileComparator <expected hash file> <actual hash file>");
+            System.exit(2);
+        }
+        if (compare(new File(args[0]), new File(args[1]), System.out) > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -17,15 +17,17 @@
 package io.github.jidcoo.opto.lcdb.enhancer.core.printer;
 
 import io.github.jidcoo.opto.lcdb.enhancer.base.BasePrintingStrategy;
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputPrintingMode;
 import io.github.jidcoo.opto.lcdb.enhancer.base.Strategizable;
+import io.github.jidcoo.opto.lcdb.enhancer.core.strategy.StrategyRegistry;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.GsonUtil;
-import io.github.jidcoo.opto.lcdb.enhancer.base.Order;
 
 import javax.lang.model.type.NullType;
+import java.io.IOException;
+import java.lang.reflect.Array;
 import java.util.*;
-import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * <p>OutputPrinter is an output printer.</p>
@@ -61,35 +63,48 @@ final class OutputPrinter extends BasePrintingStrategy<Object> {
      */
     private final Map<Class<?>, Set<BasePrintingStrategy<?>>> printingStrategyMap;
 
+    /**
+     * The output printing mode.
+     */
+    private final OutputPrintingMode printingMode;
+
+    /**
+     * The char budget of each printed output in the {@link OutputPrintingMode#SUMMARY} mode.
+     */
+    private final int charBudget;
+
+    /**
+     * Whether the order of the output elements is ignored in the {@link OutputPrintingMode#HASH} mode.
+     */
+    private final boolean orderInsensitive;
+
+    /**
+     * The index of the last printed case in the {@link OutputPrintingMode#HASH} mode.
+     */
+    private long caseIndex;
+
     /**
      * Create a OutputPrinter instance.
      *
-     * @param printingStrategyList the available PrintingStrategy list.
+     * @param printingStrategyMap the frozen printing strategy map of the {@link StrategyRegistry}.
+     * @param printingMode        the output printing mode.
+     * @param charBudget          the char budget of each printed output in the
+     *                            {@link OutputPrintingMode#SUMMARY} mode.
+     * @param orderInsensitive    whether the order of the output elements is ignored
+     *                            in the {@link OutputPrintingMode#HASH} mode.
      */
-    OutputPrinter(List<BasePrintingStrategy> printingStrategyList) {
-        this.printingStrategyMap = new HashMap<>();
-        // OutputPrinter is also a PrintingStrategy class, so add it to the printingStrategyList.
-        printingStrategyList.add(this);
-        // Filter out all null object.
-        printingStrategyList = printingStrategyList.stream().filter(Objects::nonNull).collect(Collectors.toList());
-        // Define the PrintingStrategy Comparator.
-        Comparator<Order> printingStrategyComparator = Comparator.comparingInt(Order::getOrder).reversed();
-        // Wrap the printingStrategyMap build process as a BiConsumer.
-        BiConsumer<Class<?>, BasePrintingStrategy<?>> mapBuilder = (Class<?> clazz,
-                                                                    BasePrintingStrategy<?> printingStrategy) -> {
-            AssertUtil.nonNull(clazz, "The accepted type of the " + printingStrategy + " cannot be null.");
-            // Get the strategySet by clazz.
-            Set<BasePrintingStrategy<?>> strategySet = printingStrategyMap.computeIfAbsent(clazz,
-                    key -> new TreeSet<>(printingStrategyComparator));
-            // Add the printingStrategy to the set.
-            strategySet.add(printingStrategy);
-        };
-        // Using printingStrategyList to build printingStrategyMap.
-        for (BasePrintingStrategy<?> printingStrategy : printingStrategyList) {
-            mapBuilder.accept(printingStrategy.getAcceptableType(), printingStrategy);
-        }
+    OutputPrinter(Map<Class<?>, Set<BasePrintingStrategy<?>>> printingStrategyMap, OutputPrintingMode printingMode,
+                  int charBudget, boolean orderInsensitive) {
+        AssertUtil.nonNull(printingStrategyMap, "The printingStrategyMap cannot be null.");
+        AssertUtil.nonNull(printingMode, "The printingMode cannot be null.");
+        AssertUtil.isTrue(printingMode != OutputPrintingMode.SUMMARY || charBudget > 1,
+                "The output char budget must be greater than 1.");
+        this.printingMode = printingMode;
+        this.charBudget = charBudget;
+        this.orderInsensitive = orderInsensitive;
         // Make OutputPrinter can do the most great things. HaHaHa...
-        Arrays.asList(Object.class, NullType.class, Void.class).forEach(type -> mapBuilder.accept(type, this));
+        this.printingStrategyMap = StrategyRegistry.extend(printingStrategyMap, this, Object.class,
+                NullType.class, Void.class);
     }
 
     /**
@@ -100,6 +115,12 @@ final class OutputPrinter extends BasePrintingStrategy<Object> {
      * @return the printed content.
      */
     String print(Object output, Class outputType) {
+        if (printingMode != OutputPrintingMode.FULL) {
+            // Summarize the output in streaming mode.
+            StringBuilder stringBuilder = new StringBuilder();
+            print(output, outputType, stringBuilder);
+            return stringBuilder.toString();
+        }
         // Find the strategy set for the output.
         Set<BasePrintingStrategy<?>> strategySet = findStrategySet(Objects.nonNull(outputType) ? outputType : output,
                 printingStrategyMap);
@@ -114,6 +135,123 @@ final class OutputPrinter extends BasePrintingStrategy<Object> {
         throw new RuntimeException("Cannot print output :" + output, lastThrowable);
     }
 
+    /**
+     * Print the output by appropriate strategies into
+     * the appendable in streaming mode.
+     *
+     * @param output     the output instance.
+     * @param outputType the output type.
+     * @param appendable the appendable.
+     */
+    void print(Object output, Class outputType, Appendable appendable) {
+        try {
+            switch (printingMode) {
+                case SUMMARY:
+                    SummarizingAppendable summarizingAppendable = new SummarizingAppendable(appendable, charBudget);
+                    printFully(output, outputType, summarizingAppendable);
+                    summarizingAppendable.finish();
+                    return;
+                case DIGEST:
+                    DigestAppendable digestAppendable = new DigestAppendable();
+                    printFully(output, outputType, digestAppendable);
+                    appendable.append(digestAppendable.getDigest());
+                    return;
+                case HASH:
+                    appendable.append(Long.toString(++caseIndex)).append(',').append(hash(output, outputType));
+                    return;
+                default:
+                    printFully(output, outputType, appendable);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot print output :" + output, e);
+        }
+    }
+
+    /**
+     * Print a message in place of the output of a case, e.g.
+     * the time limit exceeded message. The message is hashed
+     * as a case in the {@link OutputPrintingMode#HASH} mode,
+     * and kept as it is in the other modes.
+     *
+     * @param message the message.
+     * @return the printed message.
+     */
+    String printMessage(String message) {
+        if (printingMode != OutputPrintingMode.HASH) {
+            return message;
+        }
+        Murmur3HashingAppendable hashingAppendable = new Murmur3HashingAppendable();
+        hashingAppendable.append(message);
+        return ++caseIndex + "," + Murmur3HashingAppendable.toHex(hashingAppendable.getHash());
+    }
+
+    /**
+     * Hash the printed output by the 128-bit MurmurHash3.
+     *
+     * <p>If the order of the output elements is ignored, the hash
+     * of a {@link Collection} or an array output is combined from
+     * the hashes of its elements by the commutative addition.</p>
+     *
+     * @param output     the output instance.
+     * @param outputType the output type.
+     * @return the hex digits of the hash.
+     */
+    private String hash(Object output, Class outputType) {
+        if (!orderInsensitive || !(output instanceof Collection || (Objects.nonNull(output)
+                && output.getClass().isArray()))) {
+            Murmur3HashingAppendable hashingAppendable = new Murmur3HashingAppendable();
+            printFully(output, outputType, hashingAppendable);
+            return Murmur3HashingAppendable.toHex(hashingAppendable.getHash());
+        }
+        Iterable<?> elements = output instanceof Collection ? (Collection<?>) output :
+                (Iterable<Object>) IntStream.range(0, Array.getLength(output)).mapToObj(i -> Array.get(output, i))::iterator;
+        long size = 0;
+        long sum1 = 0;
+        long sum2 = 0;
+        for (Object element : elements) {
+            Murmur3HashingAppendable hashingAppendable = new Murmur3HashingAppendable();
+            printFully(element, null, hashingAppendable);
+            long[] elementHash = hashingAppendable.getHash();
+            size++;
+            sum1 += elementHash[0];
+            sum2 += elementHash[1];
+        }
+        // Hash the size and the sums again to avalanche them.
+        Murmur3HashingAppendable hashingAppendable = new Murmur3HashingAppendable();
+        hashingAppendable.append("unordered:").append(Long.toString(size)).append(':')
+                .append(Long.toHexString(sum1)).append(':').append(Long.toHexString(sum2));
+        return Murmur3HashingAppendable.toHex(hashingAppendable.getHash());
+    }
+
+    /**
+     * Print the whole output by appropriate strategies
+     * into the appendable in streaming mode.
+     *
+     * @param output     the output instance.
+     * @param outputType the output type.
+     * @param appendable the appendable.
+     */
+    private void printFully(Object output, Class outputType, Appendable appendable) {
+        // Find the strategy set for the output.
+        Set<BasePrintingStrategy<?>> strategySet = findStrategySet(Objects.nonNull(outputType) ? outputType : output,
+                printingStrategyMap);
+        CountingAppendable countingAppendable = new CountingAppendable(appendable);
+        Throwable lastThrowable = null;
+        for (BasePrintingStrategy<?> printingStrategy : strategySet) {
+            try {
+                printingStrategy.accept(null, output, countingAppendable, printingStrategyMap);
+                return;
+            } catch (Throwable e) {
+                if (countingAppendable.getCount() > 0) {
+                    // The output has been partially written, so we cannot fall back to the next strategy.
+                    throw new RuntimeException("Cannot print output :" + output, e);
+                }
+                lastThrowable = e;
+            }
+        }
+        throw new RuntimeException("Cannot print output :" + output, lastThrowable);
+    }
+
     /**
      * Get the order of the object.
      *
@@ -154,4 +292,18 @@ final class OutputPrinter extends BasePrintingStrategy<Object> {
         // But this is the most stable method. Right?!!
         return GsonUtil.toJson(outputObject);
     }
+
+    /**
+     * Print the output into the appendable in streaming mode.
+     *
+     * @param outputObject  the output object.
+     * @param appendable    the appendable.
+     * @param strategiesMap the strategies map that can be used during this printing process.
+     */
+    @Override
+    protected void printOutput(Object outputObject, Appendable appendable,
+                               Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap) {
+        // Stream the json into the appendable by the JsonWriter of Gson.
+        GsonUtil.toJson(outputObject, appendable);
+    }
 }
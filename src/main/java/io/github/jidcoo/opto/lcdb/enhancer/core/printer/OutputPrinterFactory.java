@@ -17,17 +17,8 @@
 package io.github.jidcoo.opto.lcdb.enhancer.core.printer;
 
 import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
-import io.github.jidcoo.opto.lcdb.enhancer.base.BasePrintingStrategy;
+import io.github.jidcoo.opto.lcdb.enhancer.core.strategy.StrategyRegistryFactory;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
-import io.github.jidcoo.opto.lcdb.enhancer.utils.BeanUtil;
-import io.github.jidcoo.opto.lcdb.enhancer.utils.ContainerCheckUtil;
-import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
-
-import javax.annotation.Resource;
-import java.lang.reflect.Modifier;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * <p>OutputPrinterFactory is a factory class
@@ -38,11 +29,6 @@ import java.util.stream.Collectors;
  */
 public final class OutputPrinterFactory {
 
-    /**
-     * Built-in printing strategy set package location.
-     */
-    private static final String BUILT_IN_PRINTING_STRATEGY_PACKAGE = "io.github.jidcoo.opto.lcdb.enhancer.core.printer.builtin";
-
     /**
      * Product a OutputPrinter instance by
      * {@link LeetcodeJavaDebugEnhancer} instance.
@@ -52,18 +38,7 @@ public final class OutputPrinterFactory {
      */
     public static OutputPrinter getOutputPrinter(LeetcodeJavaDebugEnhancer enhancer) {
         AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
-        // Collect all builtin printing strategies.
-        List<BasePrintingStrategy> builtinOutputPrintStrategies = BeanUtil.collectBeans(BasePrintingStrategy.class,
-                BUILT_IN_PRINTING_STRATEGY_PACKAGE,
-                (Class type) -> type.isAnnotationPresent(Resource.class)
-                        && ReflectUtil.isExtendsClass(type, BasePrintingStrategy.class)
-                        && !Modifier.isAbstract(type.getModifiers()),
-                (Class<? extends BasePrintingStrategy> beanType) -> ReflectUtil.createInstance(beanType))
-                .stream().filter(Objects::nonNull).collect(Collectors.toList());
-        // Add all enhancer's printStrategies to the list.
-        if (!ContainerCheckUtil.isListEmpty(enhancer.getOutputPrintStrategies())) {
-            builtinOutputPrintStrategies.addAll(enhancer.getOutputPrintStrategies());
-        }
-        return new OutputPrinter(builtinOutputPrintStrategies);
+        return new OutputPrinter(StrategyRegistryFactory.getStrategyRegistry(enhancer).getPrintingStrategyMap(),
+                enhancer.getOutputPrintingMode(), enhancer.getOutputCharBudget(), enhancer.isOutputOrderInsensitive());
     }
 }
@@ -16,8 +16,8 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.core.printer;
 
+import io.github.jidcoo.opto.lcdb.enhancer.core.executor.LeetcodeExecutorProcessor;
 import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
-import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
 
 /**
  * <p>OutputPrinterProcessor is a publicly available
@@ -45,11 +45,82 @@ public final class OutputPrinterProcessor {
     public static String process(Object printer, Object executor, Object outputObject) {
         AssertUtil.nonNull(printer, "The printer cannot be null.");
         AssertUtil.isTrue((printer instanceof OutputPrinter), "The printer is not a OutputPrinter.");
-        AssertUtil.nonNull(printer, "The executor cannot be null.");
+        AssertUtil.nonNull(executor, "The executor cannot be null.");
         // Get output type from LeetcodeExecutor.
-        Class invokerResponseType = ReflectUtil.getFieldValue("invokerResponseType", Class.class, executor);
+        Class invokerResponseType = LeetcodeExecutorProcessor.getCaseContext(executor).getInvokerResponseType();
         // Do real print and return the printed output string.
         String printedContent = ((OutputPrinter) (printer)).print(outputObject, invokerResponseType);
         return printedContent;
     }
+
+    /**
+     * Do real print with OutputPrinter instance, the output type
+     * and Output instance, e.g. when the invoker of the output has
+     * been replaced by the invoker of a case parsed ahead.
+     *
+     * @param printer      the OutputPrinter instance.
+     * @param outputType   the output type, i.e. the return type of the invoker.
+     * @param outputObject the output object.
+     * @return the printed output string.
+     * @since 1.1
+     */
+    public static String processOutput(Object printer, Class<?> outputType, Object outputObject) {
+        AssertUtil.nonNull(printer, "The printer cannot be null.");
+        AssertUtil.isTrue((printer instanceof OutputPrinter), "The printer is not a OutputPrinter.");
+        AssertUtil.nonNull(outputType, "The output type cannot be null.");
+        return ((OutputPrinter) (printer)).print(outputObject, outputType);
+    }
+
+    /**
+     * Do real print of a message in place of the output of a case,
+     * e.g. the time limit exceeded message.
+     *
+     * @param printer the OutputPrinter instance.
+     * @param message the message.
+     * @return the printed message.
+     */
+    public static String processMessage(Object printer, String message) {
+        AssertUtil.nonNull(printer, "The printer cannot be null.");
+        AssertUtil.isTrue((printer instanceof OutputPrinter), "The printer is not a OutputPrinter.");
+        return ((OutputPrinter) (printer)).printMessage(message);
+    }
+
+    /**
+     * Do real print with OutputPrinter instance and Output instance
+     * into the appendable in streaming mode.
+     *
+     * @param printer      the OutputPrinter instance.
+     * @param executor     the LeetcodeExecutor instance.
+     * @param outputObject the output object.
+     * @param appendable   the appendable.
+     */
+    public static void process(Object printer, Object executor, Object outputObject, Appendable appendable) {
+        AssertUtil.nonNull(printer, "The printer cannot be null.");
+        AssertUtil.isTrue((printer instanceof OutputPrinter), "The printer is not a OutputPrinter.");
+        AssertUtil.nonNull(executor, "The executor cannot be null.");
+        AssertUtil.nonNull(appendable, "The appendable cannot be null.");
+        // Get output type from LeetcodeExecutor.
+        Class invokerResponseType = LeetcodeExecutorProcessor.getCaseContext(executor).getInvokerResponseType();
+        // Do real print into the appendable.
+        ((OutputPrinter) (printer)).print(outputObject, invokerResponseType, appendable);
+    }
+
+    /**
+     * Do real print with OutputPrinter instance, the output type
+     * and Output instance into the appendable in streaming mode.
+     *
+     * @param printer      the OutputPrinter instance.
+     * @param outputType   the output type, i.e. the return type of the invoker.
+     * @param outputObject the output object.
+     * @param appendable   the appendable.
+     * @since 1.1
+     */
+    public static void processOutput(Object printer, Class<?> outputType, Object outputObject,
+                                     Appendable appendable) {
+        AssertUtil.nonNull(printer, "The printer cannot be null.");
+        AssertUtil.isTrue((printer instanceof OutputPrinter), "The printer is not a OutputPrinter.");
+        AssertUtil.nonNull(outputType, "The output type cannot be null.");
+        AssertUtil.nonNull(appendable, "The appendable cannot be null.");
+        ((OutputPrinter) (printer)).print(outputObject, outputType, appendable);
+    }
 }
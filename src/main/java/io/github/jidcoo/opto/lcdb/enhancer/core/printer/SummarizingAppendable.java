@@ -0,0 +1,416 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.OutputPrintingMode;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+import java.io.IOException;
+
+/**
+ * <p>SummarizingAppendable is an {@link Appendable} wrapper
+ * used by the {@link OutputPrintingMode#SUMMARY} mode.</p>
+ *
+ * <p>It keeps the head chars and the tail chars of the output
+ * in the buffers bounded by the budget, and drops the middle.
+ * When the output exceeds the budget, the middle is replaced by
+ * an {@code ...(N chars omitted)...} marker. A list output is cut
+ * only at its element boundaries outside the json strings, i.e.
+ * after a comma or an opening bracket in the head and before a
+ * comma or a closing bracket in the tail, with brackets balancing
+ * the two depths, so that the summary is still a bracketed list.
+ * So {@code [[1,2],[3,4,5,6],[7,8]]} may be summarized as
+ * {@code [[1,2],[3,...],[7,8]]}. A string output is cut inside
+ * the string, but never inside an escape sequence.</p>
+ *
+ * <p>The marker is counted within the budget, so the summary is
+ * never longer than the budget unless the budget cannot even hold
+ * the marker. If summarizing does not make the output shorter,
+ * the output is printed unchanged.</p>
+ *
+ * <p>Call {@link #finish()} after the output is printed.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+final class SummarizingAppendable implements Appendable {
+
+    /**
+     * The lexical state outside the json strings.
+     */
+    private static final byte OUTSIDE = 0;
+
+    /**
+     * The lexical state inside a json string.
+     */
+    private static final byte INSIDE = 1;
+
+    /**
+     * The lexical state of a char of an escape sequence inside a json string.
+     */
+    private static final byte ESCAPED = 2;
+
+    /**
+     * The prefix of the marker of the omitted chars.
+     */
+    private static final String MARKER_PREFIX = "...(";
+
+    /**
+     * The suffix of the marker of the omitted chars.
+     */
+    private static final String MARKER_SUFFIX = " chars omitted)...";
+
+    /**
+     * The chars reserved in the budget for the marker.
+     */
+    private static final int MARKER_RESERVE = MARKER_PREFIX.length()
+            + Integer.toString(Integer.MAX_VALUE).length() + MARKER_SUFFIX.length();
+
+    /**
+     * The wrapped Appendable.
+     */
+    private final Appendable appendable;
+
+    /**
+     * The char budget.
+     */
+    private final int budget;
+
+    /**
+     * The head chars.
+     */
+    private final char[] head;
+
+    /**
+     * The json lexical state before each head char.
+     */
+    private final byte[] headStates;
+
+    /**
+     * The char limit of the tail kept in a summary.
+     */
+    private final int tailLimit;
+
+    /**
+     * The ring buffer of the tail chars. It keeps the marker reserve
+     * more than the tail limit, so that an output which cannot be made
+     * shorter by summarizing is still kept as a whole.
+     */
+    private final char[] tail;
+
+    /**
+     * The json lexical state before each tail char.
+     */
+    private final byte[] tailStates;
+
+    /**
+     * The json lexical state at the end of the head.
+     */
+    private byte headEndState;
+
+    /**
+     * The appended char count.
+     */
+    private long count;
+
+    /**
+     * Whether the current char is inside a json string.
+     */
+    private boolean inString;
+
+    /**
+     * The remaining chars of the current escape sequence in a json
+     * string, or -1 if the current char is the escaped char.
+     */
+    private int escapeRemaining;
+
+    /**
+     * Create a SummarizingAppendable instance.
+     *
+     * @param appendable the wrapped Appendable.
+     * @param budget     the char budget.
+     */
+    SummarizingAppendable(Appendable appendable, int budget) {
+        AssertUtil.nonNull(appendable, "The appendable cannot be null.");
+        AssertUtil.isTrue(budget > 1, "The output char budget must be greater than 1.");
+        this.appendable = appendable;
+        this.budget = budget;
+        // Keep at least one char at each end, e.g. the brackets of a list.
+        int contentBudget = Math.max(2, budget - MARKER_RESERVE);
+        this.head = new char[contentBudget / 2];
+        this.headStates = new byte[head.length];
+        this.tailLimit = contentBudget - head.length;
+        this.tail = new char[tailLimit + MARKER_RESERVE];
+        this.tailStates = new byte[tail.length];
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        CharSequence sequence = csq == null ? "null" : csq;
+        return append(sequence, 0, sequence.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence sequence = csq == null ? "null" : csq;
+        for (int i = start; i < end; i++) {
+            append(sequence.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        byte state = !inString ? OUTSIDE : escapeRemaining != 0 ? ESCAPED : INSIDE;
+        if (count < head.length) {
+            head[(int) count] = c;
+            headStates[(int) count] = state;
+        } else {
+            if (count == head.length) {
+                headEndState = state;
+            }
+            int index = (int) ((count - head.length) % tail.length);
+            tail[index] = c;
+            tailStates[index] = state;
+        }
+        count++;
+        // Track the json lexical state.
+        if (inString) {
+            if (escapeRemaining < 0) {
+                // The unicode escape is followed by 4 hex digits.
+                escapeRemaining = c == 'u' ? 4 : 0;
+            } else if (escapeRemaining > 0) {
+                escapeRemaining--;
+            } else if (c == '\\') {
+                escapeRemaining = -1;
+            } else if (c == '"') {
+                inString = false;
+            }
+        } else if (c == '"') {
+            inString = true;
+        }
+        return this;
+    }
+
+    /**
+     * Finish the summarizing, and append the output or its
+     * summary into the wrapped Appendable.
+     *
+     * @throws IOException if the wrapped Appendable cannot be appended.
+     */
+    void finish() throws IOException {
+        if (count <= budget) {
+            // The output is within the budget, so nothing is elided.
+            appendAll();
+            return;
+        }
+        boolean list = head[0] == '[';
+        boolean string = head[0] == '"';
+        int headCut = previousHeadCut(head.length, list, string);
+        if (headCut < 0) {
+            headCut = head.length;
+        }
+        long tailCut = nextTailCut(count - tailLimit, list, string);
+        if (tailCut < 0) {
+            tailCut = count - tailLimit;
+        }
+        int headDepth = headDepth(0, headCut);
+        int tailDepth = tailDepth(tailCut, count);
+        // Cut more elements while the brackets balancing the depths exceed the budget.
+        while (summaryLength(headCut, tailCut, headDepth, tailDepth) > budget) {
+            long nextTailCut = nextTailCut(tailCut + 1, list, string);
+            if (nextTailCut >= 0) {
+                tailDepth -= tailDepth(tailCut, nextTailCut);
+                tailCut = nextTailCut;
+                continue;
+            }
+            int previousHeadCut = previousHeadCut(headCut - 1, list, string);
+            if (previousHeadCut < 0) {
+                break;
+            }
+            headDepth -= headDepth(previousHeadCut, headCut);
+            headCut = previousHeadCut;
+        }
+        if (summaryLength(headCut, tailCut, headDepth, tailDepth) >= count
+                && count <= head.length + tail.length) {
+            // The marker is not shorter than the chars it replaces.
+            appendAll();
+            return;
+        }
+        appendable.append(new String(head, 0, headCut));
+        for (int i = headDepth; i < tailDepth; i++) {
+            appendable.append('[');
+        }
+        appendable.append(MARKER_PREFIX).append(Long.toString(tailCut - headCut)).append(MARKER_SUFFIX);
+        for (int i = tailDepth; i < headDepth; i++) {
+            appendable.append(']');
+        }
+        appendTail(tailCut, count);
+    }
+
+    /**
+     * Get the length of the summary with the cuts.
+     *
+     * @param headCut   the end index of the kept head, exclusive.
+     * @param tailCut   the start index of the kept tail, inclusive.
+     * @param headDepth the bracket depth at the end of the kept head.
+     * @param tailDepth the bracket depth at the start of the kept tail.
+     * @return the length of the summary.
+     */
+    private long summaryLength(int headCut, long tailCut, int headDepth, int tailDepth) {
+        return headCut + Math.abs(headDepth - tailDepth) + MARKER_PREFIX.length()
+                + Long.toString(tailCut - headCut).length() + MARKER_SUFFIX.length() + count - tailCut;
+    }
+
+    /**
+     * Find the latest cut of the head at or before the index.
+     *
+     * @param from   the index to search backward from.
+     * @param list   whether the output is a list.
+     * @param string whether the output is a json string.
+     * @return the end index of the kept head, or -1 if there is no cut.
+     */
+    private int previousHeadCut(int from, boolean list, boolean string) {
+        for (int i = from; i > 0; i--) {
+            if (list) {
+                // Cut after a comma or an opening bracket.
+                char c = head[i - 1];
+                if (headStates[i - 1] == OUTSIDE && (c == ',' || c == '[')) {
+                    return i;
+                }
+            } else if (isStringCut(i < head.length ? headStates[i] : headEndState, string)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the earliest cut of the tail at or after the index.
+     *
+     * @param from   the index to search forward from.
+     * @param list   whether the output is a list.
+     * @param string whether the output is a json string.
+     * @return the start index of the kept tail, or -1 if there is no cut.
+     */
+    private long nextTailCut(long from, boolean list, boolean string) {
+        for (long i = from; i < count; i++) {
+            if (list) {
+                // Cut before a comma or a closing bracket.
+                char c = tail(i);
+                if (tailState(i) == OUTSIDE && (c == ',' || c == ']')) {
+                    return i;
+                }
+            } else if (isStringCut(tailState(i), string)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if a scalar output can be cut before a char.
+     *
+     * @param state  the json lexical state before the char.
+     * @param string whether the output is a json string.
+     * @return true if the output can be cut before the char.
+     */
+    private static boolean isStringCut(byte state, boolean string) {
+        // Keep the marker inside the json string, and never split an escape sequence.
+        return string ? state == INSIDE : state != ESCAPED;
+    }
+
+    /**
+     * Get the count of the brackets opened in the head range.
+     *
+     * @param start the start index of the head, inclusive.
+     * @param end   the end index of the head, exclusive.
+     * @return the bracket depth.
+     */
+    private int headDepth(int start, int end) {
+        int headDepth = 0;
+        for (int i = start; i < end; i++) {
+            if (headStates[i] == OUTSIDE) {
+                char c = head[i];
+                headDepth += c == '[' ? 1 : c == ']' ? -1 : 0;
+            }
+        }
+        return headDepth;
+    }
+
+    /**
+     * Get the count of the brackets closed in the tail range.
+     *
+     * @param start the start index of the tail, inclusive.
+     * @param end   the end index of the tail, exclusive.
+     * @return the bracket depth.
+     */
+    private int tailDepth(long start, long end) {
+        int tailDepth = 0;
+        for (long i = start; i < end; i++) {
+            if (tailState(i) == OUTSIDE) {
+                char c = tail(i);
+                tailDepth += c == ']' ? 1 : c == '[' ? -1 : 0;
+            }
+        }
+        return tailDepth;
+    }
+
+    /**
+     * Append all chars of the output, which are all kept.
+     *
+     * @throws IOException if the wrapped Appendable cannot be appended.
+     */
+    private void appendAll() throws IOException {
+        appendable.append(new String(head, 0, (int) Math.min(head.length, count)));
+        appendTail(head.length, count);
+    }
+
+    /**
+     * Append the tail chars in the range.
+     *
+     * @param start the start index of the output chars, inclusive.
+     * @param end   the end index of the output chars, exclusive.
+     * @throws IOException if the wrapped Appendable cannot be appended.
+     */
+    private void appendTail(long start, long end) throws IOException {
+        for (long i = start; i < end; i++) {
+            appendable.append(tail(i));
+        }
+    }
+
+    /**
+     * Get the tail char at the index of the output chars.
+     *
+     * @param index the index of the output chars.
+     * @return the tail char.
+     */
+    private char tail(long index) {
+        return tail[(int) ((index - head.length) % tail.length)];
+    }
+
+    /**
+     * Get the json lexical state before the tail char
+     * at the index of the output chars.
+     *
+     * @param index the index of the output chars.
+     * @return the json lexical state.
+     */
+    private byte tailState(long index) {
+        return tailStates[(int) ((index - head.length) % tail.length)];
+    }
+}
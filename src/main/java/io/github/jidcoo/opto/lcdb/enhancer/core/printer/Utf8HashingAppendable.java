@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer;
+
+/**
+ * <p>Utf8HashingAppendable is an abstract {@link Appendable}
+ * hashing the UTF-8 bytes of the appended chars, without
+ * keeping the appended chars.</p>
+ *
+ * <p>An unpaired surrogate is encoded as {@code '?'},
+ * as {@link String#getBytes(java.nio.charset.Charset)} does.</p>
+ *
+ * @author Jidcoo
+ * @see DigestAppendable
+ * @see Murmur3HashingAppendable
+ * @since 1.1
+ */
+abstract class Utf8HashingAppendable implements Appendable {
+
+    /**
+     * The appended char count.
+     */
+    private long count;
+
+    /**
+     * The pending high surrogate, or 0.
+     */
+    private char highSurrogate;
+
+    @Override
+    public final Utf8HashingAppendable append(CharSequence csq) {
+        CharSequence sequence = csq == null ? "null" : csq;
+        return append(sequence, 0, sequence.length());
+    }
+
+    @Override
+    public final Utf8HashingAppendable append(CharSequence csq, int start, int end) {
+        CharSequence sequence = csq == null ? "null" : csq;
+        for (int i = start; i < end; i++) {
+            append(sequence.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public final Utf8HashingAppendable append(char c) {
+        count++;
+        if (c < 0x80 && highSurrogate == 0) {
+            // The fast path of the ascii chars.
+            update(c);
+            return this;
+        }
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                update(0xF0 | (codePoint >> 18));
+                update(0x80 | ((codePoint >> 12) & 0x3F));
+                update(0x80 | ((codePoint >> 6) & 0x3F));
+                update(0x80 | (codePoint & 0x3F));
+                return this;
+            }
+            update('?');
+        }
+        if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (c < 0x80) {
+            update(c);
+        } else if (c < 0x800) {
+            update(0xC0 | (c >> 6));
+            update(0x80 | (c & 0x3F));
+        } else if (Character.isLowSurrogate(c)) {
+            update('?');
+        } else {
+            update(0xE0 | (c >> 12));
+            update(0x80 | ((c >> 6) & 0x3F));
+            update(0x80 | (c & 0x3F));
+        }
+        return this;
+    }
+
+    /**
+     * Finish the appended chars by encoding the trailing
+     * unpaired surrogate. Call it once before getting the hash.
+     */
+    final void finishChars() {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            update('?');
+        }
+    }
+
+    /**
+     * Get the appended char count.
+     *
+     * @return the appended char count.
+     */
+    final long getCount() {
+        return count;
+    }
+
+    /**
+     * Update the hash by a UTF-8 byte.
+     *
+     * @param b the UTF-8 byte in the lowest 8 bits.
+     */
+    abstract void update(int b);
+}
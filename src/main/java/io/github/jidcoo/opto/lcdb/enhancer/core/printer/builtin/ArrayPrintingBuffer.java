@@ -0,0 +1,363 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer.builtin;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>ArrayPrintingBuffer is a char buffer used by the
+ * array printing strategies to print the array elements
+ * without boxing them.</p>
+ *
+ * <p>ArrayPrintingBuffer works in two modes. Created with
+ * a capacity, it grows to hold the whole printed content.
+ * Created with an {@link Appendable}, it keeps a fixed chunk
+ * and flushes the chunk into the appendable whenever it is
+ * full.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+final class ArrayPrintingBuffer {
+
+    /**
+     * The chunk size in the streaming mode.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * The max capacity in the growing mode.
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * The hex digits.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The target appendable, or null in the growing mode.
+     */
+    private final Appendable appendable;
+
+    /**
+     * The chars.
+     */
+    private char[] chars;
+
+    /**
+     * The count of the buffered chars.
+     */
+    private int count;
+
+    /**
+     * Create an ArrayPrintingBuffer instance in the growing mode.
+     *
+     * @param capacity the estimated capacity.
+     */
+    ArrayPrintingBuffer(long capacity) {
+        this.appendable = null;
+        this.chars = new char[(int) Math.max(16, Math.min(capacity, MAX_CAPACITY))];
+    }
+
+    /**
+     * Create an ArrayPrintingBuffer instance in the streaming mode.
+     *
+     * @param appendable the target appendable.
+     */
+    ArrayPrintingBuffer(Appendable appendable) {
+        this.appendable = Objects.requireNonNull(appendable);
+        this.chars = new char[CHUNK_SIZE];
+    }
+
+    /**
+     * Append a char.
+     *
+     * @param c the char.
+     * @throws IOException if the chunk cannot be flushed.
+     */
+    void append(char c) throws IOException {
+        ensureCapacity(1);
+        chars[count++] = c;
+    }
+
+    /**
+     * Append a string as it is.
+     *
+     * @param str the string.
+     * @throws IOException if the chunk cannot be flushed.
+     */
+    void append(String str) throws IOException {
+        int length = str.length();
+        if (Objects.nonNull(appendable) && length > chars.length) {
+            // Do not copy a string larger than the chunk.
+            flush();
+            appendable.append(str);
+            return;
+        }
+        ensureCapacity(length);
+        str.getChars(0, length, chars, count);
+        count += length;
+    }
+
+    /**
+     * Append the decimal digits of an int.
+     *
+     * @param value the int value.
+     * @throws IOException if the chunk cannot be flushed.
+     */
+    void append(int value) throws IOException {
+        if (value == Integer.MIN_VALUE) {
+            append((long) value);
+            return;
+        }
+        ensureCapacity(11);
+        if (value < 0) {
+            chars[count++] = '-';
+            value = -value;
+        }
+        int end = count + digitCount(value);
+        int position = end;
+        do {
+            int quotient = value / 10;
+            chars[--position] = (char) ('0' + (value - quotient * 10));
+            value = quotient;
+        } while (value != 0);
+        count = end;
+    }
+
+    /**
+     * Append the decimal digits of a long.
+     *
+     * @param value the long value.
+     * @throws IOException if the chunk cannot be flushed.
+     */
+    void append(long value) throws IOException {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE && value != Integer.MIN_VALUE) {
+            append((int) value);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            chars[count++] = '-';
+        }
+        int end = count + digitCount(value);
+        int position = end;
+        // Work on the negative value, so that Long.MIN_VALUE does not overflow.
+        long negative = value < 0 ? value : -value;
+        do {
+            long quotient = negative / 10;
+            chars[--position] = (char) ('0' - (negative - quotient * 10));
+            negative = quotient;
+        } while (negative != 0);
+        count = end;
+    }
+
+    /**
+     * Append a boolean.
+     *
+     * @param value the boolean value.
+     * @throws IOException if the chunk cannot be flushed.
+     */
+    void append(boolean value) throws IOException {
+        append(value ? "true" : "false");
+    }
+
+    /**
+     * Append a char as a json string.
+     *
+     * @param c the char.
+     * @throws IOException if the chunk cannot be flushed.
+     */
+    void appendQuoted(char c) throws IOException {
+        ensureCapacity(8);
+        chars[count++] = '"';
+        appendEscaped(c);
+        chars[count++] = '"';
+    }
+
+    /**
+     * Append a string as a json string, or {@code null}
+     * if the string is null.
+     *
+     * <p>The string is escaped exactly like the default Gson
+     * printing the other outputs, including the html characters,
+     * e.g. {@code <} as {@code \u003c}, so that the same output
+     * is printed and hashed alike by any printing strategy.</p>
+     *
+     * @param str the string.
+     * @throws IOException if the chunk cannot be flushed.
+     */
+    void appendQuoted(String str) throws IOException {
+        if (Objects.isNull(str)) {
+            append("null");
+            return;
+        }
+        append('"');
+        for (int i = 0, length = str.length(); i < length; i++) {
+            ensureCapacity(6);
+            appendEscaped(str.charAt(i));
+        }
+        append('"');
+    }
+
+    /**
+     * Append an escaped char of a json string.
+     * The capacity must be ensured by the caller.
+     *
+     * @param c the char.
+     */
+    private void appendEscaped(char c) {
+        switch (c) {
+            case '"':
+            case '\\':
+                chars[count++] = '\\';
+                chars[count++] = c;
+                return;
+            case '\t':
+                chars[count++] = '\\';
+                chars[count++] = 't';
+                return;
+            case '\b':
+                chars[count++] = '\\';
+                chars[count++] = 'b';
+                return;
+            case '\n':
+                chars[count++] = '\\';
+                chars[count++] = 'n';
+                return;
+            case '\r':
+                chars[count++] = '\\';
+                chars[count++] = 'r';
+                return;
+            case '\f':
+                chars[count++] = '\\';
+                chars[count++] = 'f';
+                return;
+            case '<':
+            case '>':
+            case '&':
+            case '=':
+            case '\'':
+                // The html characters escaped by the default Gson.
+                appendUnicodeEscaped(c);
+                return;
+            default:
+                if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                    appendUnicodeEscaped(c);
+                } else {
+                    chars[count++] = c;
+                }
+        }
+    }
+
+    /**
+     * Append a char as a unicode escape sequence of a json string.
+     * The capacity must be ensured by the caller.
+     *
+     * @param c the char.
+     */
+    private void appendUnicodeEscaped(char c) {
+        chars[count++] = '\\';
+        chars[count++] = 'u';
+        chars[count++] = HEX_DIGITS[(c >> 12) & 0xF];
+        chars[count++] = HEX_DIGITS[(c >> 8) & 0xF];
+        chars[count++] = HEX_DIGITS[(c >> 4) & 0xF];
+        chars[count++] = HEX_DIGITS[c & 0xF];
+    }
+
+    /**
+     * Flush the buffered chars into the appendable in the streaming mode.
+     *
+     * @throws IOException if the appendable cannot be appended.
+     */
+    void flush() throws IOException {
+        if (Objects.nonNull(appendable) && count > 0) {
+            appendable.append(CharBuffer.wrap(chars, 0, count));
+            count = 0;
+        }
+    }
+
+    /**
+     * Get the printed content in the growing mode.
+     *
+     * @return the printed content.
+     */
+    @Override
+    public String toString() {
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * Ensure the capacity for the next chars, by flushing
+     * the chunk in the streaming mode or by growing the
+     * chars in the growing mode.
+     *
+     * @param length the length of the next chars.
+     * @throws IOException if the chunk cannot be flushed.
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (count + length <= chars.length) {
+            return;
+        }
+        if (Objects.nonNull(appendable)) {
+            flush();
+            return;
+        }
+        long capacity = Math.max((long) chars.length << 1, (long) count + length);
+        if (capacity > MAX_CAPACITY) {
+            if ((long) count + length > MAX_CAPACITY) {
+                throw new OutOfMemoryError("The printed content is too large.");
+            }
+            capacity = MAX_CAPACITY;
+        }
+        chars = Arrays.copyOf(chars, (int) capacity);
+    }
+
+    /**
+     * Get the decimal digit count of a non-negative int.
+     *
+     * @param value the non-negative int value.
+     * @return the digit count.
+     */
+    private static int digitCount(int value) {
+        int digits = 1;
+        for (int bound = 10; digits < 10 && value >= bound; bound *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Get the decimal digit count of a long without the sign.
+     *
+     * @param value the long value.
+     * @return the digit count.
+     */
+    private static int digitCount(long value) {
+        int digits = 1;
+        // Count on the negative value, so that Long.MIN_VALUE does not overflow.
+        for (long negative = value < 0 ? value : -value; negative <= -10; negative /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer.builtin;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * <p>Base2DArrayPrintingStrategy is an abstract printing
+ * strategy for the 2D arrays, which prints each row by
+ * the printing strategy of the row type.</p>
+ *
+ * @author Jidcoo
+ * @see BaseArrayPrintingStrategy
+ * @since 1.1
+ */
+abstract class Base2DArrayPrintingStrategy<Row> extends BaseArrayPrintingStrategy<Row[]> {
+
+    /**
+     * The printing strategy of the row type.
+     */
+    private final BaseArrayPrintingStrategy<Row> rowPrintingStrategy;
+
+    /**
+     * Create a Base2DArrayPrintingStrategy instance.
+     *
+     * @param rowPrintingStrategy the printing strategy of the row type.
+     */
+    Base2DArrayPrintingStrategy(BaseArrayPrintingStrategy<Row> rowPrintingStrategy) {
+        this.rowPrintingStrategy = rowPrintingStrategy;
+    }
+
+    @Override
+    final void print(Row[] array, ArrayPrintingBuffer buffer) throws IOException {
+        buffer.append('[');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            if (Objects.isNull(array[i])) {
+                buffer.append("null");
+            } else {
+                rowPrintingStrategy.print(array[i], buffer);
+            }
+        }
+        buffer.append(']');
+    }
+
+    @Override
+    final long estimateLength(Row[] array) {
+        long length = array.length + 2L;
+        for (Row row : array) {
+            length += Objects.isNull(row) ? 4 : rowPrintingStrategy.estimateLength(row);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer.builtin;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.BasePrintingStrategy;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>BaseArrayPrintingStrategy is an abstract printing
+ * strategy for the primitive arrays and the {@link String}
+ * arrays.</p>
+ *
+ * <p>It prints the array elements into an {@link ArrayPrintingBuffer}
+ * without boxing them, instead of printing the array by the
+ * reflective Gson. The printed content is the same as the
+ * Leetcode format, e.g. {@code [1,2,3]} and {@code ["a","b"]}.</p>
+ *
+ * @author Jidcoo
+ * @see BasePrintingStrategy
+ * @see ArrayPrintingBuffer
+ * @since 1.1
+ */
+abstract class BaseArrayPrintingStrategy<Output> extends BasePrintingStrategy<Output> {
+
+    /**
+     * Print the output.
+     *
+     * @param array         the output array.
+     * @param strategiesMap the strategies map that can be used during this printing process.
+     * @return the printed string content.
+     */
+    @Override
+    protected final String printOutput(Output array, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap) {
+        if (Objects.isNull(array)) {
+            return "null";
+        }
+        ArrayPrintingBuffer buffer = new ArrayPrintingBuffer(estimateLength(array));
+        try {
+            print(array, buffer);
+        } catch (IOException e) {
+            // Never happen in the growing mode.
+            throw new RuntimeException(e);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Print the output into the appendable in streaming mode.
+     *
+     * @param array         the output array.
+     * @param appendable    the appendable.
+     * @param strategiesMap the strategies map that can be used during this printing process.
+     * @throws IOException if the appendable cannot be appended.
+     */
+    @Override
+    protected final void printOutput(Output array, Appendable appendable,
+                                     Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap) throws IOException {
+        ArrayPrintingBuffer buffer = new ArrayPrintingBuffer(appendable);
+        if (Objects.isNull(array)) {
+            buffer.append("null");
+        } else {
+            print(array, buffer);
+        }
+        buffer.flush();
+    }
+
+    /**
+     * Print the non-null array into the buffer.
+     *
+     * @param array  the non-null array.
+     * @param buffer the buffer.
+     * @throws IOException if the buffer cannot be flushed.
+     */
+    abstract void print(Output array, ArrayPrintingBuffer buffer) throws IOException;
+
+    /**
+     * Estimate the printed length of the non-null array
+     * to pre-size the buffer.
+     *
+     * @param array the non-null array.
+     * @return the estimated printed length.
+     */
+    abstract long estimateLength(Output array);
+
+    /**
+     * Get the order of the object.
+     *
+     * @return the int order of the object.
+     */
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 
+
 package io.github.jidcoo.opto.lcdb.enhancer.core.printer.builtin;
 
 import io.github.jidcoo.opto.lcdb.enhancer.base.BasePrintingStrategy;
@@ -21,6 +22,7 @@ import io.github.jidcoo.opto.lcdb.enhancer.base.Strategizable;
 import io.github.jidcoo.opto.lcdb.enhancer.base.struct.TreeNode;
 
 import javax.annotation.Resource;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -28,6 +30,13 @@ import java.util.*;
  * printing strategy used to print {@link TreeNode}
  * type output.</p>
  *
+ * <p>The tree is printed level by level in a single pass.
+ * The null children are counted instead of being collected,
+ * and only written when a node follows them, so the trailing
+ * nulls are never materialized. A cyclic tree is detected
+ * before printing, and printed as {@value #CYCLE_ERROR}
+ * instead of hanging.</p>
+ *
  * @author Jidcoo
  * @see BasePrintingStrategy
  * @see TreeNode
@@ -36,6 +45,17 @@ import java.util.*;
 @Resource
 public final class BinaryTreePrintingStrategy extends BasePrintingStrategy<TreeNode> {
 
+    /**
+     * The printed content of a cyclic tree.
+     */
+    private static final String CYCLE_ERROR = "Error - Found cycle in the TreeNode";
+
+    /**
+     * The node count limit of the cheap traversal in the cycle check.
+     * A tree expanded within this limit cannot have a cycle.
+     */
+    private static final int TRAVERSAL_LIMIT = 1 << 20;
+
     /**
      * Print the output.
      *
@@ -50,45 +70,168 @@ public final class BinaryTreePrintingStrategy extends BasePrintingStrategy<TreeN
      */
     @Override
     protected String printOutput(TreeNode treeNode, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap) {
-        StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append("[");
-        if (Objects.nonNull(treeNode)) {
-            List<Integer> valList = new ArrayList<>();
-            Queue<TreeNode> treeNodeQueue = new LinkedList<>();
-            treeNodeQueue.add(treeNode);
+        ArrayPrintingBuffer buffer = new ArrayPrintingBuffer(64);
+        try {
+            print(treeNode, buffer);
+        } catch (IOException e) {
+            // Never happen in the growing mode.
+            throw new RuntimeException(e);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Print the output into the appendable in streaming mode.
+     *
+     * @param treeNode      the output.
+     * @param appendable    the appendable.
+     * @param strategiesMap the strategies map that can be used during this printing process.
+     * @throws IOException if the appendable cannot be appended.
+     */
+    @Override
+    protected void printOutput(TreeNode treeNode, Appendable appendable,
+                               Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap) throws IOException {
+        ArrayPrintingBuffer buffer = new ArrayPrintingBuffer(appendable);
+        print(treeNode, buffer);
+        buffer.flush();
+    }
 
+    /**
+     * Print the tree into the buffer level by level in a single pass.
+     *
+     * @param treeNode the tree root.
+     * @param buffer   the buffer.
+     * @throws IOException if the buffer cannot be flushed.
+     */
+    private static void print(TreeNode treeNode, ArrayPrintingBuffer buffer) throws IOException {
+        if (hasCycle(treeNode)) {
+            buffer.append(CYCLE_ERROR);
+            return;
+        }
+        buffer.append('[');
+        if (Objects.nonNull(treeNode)) {
+            Deque<TreeNode> treeNodeQueue = new ArrayDeque<>();
+            treeNodeQueue.offer(treeNode);
+            buffer.append(treeNode.val);
+            // The count of the null children not written yet.
+            int pendingNulls = 0;
             while (!treeNodeQueue.isEmpty()) {
-                int nodeSize = treeNodeQueue.size();
-                while (nodeSize > 0) {
-                    TreeNode curNode = treeNodeQueue.poll();
-                    if (Objects.nonNull(curNode)) {
-                        valList.add(curNode.val);
-                        treeNodeQueue.offer(curNode.left);
-                        treeNodeQueue.offer(curNode.right);
-                    } else {
-                        valList.add(null);
-                    }
-                    --nodeSize;
-                }
+                TreeNode curNode = treeNodeQueue.poll();
+                pendingNulls = printChild(curNode.left, pendingNulls, treeNodeQueue, buffer);
+                pendingNulls = printChild(curNode.right, pendingNulls, treeNodeQueue, buffer);
             }
+        }
+        buffer.append(']');
+    }
 
-            int treeNodeSize = valList.size() - 1;
-            for (; treeNodeSize >= 0; --treeNodeSize) {
-                if (Objects.nonNull(valList.get(treeNodeSize))) {
-                    break;
-                }
+    /**
+     * Print a child and enqueue it, or count it
+     * as a pending null if it's null.
+     *
+     * @param child         the child.
+     * @param pendingNulls  the count of the null children not written yet.
+     * @param treeNodeQueue the queue of the printed nodes.
+     * @param buffer        the buffer.
+     * @return the count of the null children not written yet.
+     * @throws IOException if the buffer cannot be flushed.
+     */
+    private static int printChild(TreeNode child, int pendingNulls, Deque<TreeNode> treeNodeQueue,
+                                  ArrayPrintingBuffer buffer) throws IOException {
+        if (Objects.isNull(child)) {
+            return pendingNulls + 1;
+        }
+        for (; pendingNulls > 0; --pendingNulls) {
+            buffer.append(",null");
+        }
+        buffer.append(',');
+        buffer.append(child.val);
+        treeNodeQueue.offer(child);
+        return 0;
+    }
+
+    /**
+     * Check if the tree has a cycle, i.e. a node is
+     * its own ancestor.
+     *
+     * <p>A cyclic tree expands infinitely, so a tree expanded
+     * within {@value #TRAVERSAL_LIMIT} nodes is acyclic. Only
+     * a larger tree is checked by an iterative depth-first
+     * search over the visited nodes by identity.</p>
+     *
+     * <p>A node shared by several parents is not a cycle,
+     * and it will be printed at each of its positions.</p>
+     *
+     * @param treeNode the tree root.
+     * @return true if the tree has a cycle.
+     */
+    private static boolean hasCycle(TreeNode treeNode) {
+        if (Objects.isNull(treeNode) || isExpandedWithinLimit(treeNode)) {
+            return false;
+        }
+        // The value is false if the node is on the current path, or true if the node is finished.
+        Map<TreeNode, Boolean> finished = new IdentityHashMap<>();
+        Deque<TreeNode> stack = new ArrayDeque<>();
+        stack.push(treeNode);
+        while (!stack.isEmpty()) {
+            TreeNode curNode = stack.peek();
+            if (finished.containsKey(curNode)) {
+                // All descendants of the node are finished.
+                stack.pop();
+                finished.put(curNode, true);
+                continue;
+            }
+            finished.put(curNode, false);
+            if (!pushChild(curNode.right, finished, stack) || !pushChild(curNode.left, finished, stack)) {
+                return true;
             }
-            treeNodeSize++;
+        }
+        return false;
+    }
 
-            for (int i = 0; i < treeNodeSize; ++i) {
-                if (i > 0) {
-                    stringBuilder.append(",");
-                }
-                stringBuilder.append(valList.get(i));
+    /**
+     * Check if the tree is expanded within {@value #TRAVERSAL_LIMIT} nodes.
+     *
+     * @param treeNode the tree root.
+     * @return true if the tree is expanded within the limit.
+     */
+    private static boolean isExpandedWithinLimit(TreeNode treeNode) {
+        Deque<TreeNode> stack = new ArrayDeque<>();
+        stack.push(treeNode);
+        for (int count = 1; !stack.isEmpty(); ) {
+            TreeNode curNode = stack.pop();
+            if (Objects.nonNull(curNode.left)) {
+                stack.push(curNode.left);
+                count++;
             }
+            if (Objects.nonNull(curNode.right)) {
+                stack.push(curNode.right);
+                count++;
+            }
+            if (count > TRAVERSAL_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Push a non-null unvisited child to the stack.
+     *
+     * @param child    the child.
+     * @param finished the visited nodes.
+     * @param stack    the stack.
+     * @return false if the child is on the current path.
+     */
+    private static boolean pushChild(TreeNode child, Map<TreeNode, Boolean> finished, Deque<TreeNode> stack) {
+        if (Objects.isNull(child)) {
+            return true;
+        }
+        Boolean childFinished = finished.get(child);
+        if (Objects.isNull(childFinished)) {
+            stack.push(child);
+            return true;
         }
-        stringBuilder.append("]");
-        return stringBuilder.toString();
+        return childFinished;
     }
 
     /**
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.printer.builtin;
+
+import javax.annotation.Resource;
+
+/**
+ * <p>Char2DArrayPrintingStrategy is an output
+ * printing strategy used to print {@code char[][]}
+ * type output.</p>
+ *
+ * @author Jidcoo
+ * @see Base2DArrayPrintingStrategy
+ * @since 1.1
+ */
+@Resource
+public final class Char2DArrayPrintingStrategy extends Base2DArrayPrintingStrategy<char[]> {
+
+    /**
+     * Create a Char2DArrayPrintingStrategy instance.
+     */
+    public Char2DArrayPrintingStrategy() {
+        super(new CharArrayPrintingStrategy());
+    }
+
+    /**
+     * Get the acceptable type.
+     *
+     * @return the acceptable type.
+     */
+    @Override
+    public Class<? extends char[][]> getAcceptableType() {
+        return char[][].class;
+    }
+}
@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 
+
 package io.github.jidcoo.opto.lcdb.enhancer.core.printer.builtin;
 
 import io.github.jidcoo.opto.lcdb.enhancer.base.BasePrintingStrategy;
@@ -21,7 +22,9 @@ import io.github.jidcoo.opto.lcdb.enhancer.base.Strategizable;
 import io.github.jidcoo.opto.lcdb.enhancer.base.struct.ListNode;
 
 import javax.annotation.Resource;
+import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -29,6 +32,10 @@ import java.util.Set;
  * printing strategy used to print {@link ListNode}
  * type output.</p>
  *
+ * <p>A cyclic list is detected by the Floyd's algorithm
+ * before printing, and printed as {@value #CYCLE_ERROR}
+ * instead of hanging.</p>
+ *
  * @author Jidcoo
  * @see BasePrintingStrategy
  * @see ListNode
@@ -37,6 +44,11 @@ import java.util.Set;
 @Resource
 public final class SinglyLinkedListPrintingStrategy extends BasePrintingStrategy<ListNode> {
 
+    /**
+     * The printed content of a cyclic list.
+     */
+    private static final String CYCLE_ERROR = "Error - Found cycle in the ListNode";
+
     /**
      * Print the output.
      *
@@ -51,17 +63,71 @@ public final class SinglyLinkedListPrintingStrategy extends BasePrintingStrategy
      */
     @Override
     protected String printOutput(ListNode node, Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap) {
-        StringBuilder stringBuilder = new StringBuilder("[");
-        ListNode pointer = node;
-        while (pointer != null) {
-            stringBuilder.append(pointer.val);
-            stringBuilder.append(",");
-            pointer = pointer.next;
+        ArrayPrintingBuffer buffer = new ArrayPrintingBuffer(64);
+        try {
+            print(node, buffer);
+        } catch (IOException e) {
+            // Never happen in the growing mode.
+            throw new RuntimeException(e);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Print the output into the appendable in streaming mode.
+     *
+     * @param node          the output.
+     * @param appendable    the appendable.
+     * @param strategiesMap the strategies map that can be used during this printing process.
+     * @throws IOException if the appendable cannot be appended.
+     */
+    @Override
+    protected void printOutput(ListNode node, Appendable appendable,
+                               Map<Class<?>, Set<BasePrintingStrategy<?>>> strategiesMap) throws IOException {
+        ArrayPrintingBuffer buffer = new ArrayPrintingBuffer(appendable);
+        print(node, buffer);
+        buffer.flush();
+    }
+
+    /**
+     * Print the list into the buffer in a single pass.
+     *
+     * @param node   the list head.
+     * @param buffer the buffer.
+     * @throws IOException if the buffer cannot be flushed.
+     */
+    private static void print(ListNode node, ArrayPrintingBuffer buffer) throws IOException {
+        if (hasCycle(node)) {
+            buffer.append(CYCLE_ERROR);
+            return;
+        }
+        buffer.append('[');
+        for (ListNode pointer = node; Objects.nonNull(pointer); pointer = pointer.next) {
+            if (pointer != node) {
+                buffer.append(',');
+            }
+            buffer.append(pointer.val);
+        }
+        buffer.append(']');
+    }
+
+    /**
+     * Check if the list has a cycle by the Floyd's algorithm.
+     *
+     * @param node the list head.
+     * @return true if the list has a cycle.
+     */
+    private static boolean hasCycle(ListNode node) {
+        ListNode slow = node;
+        ListNode fast = node;
+        while (Objects.nonNull(fast) && Objects.nonNull(fast.next)) {
+            slow = slow.next;
+            fast = fast.next.next;
+            if (slow == fast) {
+                return true;
+            }
         }
-        if (stringBuilder.charAt(stringBuilder.length() - 1) == ',')
-            stringBuilder.deleteCharAt(stringBuilder.length() - 1);
-        stringBuilder.append("]");
-        return stringBuilder.toString();
+        return false;
     }
 
     /**
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.strategy;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.Order;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * <p>FrozenStrategySet is an immutable strategy set
+ * backed by an array sorted by {@code getOrder()}
+ * in descending order.</p>
+ *
+ * <p>Unlike a {@link java.util.TreeSet} ordered by the
+ * priority, FrozenStrategySet keeps the strategies with
+ * the same order in their registration order instead of
+ * dropping them. All mutating methods throw the
+ * {@link UnsupportedOperationException}, so the set can
+ * be shared by concurrent readers safely.</p>
+ *
+ * @author Jidcoo
+ * @see StrategyRegistry
+ * @since 1.1
+ */
+final class FrozenStrategySet<Strategy extends Order> extends AbstractSet<Strategy> {
+
+    /**
+     * The sorted strategies.
+     */
+    private final Strategy[] strategies;
+
+    /**
+     * Create a FrozenStrategySet instance.
+     *
+     * @param strategies the distinct strategies in registration order.
+     */
+    @SuppressWarnings("unchecked")
+    FrozenStrategySet(List<Strategy> strategies) {
+        Strategy[] sorted = (Strategy[]) strategies.toArray(new Order[0]);
+        // The sort is stable, so the strategies with the same order keep their registration order.
+        Arrays.sort(sorted, (a, b) -> Integer.compare(b.getOrder(), a.getOrder()));
+        this.strategies = sorted;
+    }
+
+    /**
+     * Returns an iterator over the strategies in the priority order.
+     *
+     * @return the iterator that does not support the removal.
+     */
+    @Override
+    public Iterator<Strategy> iterator() {
+        return Arrays.asList(strategies).iterator();
+    }
+
+    /**
+     * Returns the number of the strategies.
+     *
+     * @return the number of the strategies.
+     */
+    @Override
+    public int size() {
+        return strategies.length;
+    }
+
+    /**
+     * Check if the set contains the strategy instance.
+     *
+     * @param object the strategy instance.
+     * @return true if the set contains the same instance.
+     */
+    @Override
+    public boolean contains(Object object) {
+        for (Strategy strategy : strategies) {
+            if (strategy == object) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.strategy;
+
+import io.github.jidcoo.opto.lcdb.enhancer.base.BaseParameterAcceptStrategy;
+import io.github.jidcoo.opto.lcdb.enhancer.base.BasePrintingStrategy;
+import io.github.jidcoo.opto.lcdb.enhancer.base.Order;
+import io.github.jidcoo.opto.lcdb.enhancer.base.Strategizable;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.BeanUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ContainerCheckUtil;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.ReflectUtil;
+
+import javax.annotation.Resource;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * <p>StrategyRegistry is an immutable registry of the
+ * parameter acceptance strategies and the printing
+ * strategies.</p>
+ *
+ * <p>The builtin strategies are scanned and registered only
+ * once per JVM by {@link #getBuiltinRegistry()}. A registry
+ * with the user strategies is derived from the builtin one
+ * by {@link #derive(List, List)} without scanning again.</p>
+ *
+ * <p>Each strategy map is unmodifiable. Its key is the acceptable
+ * type of the strategies, and its value is a frozen set sorted
+ * by {@code getOrder()} in descending order. The strategies with
+ * the same order are kept in the registration order, i.e. the
+ * builtin strategies go before the user strategies. So a registry
+ * can be shared by concurrent parsers and printers without
+ * locking.</p>
+ *
+ * @author Jidcoo
+ * @see StrategyRegistryFactory
+ * @see BaseParameterAcceptStrategy
+ * @see BasePrintingStrategy
+ * @since 1.1
+ */
+public final class StrategyRegistry {
+
+    /**
+     * Built-in parameter acceptance strategy set package location.
+     */
+    private static final String BUILT_IN_PARAMETER_ACCEPTANCE_STRATEGY_PACKAGE = "io.github.jidcoo.opto.lcdb.enhancer.core.parser.builtin";
+
+    /**
+     * Built-in printing strategy set package location.
+     */
+    private static final String BUILT_IN_PRINTING_STRATEGY_PACKAGE = "io.github.jidcoo.opto.lcdb.enhancer.core.printer.builtin";
+
+    /**
+     * The registered parameter acceptance strategies in registration order.
+     */
+    private final List<BaseParameterAcceptStrategy<?>> parameterAcceptStrategies;
+
+    /**
+     * The registered printing strategies in registration order.
+     */
+    private final List<BasePrintingStrategy<?>> printingStrategies;
+
+    /**
+     * The frozen parameter acceptance strategy map.
+     */
+    private final Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> parameterAcceptStrategyMap;
+
+    /**
+     * The frozen printing strategy map.
+     */
+    private final Map<Class<?>, Set<BasePrintingStrategy<?>>> printingStrategyMap;
+
+    /**
+     * Create a StrategyRegistry instance.
+     *
+     * @param parameterAcceptStrategies the parameter acceptance strategies in registration order.
+     * @param printingStrategies        the printing strategies in registration order.
+     */
+    private StrategyRegistry(List<BaseParameterAcceptStrategy<?>> parameterAcceptStrategies,
+                             List<BasePrintingStrategy<?>> printingStrategies) {
+        this.parameterAcceptStrategies = Collections.unmodifiableList(parameterAcceptStrategies);
+        this.printingStrategies = Collections.unmodifiableList(printingStrategies);
+        this.parameterAcceptStrategyMap = freeze(parameterAcceptStrategies);
+        this.printingStrategyMap = freeze(printingStrategies);
+    }
+
+    /**
+     * Get the builtin StrategyRegistry instance shared in the JVM.
+     *
+     * @return the builtin StrategyRegistry instance.
+     */
+    static StrategyRegistry getBuiltinRegistry() {
+        return BuiltinRegistryHolder.INSTANCE;
+    }
+
+    /**
+     * Derive a new StrategyRegistry instance with the user strategies
+     * registered after the strategies of this registry.
+     *
+     * @param userParameterAcceptStrategies the user parameter acceptance strategies, or null.
+     * @param userPrintingStrategies        the user printing strategies, or null.
+     * @return the derived StrategyRegistry instance, or this registry if
+     *         there is no user strategy.
+     */
+    StrategyRegistry derive(List<BaseParameterAcceptStrategy<?>> userParameterAcceptStrategies,
+                            List<BasePrintingStrategy<?>> userPrintingStrategies) {
+        if (ContainerCheckUtil.isListEmpty(userParameterAcceptStrategies)
+                && ContainerCheckUtil.isListEmpty(userPrintingStrategies)) {
+            return this;
+        }
+        return new StrategyRegistry(concat(parameterAcceptStrategies, userParameterAcceptStrategies),
+                concat(printingStrategies, userPrintingStrategies));
+    }
+
+    /**
+     * Get the frozen parameter acceptance strategy map.
+     *
+     * @return the unmodifiable parameter acceptance strategy map.
+     */
+    public Map<Class<?>, Set<BaseParameterAcceptStrategy<?>>> getParameterAcceptStrategyMap() {
+        return parameterAcceptStrategyMap;
+    }
+
+    /**
+     * Get the frozen printing strategy map.
+     *
+     * @return the unmodifiable printing strategy map.
+     */
+    public Map<Class<?>, Set<BasePrintingStrategy<?>>> getPrintingStrategyMap() {
+        return printingStrategyMap;
+    }
+
+    /**
+     * Extend a frozen strategy map with a strategy registered
+     * after the existing strategies of the specified types.
+     *
+     * @param strategyMap the frozen strategy map.
+     * @param strategy    the strategy.
+     * @param types       the types to which the strategy applies.
+     * @return the extended unmodifiable strategy map.
+     */
+    public static <Strategy extends Order> Map<Class<?>, Set<Strategy>> extend(Map<Class<?>, Set<Strategy>> strategyMap,
+                                                                              Strategy strategy, Class<?>... types) {
+        AssertUtil.nonNull(strategyMap, "The strategy map cannot be null.");
+        AssertUtil.nonNull(strategy, "The strategy cannot be null.");
+        Map<Class<?>, Set<Strategy>> extendedMap = new HashMap<>(strategyMap);
+        for (Class<?> type : types) {
+            AssertUtil.nonNull(type, "The type of the " + strategy + " cannot be null.");
+            List<Strategy> strategies = new ArrayList<>(strategyMap.getOrDefault(type, Collections.emptySet()));
+            if (!containsInstance(strategies, strategy)) {
+                strategies.add(strategy);
+            }
+            extendedMap.put(type, new FrozenStrategySet<>(strategies));
+        }
+        return Collections.unmodifiableMap(extendedMap);
+    }
+
+    /**
+     * Freeze the strategies to an unmodifiable strategy map.
+     *
+     * @param strategies the strategies in registration order.
+     * @return the unmodifiable strategy map.
+     */
+    private static <Strategy extends Strategizable<?, ?, ?>> Map<Class<?>, Set<Strategy>> freeze(List<Strategy> strategies) {
+        // Group the distinct strategies by the acceptable type in registration order.
+        Map<Class<?>, List<Strategy>> groupedStrategies = new HashMap<>();
+        for (Strategy strategy : strategies) {
+            AssertUtil.nonNull(strategy, "The strategy cannot be null.");
+            Class<?> type = strategy.getAcceptableType();
+            AssertUtil.nonNull(type, "The type of the " + strategy + " cannot be null.");
+            List<Strategy> group = groupedStrategies.computeIfAbsent(type, key -> new ArrayList<>());
+            if (!containsInstance(group, strategy)) {
+                group.add(strategy);
+            }
+        }
+        Map<Class<?>, Set<Strategy>> strategyMap = new HashMap<>(groupedStrategies.size() * 2);
+        groupedStrategies.forEach((type, group) -> strategyMap.put(type, new FrozenStrategySet<>(group)));
+        return Collections.unmodifiableMap(strategyMap);
+    }
+
+    /**
+     * Check if the list contains the instance.
+     *
+     * @param list     the list.
+     * @param instance the instance.
+     * @return true if the list contains the same instance.
+     */
+    private static boolean containsInstance(List<?> list, Object instance) {
+        for (Object element : list) {
+            if (element == instance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Concatenate the registered strategies and the user strategies.
+     *
+     * @param strategies     the registered strategies.
+     * @param userStrategies the user strategies, or null.
+     * @return the concatenated strategies without the null strategies.
+     */
+    private static <Strategy> List<Strategy> concat(List<Strategy> strategies, List<Strategy> userStrategies) {
+        List<Strategy> concatenated = new ArrayList<>(strategies);
+        if (!ContainerCheckUtil.isListEmpty(userStrategies)) {
+            userStrategies.stream().filter(Objects::nonNull).forEach(concatenated::add);
+        }
+        return concatenated;
+    }
+
+    /**
+     * Collect the builtin strategies of the {@link Resource} classes
+     * under the package.
+     *
+     * @param type        the strategy type.
+     * @param packageName the package name.
+     * @return the builtin strategies.
+     */
+    private static <Strategy> List<Strategy> collectBuiltinStrategies(Class<Strategy> type, String packageName) {
+        return BeanUtil.collectResourceBeans(type, packageName,
+                (Class clazz) -> clazz.isAnnotationPresent(Resource.class)
+                        && ReflectUtil.isExtendsClass(clazz, type)
+                        && !Modifier.isAbstract(clazz.getModifiers()),
+                (Class<? extends Strategy> beanType) -> ReflectUtil.createInstance(beanType))
+                .stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * The holder of the builtin StrategyRegistry instance, which
+     * is created lazily and published safely by the class loading.
+     */
+    private static final class BuiltinRegistryHolder {
+
+        /**
+         * The builtin StrategyRegistry instance.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static final StrategyRegistry INSTANCE = new StrategyRegistry(
+                (List) collectBuiltinStrategies(BaseParameterAcceptStrategy.class,
+                        BUILT_IN_PARAMETER_ACCEPTANCE_STRATEGY_PACKAGE),
+                (List) collectBuiltinStrategies(BasePrintingStrategy.class, BUILT_IN_PRINTING_STRATEGY_PACKAGE));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.jidcoo.opto.lcdb.enhancer.core.strategy;
+
+import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
+import io.github.jidcoo.opto.lcdb.enhancer.utils.AssertUtil;
+
+/**
+ * <p>StrategyRegistryFactory is a factory class
+ * to product the {@link StrategyRegistry} instance.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+public final class StrategyRegistryFactory {
+
+    /**
+     * Product a StrategyRegistry instance by
+     * {@link LeetcodeJavaDebugEnhancer} instance.
+     *
+     * <p>The builtin StrategyRegistry instance shared in the JVM is
+     * returned if the enhancer has no user strategy.</p>
+     *
+     * @param enhancer the LeetcodeJavaDebugEnhancer instance.
+     * @return the StrategyRegistry instance.
+     */
+    public static StrategyRegistry getStrategyRegistry(LeetcodeJavaDebugEnhancer enhancer) {
+        AssertUtil.nonNull(enhancer, "The enhancer cannot be null.");
+        return StrategyRegistry.getBuiltinRegistry().derive(enhancer.getParameterAcceptStrategies(),
+                enhancer.getOutputPrintStrategies());
+    }
+}
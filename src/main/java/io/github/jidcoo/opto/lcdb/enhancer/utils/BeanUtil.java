@@ -16,6 +16,7 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.utils;
 
+import javax.annotation.Resource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
@@ -46,9 +47,43 @@ public class BeanUtil {
         AssertUtil.isTrue(!StringUtil.isBlank(packageName), "The beans package name cannot be blank.");
         AssertUtil.nonNull(classFilter, "The class filter cannot be null.");
         AssertUtil.nonNull(beanCreator, "The bean creator cannot be null.");
-        List<Class<?>> classesByPackage = PackageUtil.getClassesByPackage(packageName);
-        if (!ContainerCheckUtil.isListEmpty(classesByPackage)) {
-            return classesByPackage.stream().filter(klass -> classFilter.apply(klass)).map(klass -> beanCreator.apply((Class<? extends T>) klass)).collect(Collectors.toList());
+        return createBeans(PackageUtil.getClassesByPackage(packageName), classFilter, beanCreator);
+    }
+
+    /**
+     * Collect beans of the {@link Resource} classes with specified
+     * conditions under the specified package. The classes are
+     * loaded by {@link PackageUtil#getResourceClassesByPackage(String)}.
+     *
+     * @param type        the bean type.
+     * @param packageName the specified package name.
+     * @param classFilter the class type filter.
+     * @param beanCreator the bean creator.
+     * @return the bean list.
+     * @since 1.1
+     */
+    public static <T> List<T> collectResourceBeans(Class<? extends T> type, String packageName,
+                                                   Function<Class, Boolean> classFilter,
+                                                   Function<Class<? extends T>, T> beanCreator) {
+        AssertUtil.nonNull(type, "The bean type cannot be null.");
+        AssertUtil.isTrue(!StringUtil.isBlank(packageName), "The beans package name cannot be blank.");
+        AssertUtil.nonNull(classFilter, "The class filter cannot be null.");
+        AssertUtil.nonNull(beanCreator, "The bean creator cannot be null.");
+        return createBeans(PackageUtil.getResourceClassesByPackage(packageName), classFilter, beanCreator);
+    }
+
+    /**
+     * Create beans of the classes with specified conditions.
+     *
+     * @param classes     the classes.
+     * @param classFilter the class type filter.
+     * @param beanCreator the bean creator.
+     * @return the bean list.
+     */
+    private static <T> List<T> createBeans(List<Class<?>> classes, Function<Class, Boolean> classFilter,
+                                           Function<Class<? extends T>, T> beanCreator) {
+        if (!ContainerCheckUtil.isListEmpty(classes)) {
+            return classes.stream().filter(klass -> classFilter.apply(klass)).map(klass -> beanCreator.apply((Class<? extends T>) klass)).collect(Collectors.toList());
         }
         return new ArrayList<>();
     }
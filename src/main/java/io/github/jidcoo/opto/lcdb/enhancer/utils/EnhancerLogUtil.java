@@ -18,17 +18,34 @@ package io.github.jidcoo.opto.lcdb.enhancer.utils;
 
 import java.io.PrintStream;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * A common logger util for log output.
  *
+ * <p>The messages are formatted only if their level is
+ * loggable, so a disabled log costs only a level check.
+ * Use the {@link Supplier} methods for the messages that
+ * are expensive to build, e.g. a large report.</p>
+ *
  * @author Jidcoo
  * @since 1.0
  */
 public class EnhancerLogUtil {
 
+    /**
+     * Check if the log level is loggable.
+     *
+     * @param level log level.
+     * @return true if the log level is loggable.
+     * @since 1.1
+     */
+    public static boolean isLoggable(Level level) {
+        return Logger.getGlobal().isLoggable(level);
+    }
+
     /**
      * Log msg to console.
      *
@@ -36,14 +53,12 @@ public class EnhancerLogUtil {
      * @param msg   message.
      */
     private static void log(Level level, String msg) {
-        if (Logger.getGlobal().isLoggable(level)) {
-            PrintStream printStream = System.out;
-            if (Level.SEVERE.equals(level)) {
-                printStream = System.err;
-            }
-            printStream.println("[" + level + "] " + msg);
-            printStream.flush();
+        PrintStream printStream = System.out;
+        if (Level.SEVERE.equals(level)) {
+            printStream = System.err;
         }
+        printStream.println("[" + level + "] " + msg);
+        printStream.flush();
     }
 
     /**
@@ -53,7 +68,21 @@ public class EnhancerLogUtil {
      * @param args   message args.
      */
     public static void logE(String format, Object... args) {
-        log(Level.SEVERE, String.format(format, args));
+        if (isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, String.format(format, args));
+        }
+    }
+
+    /**
+     * Log ERROR level msg built by the supplier to console.
+     *
+     * @param msgSupplier message supplier, called only if the level is loggable.
+     * @since 1.1
+     */
+    public static void logE(Supplier<String> msgSupplier) {
+        if (isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, msgSupplier.get());
+        }
     }
 
     /**
@@ -63,7 +92,21 @@ public class EnhancerLogUtil {
      * @param args   message args.
      */
     public static void logI(String format, Object... args) {
-        log(Level.INFO, String.format(format, args));
+        if (isLoggable(Level.INFO)) {
+            log(Level.INFO, String.format(format, args));
+        }
+    }
+
+    /**
+     * Log INFO level msg built by the supplier to console.
+     *
+     * @param msgSupplier message supplier, called only if the level is loggable.
+     * @since 1.1
+     */
+    public static void logI(Supplier<String> msgSupplier) {
+        if (isLoggable(Level.INFO)) {
+            log(Level.INFO, msgSupplier.get());
+        }
     }
 
     /**
@@ -73,7 +116,21 @@ public class EnhancerLogUtil {
      * @param args   message args.
      */
     public static void logW(String format, Object... args) {
-        log(Level.WARNING, String.format(format, args));
+        if (isLoggable(Level.WARNING)) {
+            log(Level.WARNING, String.format(format, args));
+        }
+    }
+
+    /**
+     * Log WARN level msg built by the supplier to console.
+     *
+     * @param msgSupplier message supplier, called only if the level is loggable.
+     * @since 1.1
+     */
+    public static void logW(Supplier<String> msgSupplier) {
+        if (isLoggable(Level.WARNING)) {
+            log(Level.WARNING, msgSupplier.get());
+        }
     }
 
     /**
@@ -60,4 +60,15 @@ public class GsonUtil {
     public static String toJson(Object object) {
         return GSON.toJson(object);
     }
+
+    /**
+     * Write the json representation of an object into
+     * the appendable in streaming mode.
+     *
+     * @param object     the object.
+     * @param appendable the appendable.
+     */
+    public static void toJson(Object object, Appendable appendable) {
+        GSON.toJson(object, appendable);
+    }
 }
@@ -16,15 +16,18 @@
 
 package io.github.jidcoo.opto.lcdb.enhancer.utils;
 
+import javax.annotation.Resource;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.InputStreamReader;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLDecoder;
-import java.util.ArrayList;
-import java.util.Enumeration;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 /**
  * A common java package util.
@@ -34,6 +37,83 @@ import java.util.jar.JarFile;
  */
 public class PackageUtil {
 
+    /**
+     * The binary names of the indexed {@link Resource} classes,
+     * or an empty optional if there is no resource index.
+     * Loaded lazily.
+     */
+    private static volatile Optional<List<String>> indexedResourceClassNames;
+
+    /**
+     * <p>Get all {@link Resource} classes from the package,
+     * including its subpackages.</p>
+     *
+     * <p>The classes are loaded from the resource index generated
+     * by the {@link ResourceIndexProcessor} at compile time. Only
+     * if there is no resource index on the classpath, e.g. the
+     * enhancer is compiled without the processor, the classes are
+     * found by scanning the package.</p>
+     *
+     * @param packageName the java package name.
+     * @return the class list.
+     * @since 1.1
+     */
+    public static List<Class<?>> getResourceClassesByPackage(String packageName) {
+        Optional<List<String>> resourceClassNames = getIndexedResourceClassNames();
+        if (!resourceClassNames.isPresent()) {
+            return getClassesByPackage(packageName).stream()
+                    .filter(clazz -> clazz.isAnnotationPresent(Resource.class)).collect(Collectors.toList());
+        }
+        String packagePrefix = packageName + '.';
+        List<Class<?>> classes = new ArrayList<>();
+        try {
+            for (String resourceClassName : resourceClassNames.get()) {
+                if (resourceClassName.startsWith(packagePrefix)) {
+                    classes.add(Class.forName(resourceClassName));
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+        return classes;
+    }
+
+    /**
+     * Get the binary names of the indexed {@link Resource} classes
+     * from all resource indexes on the classpath.
+     *
+     * @return the binary names, or an empty optional if there is no resource index.
+     */
+    private static Optional<List<String>> getIndexedResourceClassNames() {
+        Optional<List<String>> resourceClassNames = indexedResourceClassNames;
+        if (Objects.nonNull(resourceClassNames)) {
+            return resourceClassNames;
+        }
+        Set<String> classNames = new LinkedHashSet<>();
+        boolean indexed = false;
+        try {
+            Enumeration<URL> indexes = Thread.currentThread().getContextClassLoader()
+                    .getResources(ResourceIndexProcessor.RESOURCE_INDEX_LOCATION);
+            while (indexes.hasMoreElements()) {
+                indexed = true;
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                        indexes.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while (Objects.nonNull(line = reader.readLine())) {
+                        if (!StringUtil.isBlank(line)) {
+                            classNames.add(line.trim());
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        resourceClassNames = indexed ? Optional.of(new ArrayList<>(classNames)) : Optional.empty();
+        indexedResourceClassNames = resourceClassNames;
+        return resourceClassNames;
+    }
+
     /**
      * Get all classes from the package.
      *
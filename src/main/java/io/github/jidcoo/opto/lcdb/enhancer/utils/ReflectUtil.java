@@ -21,6 +21,7 @@ import io.github.jidcoo.opto.lcdb.enhancer.LeetcodeJavaDebugEnhancer;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -57,26 +58,61 @@ public class ReflectUtil {
      * @return the Solution instance.
      */
     public static Object resolveSolutionInstance(Object object) {
+        Constructor<?> solutionConstructor = resolveSolutionConstructor(object);
+        try {
+            return solutionConstructor.getParameterCount() > 0 ? solutionConstructor.newInstance(object) :
+                    solutionConstructor.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * <p>Resolve the accessible constructor of the inner
+     * class Solution from the <tt>AT</tt> object.</p>
+     *
+     * <p>The constructor of an inner class Solution takes
+     * the <tt>AT</tt> object as its only parameter, and the
+     * constructor of a static nested class Solution takes
+     * no parameter.</p>
+     *
+     * @param object the <tt>AT</tt> object.
+     * @return the Solution constructor.
+     */
+    public static Constructor<?> resolveSolutionConstructor(Object object) {
+        Class<?> solutionClass = resolveSolutionClass(object);
+        if (Objects.isNull(solutionClass)) {
+            // Sorry, we cannot find any inner class named "Solution".
+            throw new RuntimeException("No inner class Solution found in class: " + object.getClass());
+        }
+        try {
+            Constructor<?> declaredConstructor = Modifier.isStatic(solutionClass.getModifiers()) ?
+                    solutionClass.getDeclaredConstructor() :
+                    solutionClass.getDeclaredConstructor(object.getClass());
+            declaredConstructor.setAccessible(true);
+            return declaredConstructor;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Resolve the inner class Solution from the <tt>AT</tt> object.
+     *
+     * @param object the <tt>AT</tt> object.
+     * @return the Solution class, or null if there is no inner class Solution.
+     */
+    public static Class<?> resolveSolutionClass(Object object) {
         AssertUtil.nonNull(object, "The object cannot be null.");
         AssertUtil.isTrue((object instanceof LeetcodeJavaDebugEnhancer), "The object is not an inherited object from "
                 + "LeetcodeJavaDebugEnhancer");
-        Class<?> __AT__class = object.getClass();
-        Class<?>[] declaredClasses = __AT__class.getDeclaredClasses();
-        for (Class<?> declaredClass : declaredClasses) {
+        for (Class<?> declaredClass : object.getClass().getDeclaredClasses()) {
             // Match the simple name of the class.
             if ("Solution".equals(declaredClass.getSimpleName())) {
-                try {
-                    Constructor<?> declaredConstructor = declaredClass.getDeclaredConstructor(__AT__class);
-                    declaredConstructor.setAccessible(true);
-                    return declaredConstructor.newInstance(object);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
+                return declaredClass;
             }
         }
-
-        // Sorry, we cannot find any inner class named "Solution".
-        throw new RuntimeException("No inner class Solution found in class: " + object.getClass());
+        return null;
     }
 
     /**
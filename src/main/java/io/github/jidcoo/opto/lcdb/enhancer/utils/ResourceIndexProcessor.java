@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2024-2026 Jidcoo(https://github.com/jidcoo).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.jidcoo.opto.lcdb.enhancer.utils;
+
+import javax.annotation.Resource;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * <p>ResourceIndexProcessor is an annotation processor
+ * recording the binary names of all {@link Resource}
+ * classes of the enhancer, i.e. the input parser nodes, the
+ * parameter acceptance strategies and the printing strategies,
+ * into the index {@value #RESOURCE_INDEX_LOCATION} at compile
+ * time.</p>
+ *
+ * <p>{@link PackageUtil#getResourceClassesByPackage(String)}
+ * loads the classes from the index instead of scanning the
+ * classpath at runtime.</p>
+ *
+ * <p>Note: The processor is configured explicitly in the build
+ * of the enhancer, and it's not registered as a service, so it
+ * will not run in the builds depending on the enhancer.</p>
+ *
+ * @author Jidcoo
+ * @since 1.1
+ */
+@SupportedAnnotationTypes("javax.annotation.Resource")
+public final class ResourceIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The classpath location of the resource index.
+     */
+    public static final String RESOURCE_INDEX_LOCATION = "META-INF/leetcode-java-debug-enhancer/resource.index";
+
+    /**
+     * The package prefix of the indexed classes.
+     */
+    private static final String ENHANCER_PACKAGE_PREFIX = "io.github.jidcoo.opto.lcdb.enhancer.";
+
+    /**
+     * The sorted binary names of the indexed classes.
+     */
+    private final Set<String> resourceClassNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Resource.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            String binaryName = processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+            if (binaryName.startsWith(ENHANCER_PACKAGE_PREFIX)) {
+                resourceClassNames.add(binaryName);
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        // Do not claim the @Resource annotation.
+        return false;
+    }
+
+    /**
+     * Write the resource index.
+     */
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    RESOURCE_INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String resourceClassName : resourceClassNames) {
+                    writer.write(resourceClassName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write the resource index " + RESOURCE_INDEX_LOCATION + ": " + e);
+        }
+    }
+}